@@ -13,12 +13,14 @@ CREATE TABLE IF NOT EXISTS chat_session (
     id BIGSERIAL PRIMARY KEY,
     session_id VARCHAR(64) NOT NULL,
     title VARCHAR(500) NOT NULL DEFAULT '새 대화',
+    message_count INT NOT NULL DEFAULT 0,
     created_at TIMESTAMP,
     updated_at TIMESTAMP,
     CONSTRAINT uk_chat_session_session_id UNIQUE (session_id)
 );
 
-CREATE INDEX IF NOT EXISTS idx_chat_session_updated_at ON chat_session (updated_at DESC);
+-- 세션 목록 keyset 페이징: ORDER BY updated_at DESC, id DESC / WHERE (updated_at, id) < (?, ?)
+CREATE INDEX IF NOT EXISTS idx_chat_session_updated_at_id ON chat_session (updated_at DESC, id DESC);
 
 -- 2. 채팅 메시지
 CREATE TABLE IF NOT EXISTS chat_message (
@@ -31,8 +33,31 @@ CREATE TABLE IF NOT EXISTS chat_message (
     CONSTRAINT fk_chat_message_session FOREIGN KEY (chat_session_id) REFERENCES chat_session (id) ON DELETE CASCADE
 );
 
-CREATE INDEX IF NOT EXISTS idx_chat_message_session_id ON chat_message (chat_session_id);
-CREATE INDEX IF NOT EXISTS idx_chat_message_session_order ON chat_message (chat_session_id, sequence_order);
+-- (chat_session_id, sequence_order) 유니크 인덱스가 세션별 조회/정렬을 모두 처리하므로 chat_session_id 단독 인덱스는 두지 않음
+CREATE UNIQUE INDEX IF NOT EXISTS uk_chat_message_session_order ON chat_message (chat_session_id, sequence_order);
 
 COMMENT ON TABLE chat_session IS '채팅 세션 (Redis sessionId와 동일 값 저장)';
 COMMENT ON TABLE chat_message IS '채팅 메시지 (USER/AI)';
+COMMENT ON COLUMN chat_session.message_count IS '저장된 메시지 수 (다음 sequence_order, UPDATE ... RETURNING으로 예약)';
+
+-- ============================================
+-- 기존 테이블 마이그레이션 (message_count 추가 이전에 생성된 경우)
+-- ============================================
+-- 1) 컬럼 추가 및 현재 메시지 수로 채우기
+-- ALTER TABLE chat_session ADD COLUMN IF NOT EXISTS message_count INT NOT NULL DEFAULT 0;
+-- UPDATE chat_session s
+--    SET message_count = COALESCE((SELECT MAX(m.sequence_order) + 1 FROM chat_message m WHERE m.chat_session_id = s.id), 0);
+--
+-- 2) 기존 중복 순서 확인 (결과가 있으면 유니크 인덱스 생성 전에 정리 필요)
+-- SELECT chat_session_id, sequence_order, COUNT(*) FROM chat_message
+--  GROUP BY chat_session_id, sequence_order HAVING COUNT(*) > 1;
+--
+-- 3) 인덱스 교체
+-- CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_chat_message_session_order ON chat_message (chat_session_id, sequence_order);
+-- DROP INDEX CONCURRENTLY IF EXISTS idx_chat_message_session_order;
+-- DROP INDEX CONCURRENTLY IF EXISTS idx_chat_message_session_id;
+--
+-- 4) 세션 목록 keyset 인덱스 교체 (updated_at이 NULL인 행은 목록 맨 앞에 오므로 먼저 채움)
+-- UPDATE chat_session SET updated_at = COALESCE(created_at, now()) WHERE updated_at IS NULL;
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_session_updated_at_id ON chat_session (updated_at DESC, id DESC);
+-- DROP INDEX CONCURRENTLY IF EXISTS idx_chat_session_updated_at;
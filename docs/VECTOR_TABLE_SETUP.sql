@@ -53,7 +53,24 @@ CREATE INDEX IF NOT EXISTS vector_store_metadata_idx
 ON vector_store 
 USING GIN (metadata);
 
--- 6. 테이블 및 인덱스 확인
+-- 6. 정확한 참조 직접 조회용 표현식 인덱스 (선택사항, SearchTool의 예규·판례 번호 / 법령 인용 조회)
+--    조회 조건(->> 표현식)과 같은 식으로 인덱스를 만들어야 사용됨
+--    테이블 이름은 VectorStoreConfig의 vectorTableName(spring_ai_vector_store)에 맞춰 변경
+CREATE INDEX IF NOT EXISTS vector_store_yp_document_number_idx
+ON vector_store ((replace(metadata->>'documentNumber', ' ', '')))
+WHERE metadata->>'documentType' = 'yp';
+
+CREATE INDEX IF NOT EXISTS vector_store_law_article_citation_idx
+ON vector_store ((replace(metadata->>'lawNameKorean', ' ', '')), (metadata->>'articleKoreanString'))
+WHERE metadata->>'documentType' = 'lawArticle';
+
+--    LawArticleCatalog의 법령별 조문 목록(lawId)과 조문 본문 조회(lawId + articleKey)용
+--    (lawId가 앞 열이므로 lawId만 거는 목록 조회도 이 인덱스를 사용)
+CREATE INDEX IF NOT EXISTS vector_store_law_article_key_idx
+ON vector_store ((metadata->>'lawId'), (metadata->>'articleKey'))
+WHERE metadata->>'documentType' = 'lawArticle';
+
+-- 7. 테이블 및 인덱스 확인
 -- \d vector_store
 -- \d+ vector_store_embedding_idx
 
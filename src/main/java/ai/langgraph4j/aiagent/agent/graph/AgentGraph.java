@@ -1,7 +1,11 @@
 package ai.langgraph4j.aiagent.agent.graph;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -9,8 +13,11 @@ import ai.langgraph4j.aiagent.agent.nodes.ConditionalNode;
 import ai.langgraph4j.aiagent.agent.nodes.InputNode;
 import ai.langgraph4j.aiagent.agent.nodes.LlmNode;
 import ai.langgraph4j.aiagent.agent.nodes.ResponseNode;
+import ai.langgraph4j.aiagent.agent.nodes.RetrievalNode;
 import ai.langgraph4j.aiagent.agent.nodes.ToolNode;
 import ai.langgraph4j.aiagent.agent.state.AgentState;
+import ai.langgraph4j.aiagent.service.AgentTracing;
+import ai.langgraph4j.aiagent.service.dto.SearchResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,6 +28,16 @@ import lombok.extern.slf4j.Slf4j;
  * Phase 3: Spring AI Tool 자동 호출
  * Spring AI가 자동으로 Tool을 호출하고 결과를 LLM에 전달하므로,
  * 워크플로우가 단순화되었습니다.
+ * 
+ * agent.graph.mode
+ * - tool-calling (기본값): LLM이 필요하다고 판단할 때 SearchTool을 호출 (LLM → 도구 → LLM 왕복)
+ * - retrieval-first: 입력 처리와 병렬로 하이브리드 검색을 먼저 실행하고 결과를 프롬프트에 넣어
+ *   한 번의 LLM 호출로 답변 (도구는 후속 검색용으로 계속 사용 가능)
+ * 
+ * agent.graph.engine
+ * - sequential (기본값): 아래 노드를 순서대로 직접 호출
+ * - langgraph4j: AgentStateGraph(컴파일된 StateGraph)로 입력 처리, 병렬 검색 브랜치, LLM 호출을 실행하고
+ *   체크포인트를 저장 (항상 사전 검색하므로 agent.graph.mode는 무시)
  */
 @Slf4j
 @Component
@@ -31,10 +48,19 @@ public class AgentGraph {
 	private final LlmNode llmNode;
 	private final ConditionalNode conditionalNode;
 	private final ResponseNode responseNode;
+	private final RetrievalNode retrievalNode;
+	private final AgentStateGraph agentStateGraph;
+	private final AgentTracing agentTracing;
 	// Phase 3: ToolNode는 더 이상 필요하지 않지만, 호환성을 위해 유지
 	@SuppressWarnings("unused")
 	private final ToolNode toolNode;
 
+	@Value("${agent.graph.mode:tool-calling}")
+	private String graphMode;
+
+	@Value("${agent.graph.engine:sequential}")
+	private String graphEngine;
+
 	/**
 	 * 그래프 실행
 	 * 
@@ -60,26 +86,50 @@ public class AgentGraph {
 		
 		AgentState state = initialState;
 		
+		if (isLangGraphEngine()) {
+			state = agentStateGraph.run(state, userInput, null);
+			if (state.getError() != null) {
+				log.warn("AgentGraph: StateGraph 실행 중 에러 발생 - {}", state.getError());
+				return state;
+			}
+			return route(state);
+		}
+		
+		// 0. retrieval-first: 입력 처리와 병렬로 사전 검색 시작
+		CompletableFuture<List<SearchResult>> retrieval = isRetrievalFirst() ? retrievalNode.start(userInput) : null;
+		
 		// 1. InputNode: 사용자 입력 처리
-		state = inputNode.process(state, userInput);
+		state = stage("input", state, s -> inputNode.process(s, userInput));
 		if (state.getError() != null) {
 			log.warn("AgentGraph: InputNode에서 에러 발생 - {}", state.getError());
 			return state;
 		}
 		
+		// 1-1. RetrievalNode: 사전 검색 결과를 프롬프트 컨텍스트로 반영
+		if (retrieval != null) {
+			state = stage("retrieval", state, s -> retrievalNode.process(s, retrieval));
+		}
+		
 		// Phase 3: Spring AI Tool 자동 호출
 		// Spring AI가 자동으로 Tool을 호출하고 결과를 LLM에 전달하므로,
 		// 단순한 워크플로우로 충분합니다.
 		// 최대 반복 횟수는 LlmNode와 ConditionalNode에서 체크합니다.
 		
 		// 2. LlmNode: LLM 호출 (Spring AI가 Tool을 자동으로 호출하고 결과를 LLM에 전달)
-		state = llmNode.process(state);
+		state = stage("llm", state, llmNode::process);
 		if (state.getError() != null) {
 			log.warn("AgentGraph: LlmNode에서 에러 발생 - {}", state.getError());
 			return state;
 		}
 		
 		// 3. ConditionalNode: 다음 단계 결정
+		return route(state);
+	}
+
+	/**
+	 * ConditionalNode로 다음 단계를 결정하고 최종 상태 반환
+	 */
+	private AgentState route(AgentState state) {
 		String nextStep = conditionalNode.route(state);
 		log.debug("AgentGraph: 다음 단계 결정 - {}", nextStep);
 		
@@ -117,11 +167,29 @@ public class AgentGraph {
 		AgentState state = initialState;
 		
 		try {
+			if (isLangGraphEngine()) {
+				emitter.send(SseEmitter.event()
+						.name("step")
+						.data("관련 자료 검색 및 LLM 응답 생성 중..."));
+				state = agentStateGraph.run(state, userInput, emitter);
+				if (state.getError() != null) {
+					log.warn("AgentGraph: StateGraph 실행 중 에러 발생 - {}", state.getError());
+					emitter.send(SseEmitter.event()
+							.name("error")
+							.data("그래프 실행 중 오류: " + state.getError()));
+					return state;
+				}
+				return routeStreaming(state, emitter);
+			}
+
+			// 0. retrieval-first: 입력 처리와 병렬로 사전 검색 시작
+			CompletableFuture<List<SearchResult>> retrieval = isRetrievalFirst() ? retrievalNode.start(userInput) : null;
+
 			// 1. InputNode: 사용자 입력 처리
 			emitter.send(SseEmitter.event()
 					.name("step")
 					.data("입력 처리 중..."));
-			state = inputNode.process(state, userInput);
+			state = stage("input", state, s -> inputNode.process(s, userInput));
 			if (state.getError() != null) {
 				log.warn("AgentGraph: InputNode에서 에러 발생 - {}", state.getError());
 				emitter.send(SseEmitter.event()
@@ -130,11 +198,19 @@ public class AgentGraph {
 				return state;
 			}
 
+			// 1-1. RetrievalNode: 사전 검색 결과를 프롬프트 컨텍스트로 반영
+			if (retrieval != null) {
+				emitter.send(SseEmitter.event()
+						.name("step")
+						.data("관련 자료 검색 중..."));
+				state = stage("retrieval", state, s -> retrievalNode.process(s, retrieval));
+			}
+
 			// 2. LlmNode: LLM 호출 (스트리밍 모드)
 			emitter.send(SseEmitter.event()
 					.name("step")
 					.data("LLM 응답 생성 중..."));
-			state = llmNode.processStreaming(state, emitter);
+			state = stage("llm", state, s -> llmNode.processStreaming(s, emitter));
 			if (state.getError() != null) {
 				log.warn("AgentGraph: LlmNode에서 에러 발생 - {}", state.getError());
 				emitter.send(SseEmitter.event()
@@ -144,38 +220,7 @@ public class AgentGraph {
 			}
 
 			// 3. ConditionalNode: 다음 단계 결정
-			emitter.send(SseEmitter.event()
-					.name("step")
-					.data("다음 단계 결정 중..."));
-			String nextStep = conditionalNode.route(state);
-			log.debug("AgentGraph: 다음 단계 결정 - {}", nextStep);
-
-			// 4. 조건부 분기 처리
-			if ("response".equals(nextStep)) {
-				// 응답 완료 - 스트리밍 완료를 명확히 알리는 이벤트 전송
-				log.info("AgentGraph: 응답 완료");
-				emitter.send(SseEmitter.event()
-						.name("streaming-complete")
-						.data("스트리밍 완료"));
-				return state;
-			}
-			
-			if ("error".equals(nextStep)) {
-				// 에러 발생
-				log.warn("AgentGraph: 에러 발생 - {}", state.getError());
-				emitter.send(SseEmitter.event()
-						.name("error")
-						.data("에러 발생: " + state.getError()));
-				return state;
-			}
-			
-			// 예상치 못한 nextStep
-			log.warn("AgentGraph: 예상치 못한 nextStep - {}", nextStep);
-			state.setError("예상치 못한 그래프 상태: " + nextStep);
-			emitter.send(SseEmitter.event()
-					.name("error")
-					.data("예상치 못한 그래프 상태: " + nextStep));
-			return state;
+			return routeStreaming(state, emitter);
 			
 		} catch (IOException e) {
 			log.error("AgentGraph: 스트리밍 중 IO 오류 발생", e);
@@ -190,4 +235,57 @@ public class AgentGraph {
 			return state;
 		}
 	}
+
+	/**
+	 * 스트리밍 모드: ConditionalNode로 다음 단계를 결정하고 완료/에러 이벤트 전송
+	 */
+	private AgentState routeStreaming(AgentState state, SseEmitter emitter) throws IOException {
+		emitter.send(SseEmitter.event()
+				.name("step")
+				.data("다음 단계 결정 중..."));
+		String nextStep = conditionalNode.route(state);
+		log.debug("AgentGraph: 다음 단계 결정 - {}", nextStep);
+
+		// 4. 조건부 분기 처리
+		if ("response".equals(nextStep)) {
+			// 응답 완료 - 스트리밍 완료를 명확히 알리는 이벤트 전송
+			log.info("AgentGraph: 응답 완료");
+			emitter.send(SseEmitter.event()
+					.name("streaming-complete")
+					.data("스트리밍 완료"));
+			return state;
+		}
+		
+		if ("error".equals(nextStep)) {
+			// 에러 발생
+			log.warn("AgentGraph: 에러 발생 - {}", state.getError());
+			emitter.send(SseEmitter.event()
+					.name("error")
+					.data("에러 발생: " + state.getError()));
+			return state;
+		}
+		
+		// 예상치 못한 nextStep
+		log.warn("AgentGraph: 예상치 못한 nextStep - {}", nextStep);
+		state.setError("예상치 못한 그래프 상태: " + nextStep);
+		emitter.send(SseEmitter.event()
+				.name("error")
+				.data("예상치 못한 그래프 상태: " + nextStep));
+		return state;
+	}
+
+	/**
+	 * 노드 실행을 턴 계측의 단계(agent.stage)로 기록
+	 */
+	private AgentState stage(String name, AgentState state, UnaryOperator<AgentState> node) {
+		return agentTracing.stage(name, () -> node.apply(state));
+	}
+
+	private boolean isRetrievalFirst() {
+		return "retrieval-first".equalsIgnoreCase(graphMode);
+	}
+
+	private boolean isLangGraphEngine() {
+		return "langgraph4j".equalsIgnoreCase(graphEngine);
+	}
 }
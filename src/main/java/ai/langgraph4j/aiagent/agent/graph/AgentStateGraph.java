@@ -0,0 +1,394 @@
+package ai.langgraph4j.aiagent.agent.graph;
+
+import static org.bsc.langgraph4j.StateGraph.END;
+import static org.bsc.langgraph4j.StateGraph.START;
+import static org.bsc.langgraph4j.action.AsyncNodeAction.node_async;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.bsc.langgraph4j.CompileConfig;
+import org.bsc.langgraph4j.CompiledGraph;
+import org.bsc.langgraph4j.GraphStateException;
+import org.bsc.langgraph4j.RunnableConfig;
+import org.bsc.langgraph4j.StateGraph;
+import org.bsc.langgraph4j.action.AsyncNodeAction;
+import org.bsc.langgraph4j.checkpoint.Checkpoint;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import ai.langgraph4j.aiagent.agent.nodes.InputNode;
+import ai.langgraph4j.aiagent.agent.nodes.LlmNode;
+import ai.langgraph4j.aiagent.agent.state.AgentState;
+import ai.langgraph4j.aiagent.service.AgentTracing;
+import ai.langgraph4j.aiagent.service.ConsultationSearchService;
+import ai.langgraph4j.aiagent.service.dto.SearchResult;
+import ai.langgraph4j.aiagent.tools.SearchTool;
+import io.micrometer.observation.Observation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LangGraph4j StateGraph 에이전트 (agent.graph.engine=langgraph4j)
+ *
+ * 그래프 구조:
+ * START → input → (retrieve_counsel | retrieve_law_article | retrieve_yp) → merge → llm → END
+ *
+ * - 검색 브랜치 3개는 fan-out 후 merge에서 fan-in되며, 각 브랜치는 전용 스레드 풀에서 동시에 실행
+ * - 노드 실행마다 체크포인트 저장 (langgraph4j.checkpoint.enabled=true, RedisCheckpointSaver)
+ * - 같은 턴(세션 + 히스토리 길이 + 입력)이 실패 후 다시 실행되면 완료된 검색 브랜치 결과를 체크포인트에서 복원해 재검색하지 않음
+ * - 성공한 턴의 체크포인트는 삭제
+ * - 한 thread는 소유권을 얻은 실행 하나만 사용 (동시 실행은 각자 새 thread)
+ *
+ * GraphState에는 직렬화 가능한 값(문자열)만 두고, 대화 히스토리 등 기존 AgentState와 SSE emitter는
+ * 실행 ID로 조회하는 실행 컨텍스트로 노드에 전달합니다.
+ * 답변 검수(AnswerValidationService)는 동기/비동기 계약이 ChatV2Service에 있으므로 그래프 밖에서 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgentStateGraph {
+
+	private static final String NODE_INPUT = "input";
+	private static final String NODE_RETRIEVE_COUNSEL = "retrieve_counsel";
+	private static final String NODE_RETRIEVE_LAW_ARTICLE = "retrieve_law_article";
+	private static final String NODE_RETRIEVE_YP = "retrieve_yp";
+	private static final String NODE_MERGE = "merge";
+	private static final String NODE_LLM = "llm";
+
+	private final InputNode inputNode;
+	private final LlmNode llmNode;
+	private final ConsultationSearchService consultationSearchService;
+	private final SearchTool searchTool;
+	private final AgentTracing agentTracing;
+	private final ObjectProvider<RedisCheckpointSaver> checkpointSaverProvider;
+
+	/** 실행 ID → 실행 컨텍스트 (실행 종료 시 제거) */
+	private final Map<String, RunContext> runs = new ConcurrentHashMap<>();
+
+	@Value("${agent.retrieval.counsel-top-k:10}")
+	private int counselTopK;
+
+	@Value("${agent.retrieval.law-article-top-k:10}")
+	private int lawArticleTopK;
+
+	@Value("${agent.retrieval.similarity-threshold:0.6}")
+	private double similarityThreshold;
+
+	/** 검색 브랜치별 최대 대기 시간 (ms, 초과 시 해당 브랜치는 결과 없이 진행) */
+	@Value("${agent.retrieval.timeout-ms:5000}")
+	private long timeoutMs;
+
+	@Value("${agent.graph.branch-pool-size:12}")
+	private int branchPoolSize;
+
+	@Value("${agent.graph.branch-queue-capacity:300}")
+	private int branchQueueCapacity;
+
+	private ThreadPoolExecutor branchExecutor;
+	private RedisCheckpointSaver checkpointSaver;
+	private CompiledGraph<GraphState> compiledGraph;
+
+	@PostConstruct
+	void init() {
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.branchExecutor = new ThreadPoolExecutor(branchPoolSize, branchPoolSize, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, branchQueueCapacity)),
+				r -> {
+					Thread t = new Thread(r, "agent-graph-branch-" + threadIndex.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+		this.branchExecutor.allowCoreThreadTimeOut(true);
+		this.checkpointSaver = checkpointSaverProvider.getIfAvailable();
+		try {
+			this.compiledGraph = buildGraph();
+		} catch (GraphStateException e) {
+			throw new IllegalStateException("AgentStateGraph: 그래프 컴파일 실패", e);
+		}
+		log.info("AgentStateGraph: 그래프 컴파일 완료 - 체크포인트: {}",
+				checkpointSaver != null ? checkpointSaver.getClass().getSimpleName() : "사용 안 함");
+	}
+
+	@PreDestroy
+	void shutdownExecutor() {
+		branchExecutor.shutdown();
+	}
+
+	private CompiledGraph<GraphState> buildGraph() throws GraphStateException {
+		StateGraph<GraphState> graph = new StateGraph<>(GraphState.SCHEMA, GraphState::new)
+				.addNode(NODE_INPUT, node_async(this::input))
+				.addNode(NODE_RETRIEVE_COUNSEL, branch(GraphState.COUNSEL_RESULTS,
+						query -> consultationSearchService.searchCounselBranch(query, counselTopK, lawArticleTopK,
+								similarityThreshold)))
+				.addNode(NODE_RETRIEVE_LAW_ARTICLE, branch(GraphState.LAW_ARTICLE_RESULTS,
+						query -> consultationSearchService.searchLawArticleBranch(query, lawArticleTopK,
+								similarityThreshold)))
+				.addNode(NODE_RETRIEVE_YP, branch(GraphState.YP_RESULTS,
+						query -> consultationSearchService.searchYpBranch(query, similarityThreshold)))
+				.addNode(NODE_MERGE, node_async(this::merge))
+				.addNode(NODE_LLM, node_async(this::llm))
+				.addEdge(START, NODE_INPUT)
+				// fan-out: 검색 브랜치 병렬 실행
+				.addEdge(NODE_INPUT, NODE_RETRIEVE_COUNSEL)
+				.addEdge(NODE_INPUT, NODE_RETRIEVE_LAW_ARTICLE)
+				.addEdge(NODE_INPUT, NODE_RETRIEVE_YP)
+				// fan-in: 브랜치 결과 통합
+				.addEdge(NODE_RETRIEVE_COUNSEL, NODE_MERGE)
+				.addEdge(NODE_RETRIEVE_LAW_ARTICLE, NODE_MERGE)
+				.addEdge(NODE_RETRIEVE_YP, NODE_MERGE)
+				.addEdge(NODE_MERGE, NODE_LLM)
+				.addEdge(NODE_LLM, END);
+
+		if (checkpointSaver == null) {
+			return graph.compile();
+		}
+		return graph.compile(CompileConfig.builder()
+				.checkpointSaver(checkpointSaver)
+				.build());
+	}
+
+	/**
+	 * 그래프 실행
+	 *
+	 * @param initialState 초기 상태 (세션 히스토리, System Instruction 포함)
+	 * @param userInput    사용자 입력
+	 * @param emitter      SSE emitter (스트리밍 모드, 일반 모드는 null)
+	 * @return 최종 상태 (에러 시 error 설정)
+	 */
+	public AgentState run(AgentState initialState, String userInput, SseEmitter emitter) {
+		String runId = UUID.randomUUID().toString();
+		RunContext context = new RunContext(initialState, emitter, agentTracing.current());
+		runs.put(runId, context);
+
+		String threadId = claimThread(initialState, userInput, runId);
+		RunnableConfig config = RunnableConfig.builder()
+				.threadId(threadId)
+				.build();
+		try {
+			Map<String, Object> inputs = new HashMap<>();
+			inputs.put(GraphState.RUN_ID, runId);
+			inputs.put(GraphState.QUERY, userInput != null ? userInput : "");
+			inputs.putAll(restoreBranches(config, userInput));
+			if (checkpointSaver != null) {
+				// 이전 실행의 에러/답변이 초기 상태에 병합되지 않도록 복원 후 삭제
+				checkpointSaver.clear(config);
+			}
+
+			Optional<GraphState> result = compiledGraph.invoke(inputs, config);
+			Optional<String> error = result.flatMap(GraphState::error);
+			if (error.isPresent() && context.state.getError() == null) {
+				context.state.setError(error.get());
+			}
+			if (context.state.getError() == null && checkpointSaver != null) {
+				checkpointSaver.clear(config);
+			}
+		} catch (Exception e) {
+			log.error("AgentStateGraph: 그래프 실행 실패 - threadId: {}", config.threadId().orElse(runId), e);
+			context.state.setError("그래프 실행 중 오류: " + e.getMessage());
+			context.state.setException(e);
+		} finally {
+			runs.remove(runId);
+			releaseThread(threadId, runId);
+		}
+		return context.state;
+	}
+
+	/**
+	 * 체크포인트 thread ID 결정
+	 * 같은 세션·같은 턴(히스토리 길이)·같은 입력이면 같은 thread로 재개하되, 소유권을 얻은 실행만 그 thread를 사용합니다.
+	 * 같은 thread를 다른 실행이 사용 중이면(동시 재시도 등) 실행 ID를 thread로 써서 서로의 체크포인트를 복원·삭제하지 않습니다.
+	 */
+	private String claimThread(AgentState state, String userInput, String runId) {
+		if (state.getSessionId() == null || checkpointSaver == null) {
+			return runId;
+		}
+		String threadId = state.getSessionId() + ":" + state.getMessages().size() + ":"
+				+ Integer.toHexString(userInput != null ? userInput.hashCode() : 0);
+		try {
+			if (checkpointSaver.tryClaim(threadId, runId)) {
+				return threadId;
+			}
+			log.info("AgentStateGraph: 같은 턴을 다른 실행이 사용 중이어서 새 thread로 실행 - threadId: {}", threadId);
+		} catch (Exception e) {
+			log.warn("AgentStateGraph: 체크포인트 소유권 획득 실패, 새 thread로 실행 - threadId: {}, 오류: {}",
+					threadId, e.getMessage());
+		}
+		return runId;
+	}
+
+	private void releaseThread(String threadId, String runId) {
+		if (checkpointSaver == null || threadId.equals(runId)) {
+			return;
+		}
+		try {
+			checkpointSaver.release(threadId, runId);
+		} catch (Exception e) {
+			log.warn("AgentStateGraph: 체크포인트 소유권 해제 실패 - threadId: {}, 오류: {}", threadId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 같은 입력으로 중단된 실행이 있으면 완료된 검색 브랜치 결과 복원
+	 */
+	private Map<String, Object> restoreBranches(RunnableConfig config, String userInput) {
+		if (checkpointSaver == null) {
+			return Map.of();
+		}
+		try {
+			Optional<Checkpoint> checkpoint = checkpointSaver.get(config);
+			if (checkpoint.isEmpty()) {
+				return Map.of();
+			}
+			Map<String, Object> saved = checkpoint.get().getState();
+			if (userInput == null || !userInput.equals(saved.get(GraphState.QUERY))) {
+				return Map.of();
+			}
+			Map<String, Object> restored = new HashMap<>();
+			for (String key : GraphState.BRANCH_KEYS) {
+				if (saved.get(key) != null) {
+					restored.put(key, saved.get(key));
+				}
+			}
+			if (!restored.isEmpty()) {
+				log.info("AgentStateGraph: 체크포인트에서 검색 브랜치 복원 - threadId: {}, 브랜치: {}",
+						config.threadId().orElse(""), restored.keySet());
+			}
+			return restored;
+		} catch (Exception e) {
+			log.warn("AgentStateGraph: 체크포인트 조회 실패, 처음부터 실행합니다 - 오류: {}", e.getMessage());
+			return Map.of();
+		}
+	}
+
+	private Map<String, Object> input(GraphState graphState) {
+		RunContext context = context(graphState);
+		context.state = agentTracing.stage("input", context.observation,
+				() -> inputNode.process(context.state, graphState.query()));
+		if (context.state.getError() != null) {
+			log.warn("AgentStateGraph: InputNode에서 에러 발생 - {}", context.state.getError());
+			return Map.of(GraphState.ERROR, context.state.getError());
+		}
+		return Map.of();
+	}
+
+	/**
+	 * 검색 브랜치 노드: 전용 스레드 풀에서 실행 (실패/시간 초과 시 결과 없이 진행)
+	 */
+	private AsyncNodeAction<GraphState> branch(String key, Function<String, List<SearchResult>> search) {
+		return graphState -> {
+			if (graphState.value(key).isPresent() || graphState.error().isPresent()) {
+				return CompletableFuture.completedFuture(Map.of());
+			}
+			String query = graphState.query().trim();
+			if (query.isEmpty()) {
+				return CompletableFuture.completedFuture(Map.of());
+			}
+			Observation parent = context(graphState).observation;
+			Supplier<Map<String, Object>> task = () -> agentTracing.stage(stageName(key), parent,
+					() -> Map.of(key, GraphState.writeResults(search.apply(query))));
+			try {
+				return CompletableFuture.supplyAsync(task, branchExecutor)
+						.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+						.exceptionally(e -> {
+							log.warn("AgentStateGraph: 검색 브랜치 실패, 결과 없이 진행합니다 - 브랜치: {}, 오류: {}", key,
+									e.getMessage());
+							return Map.of();
+						});
+			} catch (RejectedExecutionException e) {
+				log.warn("AgentStateGraph: 검색 브랜치 대기열이 가득 차 결과 없이 진행합니다 - 브랜치: {}", key);
+				return CompletableFuture.completedFuture(Map.of());
+			}
+		};
+	}
+
+	private Map<String, Object> merge(GraphState graphState) {
+		if (graphState.error().isPresent()) {
+			return Map.of();
+		}
+		RunContext context = context(graphState);
+		List<SearchResult> results = agentTracing.stage("search.merge", context.observation,
+				() -> consultationSearchService.mergeBranches(graphState.query(),
+				graphState.results(GraphState.COUNSEL_RESULTS),
+				graphState.results(GraphState.LAW_ARTICLE_RESULTS),
+				graphState.results(GraphState.YP_RESULTS)));
+		if (results.isEmpty()) {
+			log.debug("AgentStateGraph: 검색 결과 없음 - {}", graphState.query());
+			return Map.of();
+		}
+		String retrievedContext = searchTool.formatSearchResults(graphState.query(), results);
+		searchTool.publishRelatedReferences(results);
+		context.state.setRetrievedContext(retrievedContext);
+		log.info("AgentStateGraph: 검색 브랜치 통합 완료 - {}건, 컨텍스트 길이: {}자", results.size(),
+				retrievedContext.length());
+		return Map.of(GraphState.CONTEXT, retrievedContext);
+	}
+
+	private Map<String, Object> llm(GraphState graphState) {
+		if (graphState.error().isPresent()) {
+			return Map.of();
+		}
+		RunContext context = context(graphState);
+		context.state = agentTracing.stage("llm", context.observation,
+				() -> context.emitter != null
+						? llmNode.processStreaming(context.state, context.emitter)
+						: llmNode.process(context.state));
+		if (context.state.getError() != null) {
+			log.warn("AgentStateGraph: LlmNode에서 에러 발생 - {}", context.state.getError());
+			return Map.of(GraphState.ERROR, context.state.getError());
+		}
+		if (context.state.getAiMessage() == null || context.state.getAiMessage().text() == null) {
+			return Map.of();
+		}
+		return Map.of(GraphState.ANSWER, context.state.getAiMessage().text());
+	}
+
+	private static String stageName(String branchKey) {
+		return switch (branchKey) {
+			case GraphState.COUNSEL_RESULTS -> "search.counsel";
+			case GraphState.LAW_ARTICLE_RESULTS -> "search.law-article";
+			default -> "search.yp";
+		};
+	}
+
+	private RunContext context(GraphState graphState) {
+		RunContext context = runs.get(graphState.runId());
+		if (context == null) {
+			throw new IllegalStateException("실행 컨텍스트를 찾을 수 없습니다: " + graphState.runId());
+		}
+		return context;
+	}
+
+	/**
+	 * 실행 컨텍스트 (체크포인트에 저장하지 않는 값)
+	 * observation: 노드가 다른 스레드에서 실행되어도 턴 계측 트리에 연결하기 위한 parent (없으면 null)
+	 */
+	private static final class RunContext {
+		private volatile AgentState state;
+		private final SseEmitter emitter;
+		private final Observation observation;
+
+		private RunContext(AgentState state, SseEmitter emitter, Observation observation) {
+			this.state = state;
+			this.emitter = emitter;
+			this.observation = observation;
+		}
+	}
+}
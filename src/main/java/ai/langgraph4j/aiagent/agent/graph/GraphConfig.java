@@ -1,23 +1,37 @@
 package ai.langgraph4j.aiagent.agent.graph;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 그래프 설정 클래스
- * 
- * 참고: Phase 2에서는 간단한 서비스 레이어로 구현하며,
- * Phase 3에서 LangGraph4j의 완전한 StateGraph 통합을 진행합니다.
- * 
- * AgentGraph는 @Component로 이미 등록되어 있으므로
- * 별도의 Bean 등록이 필요하지 않습니다.
+ *
+ * AgentGraph(실행 진입점)와 AgentStateGraph(LangGraph4j StateGraph)는 @Component로 등록되어 있으며,
+ * 여기서는 StateGraph 체크포인트 저장소를 등록합니다.
+ *
+ * langgraph4j.checkpoint.enabled=true면 Redis에 체크포인트를 저장하고,
+ * false면 체크포인트 없이 컴파일합니다 (실패한 턴의 검색 브랜치 재사용 없음).
  */
 @Slf4j
 @Configuration
 public class GraphConfig {
 
-	// AgentGraph는 @Component로 이미 등록되어 있으므로
-	// 여기서는 설정만 관리합니다.
-	// Phase 3에서 LangGraph4j StateGraph 통합 시 사용 예정
+	@Bean
+	@ConditionalOnProperty(name = "langgraph4j.checkpoint.enabled", havingValue = "true")
+	public RedisCheckpointSaver graphCheckpointSaver(RedisTemplate<String, String> redisTemplate,
+			@Value("${langgraph4j.checkpoint.ttl-seconds:3600}") long ttlSeconds,
+			@Value("${langgraph4j.checkpoint.max-per-thread:10}") int maxPerThread,
+			@Value("${langgraph4j.checkpoint.claim-ttl-seconds:300}") long claimTtlSeconds) {
+		log.info("GraphConfig: Redis 체크포인트 저장소 등록 - TTL: {}초, thread당 최대: {}개, 소유권 유지: {}초",
+				ttlSeconds, maxPerThread, claimTtlSeconds);
+		return new RedisCheckpointSaver(redisTemplate, Duration.ofSeconds(ttlSeconds), maxPerThread,
+				Duration.ofSeconds(claimTtlSeconds));
+	}
 }
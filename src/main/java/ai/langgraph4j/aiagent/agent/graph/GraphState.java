@@ -0,0 +1,90 @@
+package ai.langgraph4j.aiagent.agent.graph;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.bsc.langgraph4j.state.AgentState;
+import org.bsc.langgraph4j.state.Channel;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ai.langgraph4j.aiagent.service.dto.SearchResult;
+
+/**
+ * LangGraph4j StateGraph 상태 (AgentStateGraph)
+ * 체크포인트로 저장되는 값만 담습니다. 모든 값은 문자열이라 기본 직렬화(ObjectStream)와
+ * Redis 체크포인트(JSON)에서 그대로 복원됩니다. 검색 결과는 SearchResult 리스트의 JSON입니다.
+ *
+ * 대화 히스토리, System Instruction 등 턴 실행에 필요한 나머지 상태는
+ * 기존 AgentState(ai.langgraph4j.aiagent.agent.state)가 가지며 실행 컨텍스트로 노드에 전달됩니다.
+ */
+public class GraphState extends AgentState {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+	private static final TypeReference<List<SearchResult>> RESULT_LIST = new TypeReference<>() {
+	};
+
+	/** 실행 ID (체크포인트 thread ID, 실행 컨텍스트 조회용) */
+	public static final String RUN_ID = "runId";
+	/** 사용자 입력 */
+	public static final String QUERY = "query";
+	/** 검색 브랜치 결과 (SearchResult 리스트 JSON) */
+	public static final String COUNSEL_RESULTS = "counselResults";
+	public static final String LAW_ARTICLE_RESULTS = "lawArticleResults";
+	public static final String YP_RESULTS = "ypResults";
+	/** 통합 후 프롬프트에 넣을 검색 자료 */
+	public static final String CONTEXT = "context";
+	/** LLM 답변 */
+	public static final String ANSWER = "answer";
+	/** 에러 메시지 */
+	public static final String ERROR = "error";
+
+	/** 검색 브랜치 결과 키 (체크포인트에서 복원해 재실행을 건너뛰는 대상) */
+	public static final List<String> BRANCH_KEYS = List.of(COUNSEL_RESULTS, LAW_ARTICLE_RESULTS, YP_RESULTS);
+
+	/** 모든 키는 마지막 값으로 교체 (병렬 브랜치는 서로 다른 키에 기록) */
+	public static final Map<String, Channel<?>> SCHEMA = Map.of();
+
+	public GraphState(Map<String, Object> initData) {
+		super(initData);
+	}
+
+	public String runId() {
+		return this.<String>value(RUN_ID).orElseThrow();
+	}
+
+	public String query() {
+		return this.<String>value(QUERY).orElse("");
+	}
+
+	public Optional<String> error() {
+		return value(ERROR);
+	}
+
+	/**
+	 * 검색 브랜치 결과 (없으면 빈 리스트)
+	 */
+	public List<SearchResult> results(String key) {
+		return this.<String>value(key).map(GraphState::readResults).orElse(List.of());
+	}
+
+	static String writeResults(List<SearchResult> results) {
+		try {
+			return OBJECT_MAPPER.writeValueAsString(results);
+		} catch (Exception e) {
+			throw new IllegalStateException("검색 결과 직렬화 실패", e);
+		}
+	}
+
+	private static List<SearchResult> readResults(String json) {
+		try {
+			return OBJECT_MAPPER.readValue(json, RESULT_LIST);
+		} catch (Exception e) {
+			throw new IllegalStateException("검색 결과 역직렬화 실패", e);
+		}
+	}
+}
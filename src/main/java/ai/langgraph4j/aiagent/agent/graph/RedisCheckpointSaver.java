@@ -0,0 +1,169 @@
+package ai.langgraph4j.aiagent.agent.graph;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.bsc.langgraph4j.RunnableConfig;
+import org.bsc.langgraph4j.checkpoint.BaseCheckpointSaver;
+import org.bsc.langgraph4j.checkpoint.Checkpoint;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 LangGraph4j 체크포인트 저장소
+ * thread ID(그래프 실행 단위)마다 최신순 체크포인트를 Redis 리스트(항목당 JSON 하나)로 저장합니다.
+ * GraphState 값은 모두 문자열이므로 JSON으로 손실 없이 복원됩니다.
+ *
+ * - 키: chat:graph:checkpoints:{threadId}, TTL은 저장할 때마다 갱신
+ * - thread당 최대 max-per-thread개 유지 (오래된 체크포인트부터 제거)
+ * - 저장은 Lua 스크립트 한 번으로 원자적으로 처리 (동시 저장이 서로의 체크포인트를 덮어쓰지 않음)
+ * - 소유권: chat:graph:checkpoint-owner:{threadId}에 실행 ID를 SET NX로 기록해 한 thread는 한 실행만 사용
+ */
+@Slf4j
+public class RedisCheckpointSaver implements BaseCheckpointSaver {
+
+	private static final String KEY_PREFIX = "chat:graph:checkpoints:";
+	private static final String OWNER_KEY_PREFIX = "chat:graph:checkpoint-owner:";
+	private static final String DEFAULT_THREAD_ID = "default";
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	/**
+	 * 체크포인트 저장: 교체 대상 ID가 있으면 같은 ID 항목을 LSET, 없으면 LPUSH + LTRIM, 마지막에 EXPIRE
+	 * KEYS[1] 체크포인트 키, ARGV[1] 교체할 체크포인트 ID(빈 문자열이면 추가), ARGV[2] 체크포인트 JSON,
+	 * ARGV[3] 최대 개수, ARGV[4] TTL(초). 교체 대상을 찾지 못하면 0 반환
+	 */
+	private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+			"if ARGV[1] ~= '' then "
+					+ "local items = redis.call('LRANGE', KEYS[1], 0, -1) "
+					+ "for i, item in ipairs(items) do "
+					+ "if cjson.decode(item)['id'] == ARGV[1] then "
+					+ "redis.call('LSET', KEYS[1], i - 1, ARGV[2]) "
+					+ "redis.call('EXPIRE', KEYS[1], ARGV[4]) "
+					+ "return 1 end end "
+					+ "return 0 end "
+					+ "redis.call('LPUSH', KEYS[1], ARGV[2]) "
+					+ "redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[3]) - 1) "
+					+ "redis.call('EXPIRE', KEYS[1], ARGV[4]) "
+					+ "return 1",
+			Long.class);
+
+	/**
+	 * 소유권 해제: 자신이 기록한 실행 ID일 때만 삭제 (lease 만료 후 다른 실행이 얻은 소유권은 유지)
+	 * KEYS[1] 소유권 키, ARGV[1] 실행 ID
+	 */
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+			Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Duration ttl;
+	private final int maxPerThread;
+	private final Duration claimTtl;
+
+	public RedisCheckpointSaver(RedisTemplate<String, String> redisTemplate, Duration ttl, int maxPerThread,
+			Duration claimTtl) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = ttl;
+		this.maxPerThread = Math.max(1, maxPerThread);
+		this.claimTtl = claimTtl;
+	}
+
+	/**
+	 * thread 소유권 획득 (SET NX, claim-ttl 동안 유지)
+	 * 같은 thread를 다른 실행이 사용 중이면 false를 반환하며, 호출자는 그 thread를 재개·삭제하지 않아야 합니다.
+	 * 실행이 비정상 종료돼 해제하지 못해도 claim-ttl이 지나면 다시 획득할 수 있습니다.
+	 *
+	 * @param threadId thread ID
+	 * @param runId    실행 ID
+	 * @return 획득 여부
+	 */
+	public boolean tryClaim(String threadId, String runId) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(OWNER_KEY_PREFIX + threadId, runId, claimTtl));
+	}
+
+	/**
+	 * thread 소유권 해제 (자신이 획득한 경우에만)
+	 */
+	public void release(String threadId, String runId) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(OWNER_KEY_PREFIX + threadId), runId);
+	}
+
+	@Override
+	public Collection<Checkpoint> list(RunnableConfig config) {
+		return load(threadId(config));
+	}
+
+	@Override
+	public Optional<Checkpoint> get(RunnableConfig config) {
+		LinkedList<Checkpoint> checkpoints = load(threadId(config));
+		if (config.checkPointId().isPresent()) {
+			String checkpointId = config.checkPointId().get();
+			return checkpoints.stream()
+					.filter(checkpoint -> checkpoint.getId().equals(checkpointId))
+					.findFirst();
+		}
+		return checkpoints.isEmpty() ? Optional.empty() : Optional.of(checkpoints.getFirst());
+	}
+
+	@Override
+	public RunnableConfig put(RunnableConfig config, Checkpoint checkpoint) throws Exception {
+		String checkpointId = config.checkPointId().orElse("");
+		StoredCheckpoint stored = new StoredCheckpoint(checkpoint.getId(), checkpoint.getNodeId(),
+				checkpoint.getNextNodeId(), new LinkedHashMap<>(checkpoint.getState()));
+		Long result = redisTemplate.execute(PUT_SCRIPT, List.of(KEY_PREFIX + threadId(config)), checkpointId,
+				OBJECT_MAPPER.writeValueAsString(stored), String.valueOf(maxPerThread), String.valueOf(ttl.toSeconds()));
+		if (!checkpointId.isEmpty() && !Long.valueOf(1L).equals(result)) {
+			throw new IllegalStateException("체크포인트를 찾을 수 없습니다: " + checkpointId);
+		}
+		return RunnableConfig.builder(config).checkPointId(checkpoint.getId()).build();
+	}
+
+	@Override
+	public boolean clear(RunnableConfig config) {
+		return Boolean.TRUE.equals(redisTemplate.delete(KEY_PREFIX + threadId(config)));
+	}
+
+	private LinkedList<Checkpoint> load(String threadId) {
+		List<String> items = redisTemplate.opsForList().range(KEY_PREFIX + threadId, 0, -1);
+		LinkedList<Checkpoint> checkpoints = new LinkedList<>();
+		if (items == null) {
+			return checkpoints;
+		}
+		try {
+			for (String item : items) {
+				StoredCheckpoint stored = OBJECT_MAPPER.readValue(item, StoredCheckpoint.class);
+				checkpoints.add(Checkpoint.builder()
+						.id(stored.id())
+						.nodeId(stored.nodeId())
+						.nextNodeId(stored.nextNodeId())
+						.state(stored.state() != null ? stored.state() : Map.of())
+						.build());
+			}
+		} catch (Exception e) {
+			// 손상된 체크포인트는 무시하고 처음부터 실행
+			log.warn("RedisCheckpointSaver: 체크포인트 역직렬화 실패 - threadId: {}, 오류: {}", threadId, e.getMessage());
+			checkpoints.clear();
+		}
+		return checkpoints;
+	}
+
+	private static String threadId(RunnableConfig config) {
+		return config.threadId().orElse(DEFAULT_THREAD_ID);
+	}
+
+	/**
+	 * 저장 형식 (Checkpoint는 Jackson 생성자가 없으므로 별도 레코드로 변환)
+	 */
+	private record StoredCheckpoint(String id, String nodeId, String nextNodeId, Map<String, Object> state) {
+	}
+}
@@ -0,0 +1,129 @@
+package ai.langgraph4j.aiagent.agent.nodes;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import ai.langgraph4j.aiagent.controller.dto.RelatedReference;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 답변 검수 1단계: 로컬 휴리스틱 검사
+ * LLM 호출 없이 길이, 근거 인용 여부, 검색 자료와의 겹침 정도로 답변을 판정합니다.
+ *
+ * 판정 결과가 INCONCLUSIVE인 경우에만 ValidationNode가 LLM 심사(2단계)를 수행합니다.
+ */
+@Slf4j
+@Component
+public class HeuristicValidator {
+
+	/**
+	 * 법령 조문/예규·판례 인용 패턴 (예: 제12조, 제12조의2, 제3항, 부가가치세법 시행령 제4조, 서면-2023-법인-1234)
+	 * 법령명 단독은 인용으로 보지 않고 뒤따르는 조문 번호로 판정 ("방법", "해법", "불법"처럼 '법'으로 끝나는 일반 단어 제외)
+	 */
+	private static final Pattern CITATION_PATTERN = Pattern.compile(
+			"제\\s*\\d+\\s*조|제\\s*\\d+\\s*항|[가-힣]+-\\d{4}-[가-힣]*-?\\d+");
+
+	private static final Pattern TOKEN_SPLIT = Pattern.compile("[^0-9A-Za-z가-힣]+");
+
+	/** 이 길이 미만의 답변은 검색 자료가 있으면 실패, 없으면 판단 보류 (인사·확인 등 짧은 일반 대화) */
+	@Value("${agent.validation.heuristic.min-length:20}")
+	private int minLength;
+
+	/** 검색 자료 제목과의 겹침 비율이 이 값 이상이면 근거 기반 답변으로 간주 */
+	@Value("${agent.validation.heuristic.min-overlap:0.3}")
+	private double minOverlap;
+
+	/**
+	 * 휴리스틱 검수 수행
+	 *
+	 * @param userQuery   사용자 질문
+	 * @param aiResponse  AI 답변
+	 * @param relatedRefs 이번 턴 검색 도구가 찾은 관련 자료 (없으면 빈 목록)
+	 * @return 판정 결과
+	 */
+	public Verdict evaluate(String userQuery, String aiResponse, List<RelatedReference> relatedRefs) {
+		String answer = aiResponse != null ? aiResponse.strip() : "";
+
+		boolean hasRefs = relatedRefs != null && !relatedRefs.isEmpty();
+
+		if (answer.length() < minLength) {
+			// 검색 자료를 찾고도 짧게 답했으면 재생성, 일반 대화의 짧은 답변은 LLM 심사에 맡김
+			return hasRefs
+					? new Verdict(Outcome.FAIL, 0.3, "검색 자료가 있으나 답변이 너무 짧습니다 (" + answer.length() + "자)", true)
+					: new Verdict(Outcome.INCONCLUSIVE, 0.5, "짧은 답변 (" + answer.length() + "자), 검색 근거 없음", false);
+		}
+
+		boolean hasCitation = CITATION_PATTERN.matcher(answer).find();
+
+		if (!hasRefs) {
+			// 검색 근거가 없으면 로컬에서 판단할 수 없음 (일반 대화 또는 도구 미호출)
+			return new Verdict(Outcome.INCONCLUSIVE, hasCitation ? 0.7 : 0.6,
+					"검색 근거 없음", false);
+		}
+
+		double overlap = referenceOverlap(answer, relatedRefs);
+		log.debug("HeuristicValidator: 인용 여부: {}, 자료 겹침 비율: {}", hasCitation, overlap);
+
+		if (hasCitation && overlap >= minOverlap) {
+			return new Verdict(Outcome.PASS, 0.85,
+					"검색 자료를 인용한 답변 (겹침 비율 " + String.format("%.2f", overlap) + ")", false);
+		}
+		return new Verdict(Outcome.INCONCLUSIVE, hasCitation ? 0.7 : 0.5,
+				"근거 인용이 불충분하거나 검색 자료와의 겹침이 낮음 (겹침 비율 " + String.format("%.2f", overlap) + ")",
+				false);
+	}
+
+	/**
+	 * 검색 자료 제목 토큰 중 답변에 등장하는 비율
+	 */
+	private double referenceOverlap(String answer, List<RelatedReference> relatedRefs) {
+		Set<String> refTokens = new HashSet<>();
+		for (RelatedReference ref : relatedRefs) {
+			addTokens(refTokens, ref.getTitle());
+		}
+		if (refTokens.isEmpty()) {
+			return 0.0;
+		}
+		int matched = 0;
+		for (String token : refTokens) {
+			if (answer.contains(token)) {
+				matched++;
+			}
+		}
+		return (double) matched / refTokens.size();
+	}
+
+	private void addTokens(Set<String> tokens, String text) {
+		if (text == null || text.isBlank()) {
+			return;
+		}
+		for (String token : TOKEN_SPLIT.split(text)) {
+			if (token.length() >= 2) {
+				tokens.add(token);
+			}
+		}
+	}
+
+	/**
+	 * 휴리스틱 판정
+	 */
+	public enum Outcome {
+		PASS, FAIL, INCONCLUSIVE
+	}
+
+	/**
+	 * 휴리스틱 판정 결과
+	 *
+	 * @param outcome           판정
+	 * @param score             추정 점수 (0.0 ~ 1.0)
+	 * @param feedback          판정 근거
+	 * @param needsRegeneration 재생성 필요 여부
+	 */
+	public record Verdict(Outcome outcome, double score, String feedback, boolean needsRegeneration) {
+	}
+}
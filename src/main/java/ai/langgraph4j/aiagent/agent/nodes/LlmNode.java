@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.model.ChatModel;
@@ -11,6 +12,7 @@ import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.model.StreamingChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.ai.retry.NonTransientAiException;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,11 +20,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import ai.langgraph4j.aiagent.agent.state.AgentState;
+import ai.langgraph4j.aiagent.service.AgentTracing;
+import ai.langgraph4j.aiagent.service.LlmAdmissionController;
+import ai.langgraph4j.aiagent.service.LlmAdmissionController.Pool;
+import ai.langgraph4j.aiagent.service.LlmAdmissionController.Priority;
+import ai.langgraph4j.aiagent.service.TokenEstimator;
+import ai.langgraph4j.aiagent.tools.ToolCallCounter;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.UserMessage;
 import lombok.extern.slf4j.Slf4j;
-import reactor.core.publisher.Flux;
 
 /**
  * LLM 호출 노드
@@ -41,12 +48,30 @@ import reactor.core.publisher.Flux;
 public class LlmNode {
 
 	private final ChatModel chatModel;
+	private final LlmAdmissionController admissionController;
+	private final AgentTracing agentTracing;
+	private final TokenEstimator tokenEstimator;
+	private final ToolCallCounter toolCallCounter;
+
+	/** 요청마다 함께 전송되는 Tool 선언(이름, 설명, 파라미터 스키마) 텍스트 (실제 입력 토큰과 비교할 때 추정에 포함) */
+	private final String toolDeclarations;
 
 	@Value("${agent.max-iterations:5}")
 	private int maxIterations;
 
-	public LlmNode(@Qualifier("chatModel") ChatModel chatModel) {
+	public LlmNode(@Qualifier("chatModel") ChatModel chatModel, LlmAdmissionController admissionController,
+			AgentTracing agentTracing, TokenEstimator tokenEstimator, ToolCallCounter toolCallCounter) {
 		this.chatModel = chatModel;
+		this.admissionController = admissionController;
+		this.agentTracing = agentTracing;
+		this.tokenEstimator = tokenEstimator;
+		this.toolCallCounter = toolCallCounter;
+		this.toolDeclarations = chatModel.getDefaultOptions() instanceof ToolCallingChatOptions options
+				? options.getToolCallbacks().stream()
+						.map(callback -> callback.getToolDefinition())
+						.map(definition -> definition.name() + definition.description() + definition.inputSchema())
+						.collect(Collectors.joining("\n"))
+				: "";
 	}
 
 	/**
@@ -79,13 +104,15 @@ public class LlmNode {
 			Prompt prompt = new Prompt(messages);
 
 			// 토큰 수 추정 및 로깅 (LLM 호출 전)
-			long estimatedInputTokens = estimateTokens(prompt);
+			long estimatedInputTokens = tokenEstimator.estimate(prompt.getInstructions());
 			log.info("LlmNode: LLM 호출 전 토큰 추정 - 입력 토큰: {}개 (메시지 수: {}개)", 
 					estimatedInputTokens, messages.size());
-			ChatResponse response = chatModel.call(prompt);
+			long toolCallsBefore = toolCallCounter.count();
+			ChatResponse response = admissionController.call(Pool.CHAT, estimatedInputTokens,
+					() -> chatModel.call(prompt));
 
 			// 실제 토큰 사용량 확인 및 로깅 (LLM 호출 후)
-			logTokenUsage(response, estimatedInputTokens);
+			logTokenUsage(response, estimatedInputTokens, toolCallCounter.count() == toolCallsBefore);
 
 			// 응답 추출
 			// Spring AI가 Tool을 자동으로 호출했을 수 있으므로, 최종 응답을 확인합니다.
@@ -166,6 +193,20 @@ public class LlmNode {
 					"당신은 친절하고 도움이 되는 AI 어시스턴트입니다. 사용자의 질문에 정확하고 유용한 답변을 한국어로 제공하세요."));
 		}
 
+		// 오래된 대화는 요약본으로 전달 (ConversationSummarizer가 히스토리에서 제외한 부분)
+		if (state.getHistorySummary() != null && !state.getHistorySummary().isBlank()) {
+			messages.add(new org.springframework.ai.chat.messages.SystemMessage(
+					"이전 대화 요약:\n" + state.getHistorySummary()));
+		}
+
+		// retrieval-first 모드: 사전 검색 결과를 함께 전달해 검색 도구 호출 왕복을 생략
+		if (state.getRetrievedContext() != null && !state.getRetrievedContext().isBlank()) {
+			messages.add(new org.springframework.ai.chat.messages.SystemMessage(
+					"다음은 사용자 질문으로 미리 검색한 자료입니다. 이 자료로 답변할 수 있으면 검색 도구를 호출하지 말고 바로 답변하세요. " +
+							"자료가 부족하거나 다른 주제의 후속 검색이 필요한 경우에만 검색 도구를 사용하세요.\n\n" +
+							state.getRetrievedContext()));
+		}
+
 		// v2: 이전 대화 히스토리 추가 (state.getMessages()에 저장된 메시지들)
 		// state.getMessages()에는 dev.langchain4j.data.message.UserMessage와 AiMessage가 저장됨
 		if (state.getMessages() != null && !state.getMessages().isEmpty()) {
@@ -237,22 +278,24 @@ public class LlmNode {
 				Prompt prompt = new Prompt(messages);
 
 				// 토큰 수 추정 및 로깅 (LLM 호출 전)
-				long estimatedInputTokens = estimateTokens(prompt);
+				long estimatedInputTokens = tokenEstimator.estimate(prompt.getInstructions());
 				log.info("LlmNode: 스트리밍 LLM 호출 전 토큰 추정 - 입력 토큰: {}개 (메시지 수: {}개)", 
 						estimatedInputTokens, messages.size());
 
+				long toolCallsBefore = toolCallCounter.count();
+
 				// 스트리밍 응답 수집
 				AtomicReference<StringBuilder> fullResponse = new AtomicReference<>(new StringBuilder());
 				AtomicReference<ChatResponse> lastResponse = new AtomicReference<>();
 				// 이전 텍스트를 추적하여 델타만 전송 (중복 전송 방지)
 				AtomicReference<String> previousText = new AtomicReference<>("");
 
-				Flux<ChatResponse> responseFlux = streamingChatModel.stream(prompt);
-
 				// 스트리밍 응답 처리
 				// 각 청크는 doOnNext에서 즉시 SSE로 전송되므로 스트리밍이 정상 작동합니다.
 				// blockLast()는 스트리밍 완료까지 대기하지만, 각 청크는 즉시 전송됩니다.
-				responseFlux
+				// 입장 제어: 스트리밍이 끝날 때까지 실행 권한을 유지하고, 첫 청크 전송 전의 429만 재시도합니다.
+				admissionController.call(Pool.CHAT, Priority.INTERACTIVE, estimatedInputTokens, () -> streamingChatModel
+						.stream(prompt)
 						.doOnNext(chatResponse -> {
 							try {
 								// ChatResponse 검증
@@ -292,18 +335,11 @@ public class LlmNode {
 								log.error("LlmNode: 스트리밍 응답 처리 중 오류 발생 (계속 진행)", e);
 							}
 						})
-						.doOnError(error -> {
-							log.error("LlmNode: 스트리밍 중 오류 발생", error);
-							try {
-								emitter.send(SseEmitter.event()
-										.name("error")
-										.data("LLM 스트리밍 중 오류: " + error.getMessage()));
-							} catch (IOException e) {
-								log.error("LlmNode: 에러 이벤트 전송 실패", e);
-							}
-						})
+						// 에러 이벤트는 재시도 후 최종 실패 시 아래 catch에서 한 번만 전송
+						.doOnError(error -> log.warn("LlmNode: 스트리밍 중 오류 발생 - {}", error.getMessage()))
 						.doOnComplete(() -> log.debug("LlmNode: 스트리밍 완료"))
-						.blockLast(); // 스트리밍 완료까지 대기 (각 청크는 doOnNext에서 즉시 전송됨)
+						.blockLast(), // 스트리밍 완료까지 대기 (각 청크는 doOnNext에서 즉시 전송됨)
+						() -> previousText.get().isEmpty());
 
 				// 최종 응답 설정
 				String finalContent = fullResponse.get().toString();
@@ -318,10 +354,10 @@ public class LlmNode {
 				// 실제 토큰 사용량 확인 및 로깅 (스트리밍 응답의 경우)
 				ChatResponse finalResponse = lastResponse.get();
 				if (finalResponse != null) {
-					logTokenUsage(finalResponse, estimatedInputTokens);
+					logTokenUsage(finalResponse, estimatedInputTokens, toolCallCounter.count() == toolCallsBefore);
 				} else {
 					// 응답이 없으면 추정값만 로깅
-					long estimatedOutputTokens = estimateTokensFromText(finalContent);
+					long estimatedOutputTokens = tokenEstimator.estimate(finalContent);
 					log.info("LlmNode: 스트리밍 LLM 호출 완료 - 입력 토큰: {}개 (추정), 출력 토큰: {}개 (추정), 총: {}개 (추정), 응답 길이: {}자",
 							estimatedInputTokens, estimatedOutputTokens, 
 							estimatedInputTokens + estimatedOutputTokens, finalContent.length());
@@ -396,74 +432,18 @@ public class LlmNode {
 		}
 	}
 
-	/**
-	 * Prompt의 토큰 수를 추정
-	 * 한국어 중심 텍스트 기준: 1 토큰 ≈ 2.5 문자 (보수적 추정)
-	 * 
-	 * @param prompt Prompt 객체
-	 * @return 추정된 토큰 수
-	 */
-	private long estimateTokens(Prompt prompt) {
-		if (prompt == null || prompt.getInstructions() == null || prompt.getInstructions().isEmpty()) {
-			return 0;
-		}
-
-		// Prompt의 전체 텍스트 길이 추정
-		long totalChars = 0;
-		for (Message msg : prompt.getInstructions()) {
-			try {
-				// Message의 toString()으로 대략적인 길이 추정
-				// 실제로는 Message의 내용을 정확히 추출해야 하지만,
-				// 토큰 추정 목적이므로 Prompt의 toString() 사용
-				String text = msg.toString();
-				if (text != null && text.length() > 20) { // 클래스명보다 긴 경우만 카운트
-					totalChars += text.length();
-				}
-			} catch (Exception e) {
-				// 메시지 파싱 실패 시 기본값 사용
-				totalChars += 100;
-			}
-		}
-
-		// Prompt 전체를 문자열로 변환하여 더 정확한 추정
-		try {
-			String promptText = prompt.toString();
-			if (promptText != null && promptText.length() > totalChars) {
-				totalChars = promptText.length();
-			}
-		} catch (Exception e) {
-			// 무시하고 계속 진행
-		}
-
-		// 한국어 중심 텍스트: 1 토큰 ≈ 2.5 문자 (보수적 추정)
-		// 영어는 1 토큰 ≈ 4 문자, 한국어는 1 토큰 ≈ 2-3 문자
-		// 혼합 텍스트를 고려하여 2.5로 설정
-		return Math.round(totalChars / 2.5);
-	}
-
-	/**
-	 * 텍스트의 토큰 수를 추정
-	 * 
-	 * @param text 텍스트
-	 * @return 추정된 토큰 수
-	 */
-	private long estimateTokensFromText(String text) {
-		if (text == null || text.isEmpty()) {
-			return 0;
-		}
-		return Math.round(text.length() / 2.5);
-	}
-
 	/**
 	 * ChatResponse에서 실제 토큰 사용량을 확인하고 로깅
 	 * 
 	 * @param response ChatResponse
 	 * @param estimatedInputTokens 추정된 입력 토큰 수
+	 * @param singleRound 호출 중 Tool이 실행되지 않았는지 (Tool 호출 루프를 거친 응답의 Usage는 라운드 합계라 보정에 쓰지 않음)
 	 */
-	private void logTokenUsage(ChatResponse response, long estimatedInputTokens) {
+	private void logTokenUsage(ChatResponse response, long estimatedInputTokens, boolean singleRound) {
 		if (response == null) {
 			return;
 		}
+		agentTracing.recordTokens("chat", response);
 
 		try {
 			Usage usage = response.getMetadata() != null ? response.getMetadata().getUsage() : null;
@@ -487,12 +467,13 @@ public class LlmNode {
 						completionTokens != null ? completionTokens : "N/A",
 						totalTokens != null ? totalTokens : "N/A");
 
-				// 추정값과 실제값 비교
-				if (promptTokens != null && estimatedInputTokens > 0) {
-					long diff = Math.abs(promptTokens - estimatedInputTokens);
-					double diffPercent = (diff * 100.0) / estimatedInputTokens;
-					log.debug("LlmNode: 토큰 추정 정확도 - 추정: {}개, 실제: {}개, 차이: {}개 ({}%)", 
-							estimatedInputTokens, promptTokens, diff, String.format("%.1f", diffPercent));
+				// 추정값과 실제값 비교 (오차 기록 및 추정기 보정)
+				// 실제 입력에는 Tool 선언이 포함되므로 추정에도 더함. Tool 호출 루프를 거쳤으면 Usage가 누적값이라 제외
+				if (promptTokens != null && singleRound) {
+					tokenEstimator.recordActual(estimatedInputTokens + tokenEstimator.estimate(toolDeclarations),
+							promptTokens);
+				} else if (promptTokens != null) {
+					log.debug("LlmNode: Tool 호출 루프를 거친 응답이라 토큰 추정 보정 생략");
 				}
 			} else {
 				// Usage 메타데이터가 없는 경우 (일부 모델은 제공하지 않음)
@@ -0,0 +1,171 @@
+package ai.langgraph4j.aiagent.agent.nodes;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import ai.langgraph4j.aiagent.agent.state.AgentState;
+import ai.langgraph4j.aiagent.service.AgentTracing;
+import ai.langgraph4j.aiagent.service.ConsultationSearchService;
+import ai.langgraph4j.aiagent.service.dto.SearchResult;
+import ai.langgraph4j.aiagent.tools.SearchTool;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사전 검색 노드 (agent.graph.mode=retrieval-first)
+ * LLM이 SearchTool을 호출하기를 기다리지 않고 사용자 입력 처리와 병렬로 하이브리드 검색을 실행한 뒤,
+ * 검색 결과를 AgentState.retrievedContext에 넣어 LlmNode가 프롬프트에 포함하도록 합니다.
+ * LLM은 한 번의 호출로 답변하며, 추가 검색이 필요할 때만 도구를 호출합니다.
+ *
+ * 검색이 timeout-ms 안에 끝나지 않거나 실패하면 사전 검색 없이 진행합니다 (도구 호출 방식과 동일).
+ * 시간 초과 시 결과만 버리며 실행 중인 검색(임베딩 HTTP, 벡터 JDBC)은 중단하지 않으므로 끝날 때까지 검색 스레드를 점유합니다.
+ * 동시에 점유할 수 있는 스레드는 pool-size, 대기 작업은 queue-capacity로 제한하고,
+ * 대기열에서 timeout-ms를 넘긴 작업은 검색을 시작하지 않고 버립니다 (agent.retrieval.active로 점유 스레드 수 확인).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetrievalNode {
+
+	private final ConsultationSearchService consultationSearchService;
+	private final SearchTool searchTool;
+	private final MeterRegistry meterRegistry;
+	private final AgentTracing agentTracing;
+
+	@Value("${agent.retrieval.counsel-top-k:10}")
+	private int counselTopK;
+
+	@Value("${agent.retrieval.law-article-top-k:10}")
+	private int lawArticleTopK;
+
+	@Value("${agent.retrieval.similarity-threshold:0.6}")
+	private double similarityThreshold;
+
+	/**
+	 * 사전 검색 최대 대기 시간 (ms, 초과 시 사전 검색 없이 LLM 호출)
+	 */
+	@Value("${agent.retrieval.timeout-ms:5000}")
+	private long timeoutMs;
+
+	@Value("${agent.retrieval.pool-size:8}")
+	private int poolSize;
+
+	@Value("${agent.retrieval.queue-capacity:200}")
+	private int queueCapacity;
+
+	private ThreadPoolExecutor retrievalExecutor;
+
+	@PostConstruct
+	void initExecutor() {
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.retrievalExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+				r -> {
+					Thread t = new Thread(r, "agent-retrieval-" + threadIndex.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+		this.retrievalExecutor.allowCoreThreadTimeOut(true);
+		Gauge.builder("agent.retrieval.active", retrievalExecutor, ThreadPoolExecutor::getActiveCount)
+				.description("사전 검색 실행 중인 스레드 수 (시간 초과 후 결과를 버린 검색 포함)")
+				.register(meterRegistry);
+	}
+
+	@PreDestroy
+	void shutdownExecutor() {
+		retrievalExecutor.shutdown();
+	}
+
+	/**
+	 * 하이브리드 검색을 백그라운드에서 시작 (입력 처리와 병렬 실행)
+	 *
+	 * @param userInput 사용자 입력 (검색 쿼리)
+	 * @return 검색 결과 Future (검색하지 않으면 빈 리스트로 완료)
+	 */
+	public CompletableFuture<List<SearchResult>> start(String userInput) {
+		if (userInput == null || userInput.isBlank()) {
+			return CompletableFuture.completedFuture(List.of());
+		}
+		String query = userInput.trim();
+		// 검색 스레드의 단계 계측을 요청 스레드의 턴 아래에 연결
+		Observation parent = agentTracing.current();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				if (System.nanoTime() - deadline > 0) {
+					// 요청 스레드가 이미 기다리기를 멈춘 작업은 검색하지 않음
+					countResult("expired");
+					return List.of();
+				}
+				Timer.Sample sample = Timer.start(meterRegistry);
+				try {
+					return agentTracing.stage("retrieval.search", parent,
+							() -> consultationSearchService.hybridSearch(query, counselTopK, lawArticleTopK,
+									similarityThreshold));
+				} finally {
+					sample.stop(meterRegistry.timer("agent.retrieval.duration"));
+				}
+			}, retrievalExecutor);
+		} catch (RejectedExecutionException e) {
+			log.warn("RetrievalNode: 사전 검색 대기열이 가득 차 이번 턴은 도구 호출 방식으로 진행합니다 - 대기열: {}",
+					retrievalExecutor.getQueue().size());
+			countResult("rejected");
+			return CompletableFuture.completedFuture(List.of());
+		}
+	}
+
+	/**
+	 * 사전 검색 결과를 기다려 상태에 반영
+	 *
+	 * @param state     현재 상태 (InputNode 처리 후)
+	 * @param retrieval start()가 반환한 Future
+	 * @return 업데이트된 상태
+	 */
+	public AgentState process(AgentState state, CompletableFuture<List<SearchResult>> retrieval) {
+		String query = state.getUserMessage() != null ? state.getUserMessage().singleText() : "";
+		try {
+			List<SearchResult> results = retrieval.get(timeoutMs, TimeUnit.MILLISECONDS);
+			if (results == null || results.isEmpty()) {
+				countResult("empty");
+				log.debug("RetrievalNode: 사전 검색 결과 없음 - {}", query);
+				return state;
+			}
+			state.setRetrievedContext(searchTool.formatSearchResults(query, results));
+			searchTool.publishRelatedReferences(results);
+			countResult("hit");
+			log.info("RetrievalNode: 사전 검색 완료 - {}건, 컨텍스트 길이: {}자",
+					results.size(), state.getRetrievedContext().length());
+		} catch (TimeoutException e) {
+			// cancel은 실행 중인 임베딩/JDBC 호출을 멈추지 않으므로 호출하지 않고 결과만 버림 (검색 스레드는 끝날 때까지 점유)
+			countResult("timeout");
+			log.warn("RetrievalNode: 사전 검색 시간 초과 ({}ms), 도구 호출 방식으로 진행합니다", timeoutMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			countResult("error");
+		} catch (Exception e) {
+			countResult("error");
+			log.warn("RetrievalNode: 사전 검색 실패, 도구 호출 방식으로 진행합니다 - 오류: {}", e.getMessage());
+		}
+		return state;
+	}
+
+	private void countResult(String result) {
+		meterRegistry.counter("agent.retrieval.requests", "result", result).increment();
+	}
+}
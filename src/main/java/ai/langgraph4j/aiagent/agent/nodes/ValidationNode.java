@@ -1,30 +1,64 @@
 package ai.langgraph4j.aiagent.agent.nodes;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.ai.chat.metadata.Usage;
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ai.langgraph4j.aiagent.agent.nodes.HeuristicValidator.Outcome;
+import ai.langgraph4j.aiagent.agent.nodes.HeuristicValidator.Verdict;
 import ai.langgraph4j.aiagent.agent.state.AgentState;
-import dev.langchain4j.data.message.AiMessage;
-import dev.langchain4j.data.message.SystemMessage;
-import dev.langchain4j.data.message.UserMessage;
+import ai.langgraph4j.aiagent.controller.dto.RelatedReference;
+import ai.langgraph4j.aiagent.service.AgentTracing;
+import ai.langgraph4j.aiagent.service.LlmAdmissionController;
+import ai.langgraph4j.aiagent.service.LlmAdmissionController.Pool;
+import ai.langgraph4j.aiagent.service.TokenEstimator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * 답변 검수 노드
  * LLM이 생성한 답변을 검수하여 품질을 평가하고 필요시 재생성을 요청합니다.
  * 
  * v2: LangGraph 기반 채팅 시스템의 답변 검수 기능
+ *
+ * 검수는 두 단계로 수행됩니다.
+ * 1. 휴리스틱 검사 (HeuristicValidator): 길이, 근거 인용, 검색 자료 겹침으로 PASS/FAIL/INCONCLUSIVE 판정
+ * 2. LLM 심사: 휴리스틱이 INCONCLUSIVE일 때만 검수 전용 모델(validationChatModel, 도구 없음)로 점수 산정
+ *
+ * 단계별 소요 시간과 판정 수는 agent.validation.tier.* 메트릭으로,
+ * LLM 심사 토큰 사용량은 agent.validation.judge.tokens 메트릭으로 노출됩니다.
  */
 @Slf4j
 @Component
 public class ValidationNode {
 
-	private final ChatModel chatModel;
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	private static final String TIER_HEURISTIC = "heuristic";
+	private static final String TIER_JUDGE = "judge";
+
+	private final ChatModel judgeModel;
+	private final HeuristicValidator heuristicValidator;
+	private final LlmAdmissionController admissionController;
+	private final TokenEstimator tokenEstimator;
+	private final MeterRegistry meterRegistry;
+	private final AgentTracing agentTracing;
+	private final BeanOutputConverter<ValidationResult> outputConverter = new BeanOutputConverter<>(
+			ValidationResult.class, OBJECT_MAPPER);
 
 	@Value("${agent.validation.enabled:true}")
 	private boolean validationEnabled;
@@ -32,17 +66,56 @@ public class ValidationNode {
 	@Value("${agent.validation.min-score:0.7}")
 	private double minScore;
 
-	public ValidationNode(@Qualifier("chatModel") ChatModel chatModel) {
-		this.chatModel = chatModel;
+	/**
+	 * 휴리스틱이 판단하지 못한 경우 LLM 심사 수행 여부 (false면 휴리스틱 점수로 판정)
+	 */
+	@Value("${agent.validation.judge.enabled:true}")
+	private boolean judgeEnabled;
+
+	/**
+	 * @param chatModel           메인 ChatModel (검수 전용 모델이 없을 때 사용)
+	 * @param validationChatModel 검수 전용 경량 모델 (AiConfig, 선택)
+	 */
+	public ValidationNode(@Qualifier("chatModel") ChatModel chatModel,
+			@Qualifier("validationChatModel") ObjectProvider<ChatModel> validationChatModel,
+			HeuristicValidator heuristicValidator,
+			LlmAdmissionController admissionController,
+			TokenEstimator tokenEstimator,
+			MeterRegistry meterRegistry,
+			AgentTracing agentTracing) {
+		this.judgeModel = validationChatModel.getIfAvailable(() -> chatModel);
+		this.heuristicValidator = heuristicValidator;
+		this.admissionController = admissionController;
+		this.tokenEstimator = tokenEstimator;
+		this.meterRegistry = meterRegistry;
+		this.agentTracing = agentTracing;
 	}
 
 	/**
-	 * 답변 검수 수행
+	 * 검수 활성화 여부
+	 */
+	public boolean isEnabled() {
+		return validationEnabled;
+	}
+
+	/**
+	 * 답변 검수 수행 (검색 자료 없이)
 	 * 
 	 * @param state 현재 상태
 	 * @return 업데이트된 상태 (검수 결과 포함)
 	 */
 	public AgentState validate(AgentState state) {
+		return validate(state, Collections.emptyList());
+	}
+
+	/**
+	 * 답변 검수 수행
+	 *
+	 * @param state       현재 상태
+	 * @param relatedRefs 이번 턴 검색 도구가 찾은 관련 자료 (휴리스틱 겹침 검사용)
+	 * @return 업데이트된 상태 (검수 결과 포함)
+	 */
+	public AgentState validate(AgentState state, List<RelatedReference> relatedRefs) {
 		if (!validationEnabled) {
 			log.debug("ValidationNode: 검수가 비활성화되어 있음");
 			state.getMetadata().put("validationSkipped", true);
@@ -59,16 +132,28 @@ public class ValidationNode {
 			String aiResponse = state.getAiMessage().text();
 			String userQuery = state.getUserMessage() != null ? state.getUserMessage().singleText() : "";
 
-			// 검수 프롬프트 생성
-			String validationPrompt = buildValidationPrompt(userQuery, aiResponse);
+			// 1단계: 휴리스틱 검사
+			long heuristicStart = System.nanoTime();
+			Verdict verdict = heuristicValidator.evaluate(userQuery, aiResponse, relatedRefs);
+			recordTier(TIER_HEURISTIC, verdict.outcome().name(), System.nanoTime() - heuristicStart);
 
-			// 검수 수행 (간단한 LLM 호출)
-			String validationResult = performValidation(validationPrompt);
-
-			// 검수 결과 파싱
-			ValidationResult result = parseValidationResult(validationResult);
+			ValidationResult result;
+			String tier;
+			if (verdict.outcome() != Outcome.INCONCLUSIVE || !judgeEnabled) {
+				result = fromVerdict(verdict);
+				tier = TIER_HEURISTIC;
+			} else {
+				// 2단계: LLM 심사 (휴리스틱으로 판단하지 못한 경우만)
+				long judgeStart = System.nanoTime();
+				String validationPrompt = buildValidationPrompt(userQuery, aiResponse);
+				String validationResult = performValidation(validationPrompt);
+				result = parseValidationResult(validationResult);
+				recordTier(TIER_JUDGE, result.passed ? "PASS" : "FAIL", System.nanoTime() - judgeStart);
+				tier = TIER_JUDGE;
+			}
 
 			// 검수 결과를 메타데이터에 저장
+			state.getMetadata().put("validationTier", tier);
 			state.getMetadata().put("validationScore", result.score);
 			state.getMetadata().put("validationPassed", result.passed);
 			state.getMetadata().put("validationFeedback", result.feedback);
@@ -102,20 +187,15 @@ public class ValidationNode {
 			"답변의 품질을 평가하고 검수해주세요.\n\n" +
 			"사용자 질문: %s\n\n" +
 			"AI 답변: %s\n\n" +
-			"다음 형식으로 JSON 응답을 제공해주세요:\n" +
-			"{\n" +
-			"  \"score\": 0.0-1.0 (답변 품질 점수),\n" +
-			"  \"passed\": true/false (최소 점수 이상인지),\n" +
-			"  \"feedback\": \"검수 피드백\",\n" +
-			"  \"needsRegeneration\": true/false (재생성이 필요한지)\n" +
-			"}\n\n" +
+			"score는 0.0-1.0 (답변 품질 점수), passed는 최소 점수 이상인지, " +
+			"feedback은 검수 피드백, needsRegeneration은 재생성이 필요한지입니다.\n\n" +
 			"평가 기준:\n" +
 			"- 정확성: 답변이 정확한 정보를 제공하는가?\n" +
 			"- 관련성: 답변이 질문과 관련이 있는가?\n" +
 			"- 완전성: 답변이 질문에 충분히 답하는가?\n" +
 			"- 명확성: 답변이 명확하고 이해하기 쉬운가?\n" +
-			"- 적절성: 답변이 적절한 톤과 스타일인가?",
-			userQuery, aiResponse
+			"- 적절성: 답변이 적절한 톤과 스타일인가?\n\n%s",
+			userQuery, aiResponse, outputConverter.getFormat()
 		);
 	}
 
@@ -123,9 +203,7 @@ public class ValidationNode {
 	 * 검수 수행 (LLM 호출)
 	 */
 	private String performValidation(String prompt) {
-		// 간단한 LLM 호출로 검수 수행
-		// 실제로는 별도의 검수 전용 모델을 사용할 수도 있음
-		// Spring AI ChatModel을 직접 사용
+		// 검수 전용 모델(도구 없음)이 있으면 사용, 없으면 메인 ChatModel 사용
 		org.springframework.ai.chat.messages.SystemMessage systemMsg = 
 			new org.springframework.ai.chat.messages.SystemMessage(
 				"당신은 AI 답변 검수 전문가입니다. 주어진 답변을 객관적으로 평가하고 JSON 형식으로 결과를 제공하세요.");
@@ -135,18 +213,77 @@ public class ValidationNode {
 		org.springframework.ai.chat.prompt.Prompt springPrompt = 
 			new org.springframework.ai.chat.prompt.Prompt(List.of(systemMsg, userMsg));
 		
-		org.springframework.ai.chat.model.ChatResponse response = chatModel.call(springPrompt);
+		org.springframework.ai.chat.model.ChatResponse response = admissionController.call(Pool.VALIDATION,
+				tokenEstimator.estimate(prompt), () -> judgeModel.call(springPrompt));
+		recordJudgeUsage(response);
 		return response.getResult().getOutput().getText();
 	}
 
+	/**
+	 * 휴리스틱 판정을 검수 결과로 변환
+	 */
+	private ValidationResult fromVerdict(Verdict verdict) {
+		ValidationResult result = new ValidationResult();
+		result.score = verdict.score();
+		result.feedback = verdict.feedback();
+		result.passed = switch (verdict.outcome()) {
+			case PASS -> true;
+			case FAIL -> false;
+			case INCONCLUSIVE -> verdict.score() >= minScore;
+		};
+		result.needsRegeneration = verdict.needsRegeneration() || !result.passed;
+		return result;
+	}
+
+	/**
+	 * 단계별 소요 시간 및 판정 수 기록
+	 */
+	private void recordTier(String tier, String outcome, long elapsedNanos) {
+		Timer.builder("agent.validation.tier.duration")
+				.description("답변 검수 단계별 소요 시간")
+				.tag("tier", tier)
+				.register(meterRegistry)
+				.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		Counter.builder("agent.validation.tier.outcome")
+				.description("답변 검수 단계별 판정 수")
+				.tag("tier", tier)
+				.tag("outcome", outcome)
+				.register(meterRegistry)
+				.increment();
+	}
+
+	/**
+	 * LLM 심사 토큰 사용량 기록 (비용 추적용)
+	 */
+	private void recordJudgeUsage(org.springframework.ai.chat.model.ChatResponse response) {
+		agentTracing.recordTokens("validation", response);
+		Usage usage = response.getMetadata() != null ? response.getMetadata().getUsage() : null;
+		if (usage == null) {
+			return;
+		}
+		if (usage.getPromptTokens() != null) {
+			Counter.builder("agent.validation.judge.tokens")
+					.description("LLM 심사 토큰 사용량")
+					.tag("type", "prompt")
+					.register(meterRegistry)
+					.increment(usage.getPromptTokens());
+		}
+		if (usage.getCompletionTokens() != null) {
+			Counter.builder("agent.validation.judge.tokens")
+					.description("LLM 심사 토큰 사용량")
+					.tag("type", "completion")
+					.register(meterRegistry)
+					.increment(usage.getCompletionTokens());
+		}
+	}
+
 	/**
 	 * 검수 결과 파싱
 	 */
 	private ValidationResult parseValidationResult(String validationResult) {
 		try {
-			// JSON 파싱 시도
-			com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-			ValidationResult result = mapper.readValue(validationResult, ValidationResult.class);
+			// 구조화 출력 파싱 (코드 블록 제거 포함)
+			ValidationResult result = outputConverter.convert(validationResult);
 			
 			// 기본값 설정
 			if (result.score < 0) result.score = 0.0;
@@ -184,7 +321,7 @@ public class ValidationNode {
 	@lombok.NoArgsConstructor
 	@lombok.AllArgsConstructor
 	@com.fasterxml.jackson.annotation.JsonIgnoreProperties(ignoreUnknown = true)
-	private static class ValidationResult {
+	static class ValidationResult {
 		@com.fasterxml.jackson.annotation.JsonProperty("score")
 		private double score = 0.0;
 		
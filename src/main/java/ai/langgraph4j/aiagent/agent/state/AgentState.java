@@ -86,6 +86,16 @@ public class AgentState {
 	 */
 	private String systemInstruction;
 
+	/**
+	 * 이전 대화 요약 (히스토리에서 제외된 오래된 대화를 요약한 내용, 없으면 null)
+	 */
+	private String historySummary;
+
+	/**
+	 * 사전 검색 결과 (retrieval-first 모드에서 RetrievalNode가 포맷팅한 검색 자료, 없으면 null)
+	 */
+	private String retrievedContext;
+
 	/**
 	 * 반복 횟수 증가
 	 */
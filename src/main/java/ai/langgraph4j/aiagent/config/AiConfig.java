@@ -17,6 +17,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 import com.google.genai.Client;
+import com.google.genai.types.ClientOptions;
+import com.google.genai.types.HttpOptions;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,8 +40,35 @@ public class AiConfig {
 	@Value("${spring.ai.google.genai.chat.options.temperature:0.7}")
 	private Double temperature;
 
+	@Value("${agent.validation.judge.model:gemini-2.5-flash-lite}")
+	private String validationModel;
+
+	@Value("${chat.history.summary.model:gemini-2.5-flash-lite}")
+	private String summaryModel;
+
+	/**
+	 * Gemini HTTP 요청 타임아웃 (ms, 연결 + 응답 전체)
+	 */
+	@Value("${gemini.http.timeout-ms:120000}")
+	private int httpTimeoutMs;
+
+	/**
+	 * Gemini HTTP 최대 동시 연결 수 (채팅/검수/요약/임베딩 공용)
+	 */
+	@Value("${gemini.http.max-connections:64}")
+	private int httpMaxConnections;
+
+	/**
+	 * Gemini HTTP 호스트당 최대 동시 연결 수 (generativelanguage.googleapis.com 단일 호스트)
+	 */
+	@Value("${gemini.http.max-connections-per-host:64}")
+	private int httpMaxConnectionsPerHost;
+
 	/**
 	 * Google GenAI Client Bean 생성
+	 * 채팅/검수/요약 ChatModel과 EmbeddingModel이 이 Client 하나를 공유하므로
+	 * HTTP 연결 풀도 하나로 유지되어 모델별 TLS 핸드셰이크와 연결 재생성이 줄어듭니다.
+	 * (SDK 내부 HTTP 클라이언트가 TLS ALPN으로 HTTP/2를 협상하며, 유휴 연결은 keep-alive로 재사용)
 	 */
 	@Bean
 	@ConditionalOnMissingBean(Client.class)
@@ -69,8 +98,18 @@ public class AiConfig {
 		log.info("API Key 길이: {} 문자", key.length());
 		log.info("================================");
 		
+		log.info("Gemini HTTP 설정 - 타임아웃: {}ms, 최대 연결: {}, 호스트당 최대 연결: {}",
+				httpTimeoutMs, httpMaxConnections, httpMaxConnectionsPerHost);
+
 		return Client.builder()
 				.apiKey(key)
+				.httpOptions(HttpOptions.builder()
+						.timeout(httpTimeoutMs)
+						.build())
+				.clientOptions(ClientOptions.builder()
+						.maxConnections(httpMaxConnections)
+						.maxConnectionsPerHost(httpMaxConnectionsPerHost)
+						.build())
 				.build();
 	}
 	
@@ -167,6 +206,48 @@ public class AiConfig {
 				.build();
 	}
 
+	/**
+	 * 답변 검수 전용 ChatModel Bean 생성
+	 * 휴리스틱 검사로 판단하지 못한 답변만 심사하므로 경량 모델을 사용하며,
+	 * 도구 호출/thinking 없이 JSON 응답만 요청합니다.
+	 */
+	@Bean
+	@ConditionalOnBean(Client.class)
+	public ChatModel validationChatModel(Client genAiClient) {
+		GoogleGenAiChatOptions options = GoogleGenAiChatOptions.builder()
+				.model(validationModel)
+				.temperature(0.0)
+				.responseMimeType("application/json")
+				.build();
+
+		log.info("검수 전용 ChatModel 초기화 - 모델: {}", validationModel);
+
+		return GoogleGenAiChatModel.builder()
+				.genAiClient(genAiClient)
+				.defaultOptions(options)
+				.build();
+	}
+
+	/**
+	 * 대화 요약 전용 ChatModel Bean 생성
+	 * 응답 전달 후 백그라운드에서 오래된 대화를 요약하므로 경량 모델을 사용하며, 도구 호출 없이 텍스트만 생성합니다.
+	 */
+	@Bean
+	@ConditionalOnBean(Client.class)
+	public ChatModel summaryChatModel(Client genAiClient) {
+		GoogleGenAiChatOptions options = GoogleGenAiChatOptions.builder()
+				.model(summaryModel)
+				.temperature(0.2)
+				.build();
+
+		log.info("대화 요약 전용 ChatModel 초기화 - 모델: {}", summaryModel);
+
+		return GoogleGenAiChatModel.builder()
+				.genAiClient(genAiClient)
+				.defaultOptions(options)
+				.build();
+	}
+
 	/**
 	 * ChatClient Bean 생성
 	 * LangGraph4j에서 사용할 ChatClient를 제공합니다.
@@ -14,6 +14,9 @@ import org.springframework.context.annotation.Primary;
 
 import com.google.genai.Client;
 
+import ai.langgraph4j.aiagent.service.AdmissionControlledEmbeddingModel;
+import ai.langgraph4j.aiagent.service.LlmAdmissionController;
+import ai.langgraph4j.aiagent.service.TokenEstimator;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -27,9 +30,6 @@ import lombok.extern.slf4j.Slf4j;
 @Configuration
 public class EmbeddingConfig {
 
-	@Value("${spring.ai.google.genai.api-key:}")
-	private String apiKey;
-
 	@Value("${spring.ai.google.genai.embedding.text.options.model:gemini-embedding-001}")
 	private String model;
 
@@ -43,41 +43,25 @@ public class EmbeddingConfig {
 	 * Embedding Model Bean 생성
 	 * dimensions를 명시적으로 설정하여 1536 차원을 보장합니다.
 	 * 
-	 * @param genAiClient Google GenAI Client (옵션, API 키를 직접 사용할 수도 있음)
+	 * @param genAiClient         Google GenAI Client (AiConfig, 채팅 모델과 공유)
+	 * @param admissionController LLM 입장 제어 (embedding 풀)
+	 * @param tokenEstimator      입장 제어 토큰 예산 차감용
 	 * @return EmbeddingModel
 	 */
 	@Bean
 	@Primary
 	@ConditionalOnMissingBean(name = "embeddingModel")
-	public EmbeddingModel embeddingModel(Client genAiClient) {
+	public EmbeddingModel embeddingModel(Client genAiClient, LlmAdmissionController admissionController,
+			TokenEstimator tokenEstimator) {
 		log.info("=== Spring AI EmbeddingModel 초기화 (수동 생성) ===");
 		log.info("사용 모델: {}", model);
 		log.info("Task Type: {}", taskType);
 		log.info("Dimensions: {} (명시적으로 설정됨)", dimensions);
 		log.info("=====================================");
 
-		// API 키를 사용하여 ConnectionDetails 생성
-		String key = apiKey;
-		String keySource = "application.properties (spring.ai.google.genai.api-key)";
-		if (key == null || key.isEmpty() || key.trim().isEmpty()) {
-			key = System.getenv("GEMINI_API_KEY");
-			keySource = "Environment Variable (GEMINI_API_KEY)";
-		}
-		if (key == null || key.isEmpty()) {
-			throw new IllegalStateException(
-					"Google GenAI API key is not configured. Please set spring.ai.google.genai.api-key or GEMINI_API_KEY environment variable.");
-		}
-		
-		// API 키 로그 (보안을 위해 일부만 표시)
-		String maskedKey = maskApiKey(key);
-		log.info("=== Google GenAI Embedding API Key 설정 ===");
-		log.info("API Key 소스: {}", keySource);
-		log.info("API Key (마스킹): {}", maskedKey);
-		log.info("API Key 길이: {} 문자", key.length());
-		log.info("==========================================");
-
+		// AiConfig의 Client를 공유하여 채팅 모델과 같은 HTTP 연결 풀 사용 (API 키도 Client 설정을 따름)
 		GoogleGenAiEmbeddingConnectionDetails connectionDetails = GoogleGenAiEmbeddingConnectionDetails.builder()
-				.apiKey(key)
+				.genAiClient(genAiClient)
 				.build();
 
 		GoogleGenAiTextEmbeddingOptions options = GoogleGenAiTextEmbeddingOptions.builder()
@@ -86,20 +70,7 @@ public class EmbeddingConfig {
 				.dimensions(dimensions) // 1536 차원을 명시적으로 설정
 				.build();
 
-		return new GoogleGenAiTextEmbeddingModel(connectionDetails, options);
-	}
-	
-	/**
-	 * API 키를 마스킹하여 로그에 안전하게 출력
-	 * 앞 8자리와 뒤 4자리만 표시하고 나머지는 *로 처리
-	 */
-	private String maskApiKey(String apiKey) {
-		if (apiKey == null || apiKey.length() <= 12) {
-			return "***";
-		}
-		String prefix = apiKey.substring(0, 8);
-		String suffix = apiKey.substring(apiKey.length() - 4);
-		int maskedLength = apiKey.length() - 12;
-		return prefix + "*".repeat(maskedLength) + suffix;
+		return new AdmissionControlledEmbeddingModel(
+				new GoogleGenAiTextEmbeddingModel(connectionDetails, options), admissionController, tokenEstimator);
 	}
 }
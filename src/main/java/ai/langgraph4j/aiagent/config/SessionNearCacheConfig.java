@@ -0,0 +1,33 @@
+package ai.langgraph4j.aiagent.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import ai.langgraph4j.aiagent.service.SessionNearCache;
+
+/**
+ * 세션 니어 캐시 무효화 채널 구독 설정
+ * chat.session.near-cache.enabled=true일 때만 Redis pub/sub 리스너를 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.session.near-cache.enabled", havingValue = "true")
+public class SessionNearCacheConfig {
+
+	@Bean
+	public RedisMessageListenerContainer sessionNearCacheListenerContainer(RedisConnectionFactory connectionFactory,
+			SessionNearCache sessionNearCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(
+				(message, pattern) -> sessionNearCache
+						.onInvalidationMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+				new ChannelTopic(SessionNearCache.INVALIDATION_CHANNEL));
+		return container;
+	}
+}
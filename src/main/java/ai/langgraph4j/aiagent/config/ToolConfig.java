@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Configuration;
 
 import ai.langgraph4j.aiagent.tools.CalculatorTool;
 import ai.langgraph4j.aiagent.tools.SearchTool;
+import ai.langgraph4j.aiagent.tools.ToolCallCounter;
 import ai.langgraph4j.aiagent.tools.WeatherTool;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -31,11 +32,13 @@ public class ToolConfig {
 	private final CalculatorTool calculatorTool;
 	private final SearchTool searchTool;
 	private final WeatherTool weatherTool;
+	private final ToolCallCounter toolCallCounter;
 
 	/**
 	 * 모든 Tool을 ToolCallback 리스트로 등록
 	 * 
 	 * @Tool 어노테이션이 적용된 메서드들을 MethodToolCallback으로 변환합니다.
+	 * 실행 횟수는 ToolCallCounter로 집계합니다 (LlmNode의 토큰 추정 보정 대상 판단용).
 	 */
 	@Bean
 	@SneakyThrows
@@ -66,6 +69,6 @@ public class ToolConfig {
 				.toolObject(weatherTool)
 				.build());
 
-		return callbacks;
+		return callbacks.stream().map(toolCallCounter::counting).toList();
 	}
 }
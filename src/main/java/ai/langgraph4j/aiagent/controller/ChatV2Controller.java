@@ -19,6 +19,7 @@ import ai.langgraph4j.aiagent.controller.dto.ErrorResponse;
 import ai.langgraph4j.aiagent.parser.ParserParam;
 import ai.langgraph4j.aiagent.parser.ParserReturnType;
 import ai.langgraph4j.aiagent.parser.ParserService;
+import ai.langgraph4j.aiagent.service.AnswerValidationService;
 import ai.langgraph4j.aiagent.service.ChatSessionPersistenceService;
 import ai.langgraph4j.aiagent.service.ChatV2Service;
 import jakarta.validation.Valid;
@@ -41,9 +42,16 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ChatV2Controller {
 
+	/** 세션 메시지 조회 최대 페이지 크기 */
+	private static final int MAX_MESSAGE_PAGE_SIZE = 200;
+
+	/** 세션 목록 조회 최대 페이지 크기 */
+	private static final int MAX_SESSION_PAGE_SIZE = 200;
+
 	private final ChatV2Service chatV2Service;
 	private final ChatSessionPersistenceService chatSessionPersistenceService;
 	private final ParserService parserService;
+	private final AnswerValidationService answerValidationService;
 
 	/**
 	 * 채팅 실행 (비스트리밍)
@@ -136,28 +144,55 @@ public class ChatV2Controller {
 	}
 
 	/**
-	 * 세션 목록 조회 (왼쪽 탭용, 최신순)
+	 * 세션 목록 조회 (왼쪽 탭용, 최신순, keyset 페이징)
 	 *
-	 * @param page 페이지 (0부터)
-	 * @param size 페이지 크기
-	 * @return 세션 목록
+	 * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+	 * @param size   페이지 크기 (최대 200)
+	 * @return 세션 목록 + nextCursor (마지막 페이지면 null)
 	 */
 	@GetMapping("/sessions")
 	public ResponseEntity<?> listSessions(
-			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "cursor", required = false) String cursor,
 			@RequestParam(name = "size", defaultValue = "50") int size) {
-		return ResponseEntity.ok(chatSessionPersistenceService.listSessions(page, size));
+		int pageSize = Math.max(1, Math.min(size, MAX_SESSION_PAGE_SIZE));
+		try {
+			return ResponseEntity.ok(chatSessionPersistenceService.listSessions(cursor, pageSize));
+		} catch (IllegalArgumentException e) {
+			ErrorResponse errorResponse = ErrorResponse.builder()
+					.errorCode("INVALID_CURSOR")
+					.message(e.getMessage())
+					.build();
+			return ResponseEntity.badRequest().body(errorResponse);
+		}
 	}
 
 	/**
-	 * 세션의 대화 히스토리 조회
+	 * 세션의 대화 히스토리 조회 (최근 메시지부터 커서 페이징)
 	 *
 	 * @param sessionId 세션 ID (예: session-uuid)
-	 * @return 세션 정보 + 메시지 목록
+	 * @param before    이전 응답의 nextCursor (없으면 가장 최근 메시지부터)
+	 * @param limit     최대 메시지 수 (최대 200)
+	 * @return 세션 정보 + 메시지 목록(시간순) + nextCursor
 	 */
 	@GetMapping("/sessions/{sessionId}")
-	public ResponseEntity<?> getSessionWithMessages(@PathVariable String sessionId) {
-		return chatSessionPersistenceService.getSessionWithMessages(sessionId)
+	public ResponseEntity<?> getSessionWithMessages(@PathVariable String sessionId,
+			@RequestParam(name = "before", required = false) Integer before,
+			@RequestParam(name = "limit", defaultValue = "50") int limit) {
+		int pageSize = Math.max(1, Math.min(limit, MAX_MESSAGE_PAGE_SIZE));
+		return chatSessionPersistenceService.getSessionWithMessages(sessionId, before, pageSize)
+				.map(ResponseEntity::ok)
+				.orElse(ResponseEntity.notFound().build());
+	}
+
+	/**
+	 * 비동기 검수 결과 조회 (agent.validation.mode=async)
+	 *
+	 * @param validationId 응답 또는 validationPending 이벤트로 전달된 검수 ID
+	 * @return 검수 결과 (진행 중이거나 만료되었으면 404)
+	 */
+	@GetMapping("/validations/{validationId}")
+	public ResponseEntity<?> getValidation(@PathVariable String validationId) {
+		return answerValidationService.findResult(validationId)
 				.map(ResponseEntity::ok)
 				.orElse(ResponseEntity.notFound().build());
 	}
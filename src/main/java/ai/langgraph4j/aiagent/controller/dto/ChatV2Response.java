@@ -33,6 +33,11 @@ public class ChatV2Response {
 	 */
 	private ValidationResult validation;
 
+	/**
+	 * 비동기 검수 ID (agent.validation.mode=async 시, GET /api/v2/chat/validations/{validationId}로 조회)
+	 */
+	private String validationId;
+
 	/**
 	 * 실행 시간 (초)
 	 */
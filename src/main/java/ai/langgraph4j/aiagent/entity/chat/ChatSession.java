@@ -54,6 +54,12 @@ public class ChatSession {
 	@Column(name = "title", nullable = false, length = 500)
 	private String title;
 
+	/**
+	 * 저장된 메시지 수 (다음 sequence_order). DB에서 UPDATE ... RETURNING으로만 증가시키므로 JPA로 쓰지 않음
+	 */
+	@Column(name = "message_count", nullable = false, insertable = false, updatable = false)
+	private int messageCount;
+
 	@CreationTimestamp
 	@Column(name = "created_at", updatable = false)
 	private LocalDateTime createdAt;
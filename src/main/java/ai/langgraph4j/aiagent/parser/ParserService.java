@@ -1,6 +1,10 @@
 package ai.langgraph4j.aiagent.parser;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -162,6 +166,28 @@ public class ParserService {
         return s;
     }
 
+    /**
+     * 텍스트 안에서 예규/판례(yp) 번호를 찾아 등장 순서대로 반환한다 (parseYp 검증 통과분만, 공백 제거, 중복 제거).
+     * 예: "조심 2018전1149 결정 내용" → ["조심2018전1149"]
+     *
+     * @param text 원본 텍스트 (null이면 빈 리스트)
+     * @return yp 번호 목록
+     */
+    public List<String> findYpReferences(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> found = new LinkedHashSet<>();
+        Matcher m = YP_FIND_IN_TEXT.matcher(text);
+        while (m.find()) {
+            String yp = m.group(0);
+            if (parseYp(yp).isMatched()) {
+                found.add(normalizeYpInput(yp).replaceAll("\\s+", ""));
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
     /** 편의: yp 형식 여부만 필요할 때 */
     public boolean isYpFormat(String raw) {
         return parseYp(raw).isMatched();
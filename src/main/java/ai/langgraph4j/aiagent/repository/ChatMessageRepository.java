@@ -3,6 +3,7 @@ package ai.langgraph4j.aiagent.repository;
 import java.util.List;
 
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -19,5 +20,14 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
 	List<ChatMessage> findByChatSessionOrderBySequenceOrderAsc(ChatSession chatSession);
 
-	long countByChatSession(ChatSession chatSession);
+	/**
+	 * 최근 메시지부터 조회 (개수는 Pageable로 제한, (chat_session_id, sequence_order) 인덱스 역방향 스캔)
+	 */
+	List<ChatMessage> findByChatSessionOrderBySequenceOrderDesc(ChatSession chatSession, Pageable pageable);
+
+	/**
+	 * 커서(sequenceOrder) 이전 메시지를 최근 것부터 조회 (이전 대화 더 보기)
+	 */
+	List<ChatMessage> findByChatSessionAndSequenceOrderLessThanOrderBySequenceOrderDesc(ChatSession chatSession,
+			int sequenceOrder, Pageable pageable);
 }
@@ -1,10 +1,13 @@
 package ai.langgraph4j.aiagent.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import ai.langgraph4j.aiagent.entity.chat.ChatSession;
@@ -20,7 +23,41 @@ public interface ChatSessionRepository extends JpaRepository<ChatSession, Long>
 	Optional<ChatSession> findBySessionId(String sessionId);
 
 	/**
-	 * 최신순 세션 목록 (왼쪽 탭용)
+	 * 최신순 세션 목록 첫 페이지 (왼쪽 탭용, idx_chat_session_updated_at_id 인덱스 순서)
 	 */
-	List<ChatSession> findAllByOrderByUpdatedAtDesc(org.springframework.data.domain.Pageable pageable);
+	@Query(value = """
+			SELECT id, session_id AS "sessionId", title, created_at AS "createdAt", updated_at AS "updatedAt"
+			FROM chat_session
+			ORDER BY updated_at DESC, id DESC
+			LIMIT :size
+			""", nativeQuery = true)
+	List<SessionListItem> findLatest(@Param("size") int size);
+
+	/**
+	 * 최신순 세션 목록 다음 페이지 (keyset: 이전 페이지 마지막 (updated_at, id) 이후)
+	 */
+	@Query(value = """
+			SELECT id, session_id AS "sessionId", title, created_at AS "createdAt", updated_at AS "updatedAt"
+			FROM chat_session
+			WHERE (updated_at, id) < (:updatedAt, :id)
+			ORDER BY updated_at DESC, id DESC
+			LIMIT :size
+			""", nativeQuery = true)
+	List<SessionListItem> findLatestBefore(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") long id,
+			@Param("size") int size);
+
+	/**
+	 * 세션 목록 프로젝션 (메시지 컬렉션 등 엔티티 전체를 로드하지 않음)
+	 */
+	interface SessionListItem {
+		Long getId();
+
+		String getSessionId();
+
+		String getTitle();
+
+		LocalDateTime getCreatedAt();
+
+		LocalDateTime getUpdatedAt();
+	}
 }
@@ -0,0 +1,47 @@
+package ai.langgraph4j.aiagent.service;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import ai.langgraph4j.aiagent.service.LlmAdmissionController.Pool;
+
+/**
+ * 입장 제어가 적용된 EmbeddingModel (EmbeddingConfig에서 실제 모델을 감쌈)
+ * 검색 쿼리 임베딩과 적재(VectorStore.add) 임베딩이 같은 embedding 풀을 공유하며,
+ * 적재 작업은 LlmAdmissionController.runAsBatch로 배치 우선순위가 적용됩니다.
+ */
+public class AdmissionControlledEmbeddingModel implements EmbeddingModel {
+
+	private final EmbeddingModel delegate;
+	private final LlmAdmissionController admissionController;
+	private final TokenEstimator tokenEstimator;
+
+	public AdmissionControlledEmbeddingModel(EmbeddingModel delegate, LlmAdmissionController admissionController,
+			TokenEstimator tokenEstimator) {
+		this.delegate = delegate;
+		this.admissionController = admissionController;
+		this.tokenEstimator = tokenEstimator;
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		long tokens = 0;
+		for (String text : request.getInstructions()) {
+			tokens += tokenEstimator.estimate(text);
+		}
+		return admissionController.call(Pool.EMBEDDING, tokens, () -> delegate.call(request));
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		return admissionController.call(Pool.EMBEDDING, tokenEstimator.estimate(document.getText()),
+				() -> delegate.embed(document));
+	}
+
+	@Override
+	public int dimensions() {
+		return delegate.dimensions();
+	}
+}
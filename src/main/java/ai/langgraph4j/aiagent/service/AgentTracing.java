@@ -0,0 +1,123 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 턴 단계별 계측 (Micrometer Observation)
+ * 턴 전체(agent.turn) 아래에 입력 처리, 검색 브랜치, LLM, 도구, 검수, Redis/DB 저장 단계(agent.stage)를
+ * 중첩 Observation으로 기록합니다.
+ *
+ * - 타이머: agent.turn{mode}, agent.stage{stage} (Actuator /actuator/metrics, 백분위는 application.properties)
+ * - 트레이싱 브리지(micrometer-tracing)가 있으면 같은 구조가 턴 단위 span 트리로 내보내짐
+ * - 다른 스레드에서 실행되는 단계는 parent를 명시해 같은 트리에 연결
+ * - 토큰: agent.llm.tokens{model, source, type} (ChatResponse Usage 실제값)
+ */
+@Component
+@RequiredArgsConstructor
+public class AgentTracing {
+
+	public static final String TURN = "agent.turn";
+	public static final String STAGE = "agent.stage";
+
+	private final ObservationRegistry observationRegistry;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 턴 전체 계측
+	 *
+	 * @param mode sync / streaming
+	 */
+	public <T> T turn(String mode, Supplier<T> work) {
+		return Observation.createNotStarted(TURN, observationRegistry)
+				.contextualName("chat turn " + mode)
+				.lowCardinalityKeyValue("mode", mode)
+				.observe(work);
+	}
+
+	/**
+	 * 턴 전체 계측 (비동기 실행용 Runnable로 감싸기)
+	 */
+	public Runnable turn(String mode, Runnable work) {
+		return () -> Observation.createNotStarted(TURN, observationRegistry)
+				.contextualName("chat turn " + mode)
+				.lowCardinalityKeyValue("mode", mode)
+				.observe(work);
+	}
+
+	/**
+	 * 현재 스레드의 Observation 아래에서 단계 계측
+	 */
+	public <T> T stage(String stage, Supplier<T> work) {
+		return stage(stage, null, work);
+	}
+
+	public void stage(String stage, Runnable work) {
+		stage(stage, () -> {
+			work.run();
+			return null;
+		});
+	}
+
+	/**
+	 * 다른 스레드에서 실행되는 단계 계측 (parent가 null이면 현재 스레드의 Observation 사용)
+	 */
+	public <T> T stage(String stage, Observation parent, Supplier<T> work) {
+		return Observation.createNotStarted(STAGE, observationRegistry)
+				.contextualName(stage)
+				.lowCardinalityKeyValue("stage", stage)
+				.parentObservation(parent != null ? parent : observationRegistry.getCurrentObservation())
+				.observe(work);
+	}
+
+	/**
+	 * 현재 스레드의 Observation (다른 스레드로 넘길 parent, 없으면 null)
+	 */
+	public Observation current() {
+		return observationRegistry.getCurrentObservation();
+	}
+
+	/**
+	 * ChatResponse의 실제 토큰 사용량 기록
+	 *
+	 * @param source chat / validation / summary
+	 */
+	public void recordTokens(String source, ChatResponse response) {
+		if (response == null || response.getMetadata() == null) {
+			return;
+		}
+		Usage usage = response.getMetadata().getUsage();
+		if (usage == null) {
+			return;
+		}
+		String model = response.getMetadata().getModel();
+		if (model == null || model.isBlank()) {
+			model = "unknown";
+		}
+		if (usage.getPromptTokens() != null) {
+			countTokens(model, source, "prompt", usage.getPromptTokens());
+		}
+		if (usage.getCompletionTokens() != null) {
+			countTokens(model, source, "completion", usage.getCompletionTokens());
+		}
+	}
+
+	private void countTokens(String model, String source, String type, long tokens) {
+		Counter.builder("agent.llm.tokens")
+				.description("LLM 토큰 사용량 (Usage 실제값)")
+				.tag("model", model)
+				.tag("source", source)
+				.tag("type", type)
+				.register(meterRegistry)
+				.increment(tokens);
+	}
+}
@@ -0,0 +1,251 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ai.langgraph4j.aiagent.agent.nodes.ValidationNode;
+import ai.langgraph4j.aiagent.agent.state.AgentState;
+import ai.langgraph4j.aiagent.controller.dto.ChatV2Response;
+import ai.langgraph4j.aiagent.controller.dto.RelatedReference;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 답변 검수 실행 서비스
+ * ValidationNode 호출 시점(동기/비동기)과 샘플링 비율을 결정합니다.
+ *
+ * - sync: 답변 생성 후 검수를 마치고 응답/complete 이벤트를 보냅니다 (기존 동작)
+ * - async: 응답을 먼저 보내고 검수는 별도 스레드에서 수행합니다.
+ *   결과는 스트리밍의 늦은 validation 이벤트 또는 GET /api/v2/chat/validations/{validationId}로 전달됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerValidationService {
+
+	public static final String METADATA_VALIDATION_SCORE = "validationScore";
+	public static final String METADATA_VALIDATION_PASSED = "validationPassed";
+	public static final String METADATA_VALIDATION_FEEDBACK = "validationFeedback";
+	public static final String METADATA_VALIDATION_NEEDS_REGENERATION = "validationNeedsRegeneration";
+	private static final String METADATA_VALIDATION_SAMPLED_OUT = "validationSampledOut";
+
+	private static final String VALIDATION_KEY_PREFIX = "chat:validation:";
+	private static final long VALIDATION_TTL_HOURS = 1; // 비동기 검수 결과 보관 시간
+
+	private final ValidationNode validationNode;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 검수 실행 모드 (sync: 응답 전 검수, async: 응답 후 백그라운드 검수)
+	 */
+	@Value("${agent.validation.mode:sync}")
+	private String validationMode;
+
+	/**
+	 * 검수 샘플링 비율 (0.0 ~ 1.0, 1.0이면 모든 턴 검수)
+	 */
+	@Value("${agent.validation.sample-rate:1.0}")
+	private double sampleRate;
+
+	/**
+	 * 비동기 검수 스레드 수
+	 */
+	@Value("${agent.validation.async.pool-size:4}")
+	private int asyncPoolSize;
+
+	/**
+	 * 비동기 검수 대기열 크기 (초과 시 해당 턴 검수 생략)
+	 */
+	@Value("${agent.validation.async.queue-capacity:200}")
+	private int asyncQueueCapacity;
+
+	/**
+	 * 비동기 검수 최대 대기 시간 (초)
+	 */
+	@Value("${agent.validation.async.timeout-seconds:60}")
+	private long asyncTimeoutSeconds;
+
+	private ThreadPoolExecutor validationExecutor;
+
+	@PostConstruct
+	void initExecutor() {
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.validationExecutor = new ThreadPoolExecutor(asyncPoolSize, asyncPoolSize, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, asyncQueueCapacity)),
+				r -> {
+					Thread t = new Thread(r, "answer-validation-" + threadIndex.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+		this.validationExecutor.allowCoreThreadTimeOut(true);
+		log.info("AnswerValidationService: 검수 모드: {}, 샘플링 비율: {}", validationMode, sampleRate);
+	}
+
+	@PreDestroy
+	void shutdownExecutor() {
+		validationExecutor.shutdown();
+	}
+
+	/**
+	 * 비동기 검수 모드 여부
+	 */
+	public boolean isAsyncMode() {
+		return "async".equalsIgnoreCase(validationMode);
+	}
+
+	/**
+	 * 이번 턴을 검수할지 샘플링으로 결정
+	 */
+	private boolean sampled() {
+		if (sampleRate >= 1.0) {
+			return true;
+		}
+		if (sampleRate <= 0.0) {
+			return false;
+		}
+		return ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
+
+	/**
+	 * 동기 검수 (샘플링 적용)
+	 *
+	 * @param state       답변 생성이 끝난 상태
+	 * @param relatedRefs 이번 턴 관련 자료 (휴리스틱 검사용)
+	 * @return 검수 결과가 메타데이터에 반영된 상태
+	 */
+	public AgentState validate(AgentState state, List<RelatedReference> relatedRefs) {
+		if (!sampled()) {
+			log.debug("AnswerValidationService: 샘플링 제외로 검수 생략");
+			state.getMetadata().put(METADATA_VALIDATION_SAMPLED_OUT, true);
+			return state;
+		}
+		return validationNode.validate(state, relatedRefs);
+	}
+
+	/**
+	 * 비동기 검수 요청 (샘플링 적용)
+	 * 검수 결과는 Redis에 validationId 키로 보관되어 조회 API에서 사용할 수 있습니다.
+	 *
+	 * @param userMessage 사용자 메시지
+	 * @param aiMessage   AI 답변
+	 * @param relatedRefs 이번 턴 관련 자료 (휴리스틱 검사용)
+	 * @return 검수 요청 정보 (샘플링 제외 또는 대기열 초과 시 null)
+	 */
+	public PendingValidation submitAsync(UserMessage userMessage, AiMessage aiMessage,
+			List<RelatedReference> relatedRefs) {
+		if (!validationNode.isEnabled() || aiMessage == null || !sampled()) {
+			return null;
+		}
+
+		String validationId = "validation-" + UUID.randomUUID();
+
+		// 다음 턴이 상태를 변경해도 영향을 받지 않도록 검수용 상태를 분리
+		AgentState snapshot = new AgentState();
+		snapshot.setUserMessage(userMessage);
+		snapshot.setAiMessage(aiMessage);
+		List<RelatedReference> refs = relatedRefs != null ? List.copyOf(relatedRefs) : List.of();
+
+		try {
+			CompletableFuture<ChatV2Response.ValidationResult> future = CompletableFuture
+					.supplyAsync(() -> {
+						AgentState validated = validationNode.validate(snapshot, refs);
+						ChatV2Response.ValidationResult result = toValidationResult(validated);
+						if (result != null) {
+							storeResult(validationId, result);
+						}
+						return result;
+					}, validationExecutor)
+					.orTimeout(asyncTimeoutSeconds, TimeUnit.SECONDS);
+			log.debug("AnswerValidationService: 비동기 검수 요청 - validationId: {}", validationId);
+			return new PendingValidation(validationId, future);
+		} catch (RejectedExecutionException e) {
+			log.warn("AnswerValidationService: 검수 대기열이 가득 차 이번 턴 검수를 생략합니다 - 대기열: {}",
+					validationExecutor.getQueue().size());
+			return null;
+		}
+	}
+
+	/**
+	 * 비동기 검수 결과 조회
+	 *
+	 * @param validationId 검수 ID
+	 * @return 검수 결과 (진행 중이거나 만료되었으면 empty)
+	 */
+	public Optional<ChatV2Response.ValidationResult> findResult(String validationId) {
+		if (validationId == null || validationId.isBlank()) {
+			return Optional.empty();
+		}
+		try {
+			String json = redisTemplate.opsForValue().get(VALIDATION_KEY_PREFIX + validationId);
+			if (json == null) {
+				return Optional.empty();
+			}
+			return Optional.of(objectMapper.readValue(json, ChatV2Response.ValidationResult.class));
+		} catch (Exception e) {
+			log.warn("AnswerValidationService: 검수 결과 조회 실패 - validationId: {}, 오류: {}", validationId, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void storeResult(String validationId, ChatV2Response.ValidationResult result) {
+		try {
+			redisTemplate.opsForValue().set(VALIDATION_KEY_PREFIX + validationId,
+					objectMapper.writeValueAsString(result), VALIDATION_TTL_HOURS, TimeUnit.HOURS);
+		} catch (Exception e) {
+			log.warn("AnswerValidationService: 검수 결과 저장 실패 - validationId: {}, 오류: {}", validationId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 상태 메타데이터에서 검수 결과 생성
+	 *
+	 * @return 검수 결과 (검수가 수행되지 않았으면 null)
+	 */
+	public ChatV2Response.ValidationResult toValidationResult(AgentState state) {
+		if (!state.getMetadata().containsKey(METADATA_VALIDATION_SCORE)) {
+			return null;
+		}
+		Object scoreObj = state.getMetadata().get(METADATA_VALIDATION_SCORE);
+		Object passedObj = state.getMetadata().get(METADATA_VALIDATION_PASSED);
+		Object feedbackObj = state.getMetadata().get(METADATA_VALIDATION_FEEDBACK);
+		Object needsRegenerationObj = state.getMetadata().get(METADATA_VALIDATION_NEEDS_REGENERATION);
+
+		Double score = scoreObj instanceof Number number ? number.doubleValue() : null;
+		Boolean passed = passedObj instanceof Boolean bool ? bool : null;
+		String feedback = feedbackObj != null ? feedbackObj.toString() : null;
+		Boolean needsRegeneration = needsRegenerationObj instanceof Boolean bool ? bool : null;
+
+		return ChatV2Response.ValidationResult.builder()
+				.score(score)
+				.passed(passed)
+				.feedback(feedback)
+				.needsRegeneration(needsRegeneration)
+				.build();
+	}
+
+	/**
+	 * 진행 중인 비동기 검수
+	 */
+	public record PendingValidation(String validationId, CompletableFuture<ChatV2Response.ValidationResult> future) {
+	}
+}
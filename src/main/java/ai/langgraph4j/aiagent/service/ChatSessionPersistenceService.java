@@ -1,22 +1,45 @@
 package ai.langgraph4j.aiagent.service;
 
+import java.sql.Timestamp;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import ai.langgraph4j.aiagent.entity.chat.ChatMessage;
 import ai.langgraph4j.aiagent.entity.chat.ChatSession;
 import ai.langgraph4j.aiagent.repository.ChatMessageRepository;
 import ai.langgraph4j.aiagent.repository.ChatSessionRepository;
+import ai.langgraph4j.aiagent.repository.ChatSessionRepository.SessionListItem;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.UserMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,6 +47,13 @@ import lombok.extern.slf4j.Slf4j;
  * 채팅 세션 DB 영구 저장
  * 새 세션의 대화는 저장 버튼 없이 항상 DB에 저장됩니다.
  * test 프로파일에서는 JPA가 비활성화되므로 로드하지 않습니다.
+ *
+ * chat.session.persistence.write-behind.enabled=true면 persistTurn은 턴을 메모리 큐에 넣고 바로 반환하며,
+ * 백그라운드 flusher가 여러 세션의 턴을 모아 JDBC 배치로 저장합니다.
+ * - 큐가 가득 차면 offer-timeout-ms까지 대기(backpressure), 그래도 가득 차 있으면 큐에서 같은 세션의 턴만 꺼내
+ *   요청 턴과 함께 저장 (같은 세션의 앞선 턴을 앞지르지 않아 sequence_order 순서 유지, 다른 세션의 턴은 flusher가 저장)
+ * - 종료 시 큐에 남은 턴을 모두 저장
+ * - 큐 적재부터 커밋까지의 지연은 chat.session.persistence.write-behind.lag 메트릭으로 노출
  */
 @Slf4j
 @Service
@@ -33,18 +63,135 @@ public class ChatSessionPersistenceService {
 
 	private static final String DEFAULT_TITLE = "새 대화";
 	private static final int TITLE_MAX_LENGTH = 200;
+	private static final String CURSOR_SEPARATOR = "|";
+
+	/**
+	 * 세션 upsert + 메시지 순서 예약 (VALUES 행은 세션 수만큼 추가)
+	 * 없으면 생성, 있으면 message_count를 증가시키고 updated_at 갱신 (제목이 기본값이면 첫 사용자 메시지로 교체)
+	 * RETURNING의 message_count - 예약 수가 이번 배치의 시작 순서
+	 */
+	private static final String UPSERT_SESSION_SQL_PREFIX = """
+			INSERT INTO chat_session (session_id, title, message_count, created_at, updated_at)
+			VALUES """;
+	private static final String UPSERT_SESSION_SQL_SUFFIX = """
+
+			ON CONFLICT (session_id) DO UPDATE
+			SET message_count = chat_session.message_count + EXCLUDED.message_count,
+			    updated_at = EXCLUDED.updated_at,
+			    title = CASE WHEN chat_session.title = ? THEN EXCLUDED.title ELSE chat_session.title END
+			RETURNING session_id, id, message_count
+			""";
+
+	/** 세션 1건 생성 (이미 있으면 무시, 동시 첫 턴 간 session_id 유니크 충돌 방지) */
+	private static final String INSERT_SESSION_IF_ABSENT_SQL = """
+			INSERT INTO chat_session (session_id, title, message_count, created_at, updated_at)
+			VALUES (?, ?, 0, ?, ?)
+			ON CONFLICT (session_id) DO NOTHING
+			""";
+
+	/** 세션 1건의 메시지 순서 예약 + updated_at 갱신 (행 잠금으로 동시 턴 간 순서 중복 방지) */
+	private static final String RESERVE_SEQUENCE_SQL = """
+			UPDATE chat_session SET message_count = message_count + ?, updated_at = ?
+			WHERE id = ?
+			RETURNING message_count
+			""";
+
+	private static final String INSERT_MESSAGE_SQL = """
+			INSERT INTO chat_message (chat_session_id, role, content, sequence_order, created_at)
+			VALUES (?, ?, ?, ?, ?)
+			""";
 
 	private final ChatSessionRepository chatSessionRepository;
 	private final ChatMessageRepository chatMessageRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final PlatformTransactionManager transactionManager;
+	private final MeterRegistry meterRegistry;
 
 	@Value("${chat.session.persistence.enabled:true}")
 	private boolean persistenceEnabled;
 
+	@Value("${chat.session.persistence.write-behind.enabled:false}")
+	private boolean writeBehindEnabled;
+
+	/** 큐 최대 턴 수 (초과 시 요청 스레드에서 대기 후 같은 세션의 대기 턴과 함께 저장) */
+	@Value("${chat.session.persistence.write-behind.queue-capacity:10000}")
+	private int queueCapacity;
+
+	/** 한 번에 저장하는 최대 턴 수 */
+	@Value("${chat.session.persistence.write-behind.batch-size:200}")
+	private int batchSize;
+
+	/** flusher 실행 주기 (ms) */
+	@Value("${chat.session.persistence.write-behind.flush-interval-ms:200}")
+	private long flushIntervalMs;
+
+	/** 큐가 가득 찼을 때 요청 스레드가 자리를 기다리는 최대 시간 (ms) */
+	@Value("${chat.session.persistence.write-behind.offer-timeout-ms:500}")
+	private long offerTimeoutMs;
+
+	/** 큐 꺼내기 + 저장을 한 번에 하나만 수행 (flusher와 큐 초과 저장 간 순서 보장) */
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private TransactionTemplate transactionTemplate;
+	private BlockingQueue<PendingTurn> pendingTurns;
+	private ScheduledExecutorService flusher;
+	private Timer lagTimer;
+	private Timer flushTimer;
+
+	@PostConstruct
+	void init() {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		if (!persistenceEnabled || !writeBehindEnabled) {
+			return;
+		}
+		this.pendingTurns = new ArrayBlockingQueue<>(Math.max(1, queueCapacity), true);
+		this.lagTimer = Timer.builder("chat.session.persistence.write-behind.lag")
+				.description("턴 큐 적재부터 DB 커밋까지의 지연")
+				.register(meterRegistry);
+		this.flushTimer = Timer.builder("chat.session.persistence.write-behind.flush")
+				.description("배치 저장 소요 시간")
+				.register(meterRegistry);
+		Gauge.builder("chat.session.persistence.write-behind.queue-size", pendingTurns, BlockingQueue::size)
+				.register(meterRegistry);
+
+		this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "chat-persistence-flusher");
+			t.setDaemon(true);
+			return t;
+		});
+		flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+		log.info("ChatSessionPersistence: write-behind 활성화 - 큐 크기: {}, 배치 크기: {}, 주기: {}ms",
+				queueCapacity, batchSize, flushIntervalMs);
+	}
+
+	/**
+	 * 종료 시 flusher를 멈추고 큐에 남은 턴을 모두 저장
+	 */
+	@PreDestroy
+	void shutdown() {
+		if (flusher == null) {
+			return;
+		}
+		flusher.shutdown();
+		try {
+			if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+				log.warn("ChatSessionPersistence: flusher 종료 대기 시간 초과");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		int remaining = pendingTurns.size();
+		while (!pendingTurns.isEmpty()) {
+			flushSafely();
+		}
+		log.info("ChatSessionPersistence: 종료 시 남은 턴 {}건 저장 완료", remaining);
+	}
+
 	/**
 	 * 대화 1턴(사용자 메시지 + AI 메시지)을 DB에 저장
 	 * 세션이 없으면 생성하고, 제목은 첫 사용자 메시지로 설정
+	 * write-behind 활성화 시 큐에 넣고 바로 반환 (큐가 가득 차면 대기 후, 그래도 가득 차 있으면 같은 세션의 대기 턴과 함께 순서대로 저장)
 	 */
-	@Transactional
 	public void persistTurn(String sessionId, UserMessage userMessage, AiMessage aiMessage) {
 		if (!persistenceEnabled) {
 			log.debug("ChatSessionPersistence: DB 저장 비활성화");
@@ -55,36 +202,88 @@ public class ChatSessionPersistenceService {
 			return;
 		}
 
+		String userText = userMessage != null && !userMessage.singleText().isBlank() ? userMessage.singleText()
+				: null;
+		String aiText = aiMessage != null && aiMessage.text() != null && !aiMessage.text().isBlank()
+				? aiMessage.text()
+				: null;
+		PendingTurn turn = new PendingTurn(sessionId, userText, aiText, System.nanoTime());
+
+		if (pendingTurns == null) {
+			persistNow(turn);
+			return;
+		}
 		try {
-			ChatSession session = chatSessionRepository.findBySessionId(sessionId)
-					.orElseGet(() -> createNewSession(sessionId));
-
-			int nextOrder = (int) chatMessageRepository.countByChatSession(session);
-			if (userMessage != null && !userMessage.singleText().isBlank()) {
-				String content = userMessage.singleText();
-				if (session.getTitle() == null || session.getTitle().equals(DEFAULT_TITLE)) {
-					session.setTitle(truncateTitle(content));
-					chatSessionRepository.save(session);
-				}
-				ChatMessage userMsg = ChatMessage.builder()
-						.chatSession(session)
-						.role(ChatMessage.MessageRole.USER)
-						.content(content)
-						.sequenceOrder(nextOrder++)
-						.build();
-				chatMessageRepository.save(userMsg);
+			if (pendingTurns.offer(turn, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+				return;
 			}
-			if (aiMessage != null && !aiMessage.text().isBlank()) {
-				ChatMessage aiMsg = ChatMessage.builder()
-						.chatSession(session)
-						.role(ChatMessage.MessageRole.AI)
-						.content(aiMessage.text())
-						.sequenceOrder(nextOrder++)
-						.build();
-				chatMessageRepository.save(aiMsg);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		meterRegistry.counter("chat.session.persistence.write-behind.overflow").increment();
+		log.warn("ChatSessionPersistence: write-behind 큐가 가득 참, 세션의 대기 턴과 함께 저장 - sessionId: {}", sessionId);
+		persistInOrder(turn);
+	}
+
+	/**
+	 * 큐에서 같은 세션의 턴만 꺼내 요청 턴과 함께 저장 (큐 초과 시 요청 스레드)
+	 * 요청 턴이 같은 세션의 앞선 턴보다 먼저 순서를 예약하지 않도록 flusher와 같은 잠금 안에서 수행하며,
+	 * 요청 스레드가 저장하는 양은 이 세션의 대기 턴으로 한정됩니다 (다른 세션의 턴은 flusher가 저장)
+	 */
+	private void persistInOrder(PendingTurn turn) {
+		flushLock.lock();
+		try {
+			List<PendingTurn> turns = new ArrayList<>();
+			// removeIf는 큐 순서대로 순회하므로 같은 세션의 턴 순서 유지
+			pendingTurns.removeIf(pending -> pending.sessionId().equals(turn.sessionId()) && turns.add(pending));
+			turns.add(turn);
+			meterRegistry.counter("chat.session.persistence.write-behind.inline-turns")
+					.increment(turns.size());
+			int size = Math.max(1, batchSize);
+			for (int from = 0; from < turns.size(); from += size) {
+				writeBatch(turns.subList(from, Math.min(from + size, turns.size())));
 			}
-			// updatedAt 갱신
-			chatSessionRepository.save(session);
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 턴 1건을 JPA로 바로 저장 (동기 모드, 큐 초과, 배치 실패 시)
+	 */
+	private void persistNow(PendingTurn turn) {
+		String sessionId = turn.sessionId();
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+				jdbcTemplate.update(INSERT_SESSION_IF_ABSENT_SQL, sessionId, DEFAULT_TITLE, now, now);
+				ChatSession session = chatSessionRepository.findBySessionId(sessionId)
+						.orElseThrow(() -> new IllegalStateException("세션을 찾을 수 없습니다: " + sessionId));
+
+				int nextOrder = reserveSequence(session.getId(), turn.messageCount(), now);
+				if (turn.userText() != null) {
+					if (session.getTitle() == null || session.getTitle().equals(DEFAULT_TITLE)) {
+						session.setTitle(truncateTitle(turn.userText()));
+						chatSessionRepository.save(session);
+					}
+					ChatMessage userMsg = ChatMessage.builder()
+							.chatSession(session)
+							.role(ChatMessage.MessageRole.USER)
+							.content(turn.userText())
+							.sequenceOrder(nextOrder++)
+							.build();
+					chatMessageRepository.save(userMsg);
+				}
+				if (turn.aiText() != null) {
+					ChatMessage aiMsg = ChatMessage.builder()
+							.chatSession(session)
+							.role(ChatMessage.MessageRole.AI)
+							.content(turn.aiText())
+							.sequenceOrder(nextOrder++)
+							.build();
+					chatMessageRepository.save(aiMsg);
+				}
+			});
 			log.debug("ChatSessionPersistence: 세션 저장 완료 - sessionId: {}", sessionId);
 		} catch (Exception e) {
 			log.error("ChatSessionPersistence: DB 저장 실패 - sessionId: {}", sessionId, e);
@@ -92,12 +291,110 @@ public class ChatSessionPersistenceService {
 		}
 	}
 
-	private ChatSession createNewSession(String sessionId) {
-		ChatSession session = ChatSession.builder()
-				.sessionId(sessionId)
-				.title(DEFAULT_TITLE)
-				.build();
-		return chatSessionRepository.save(session);
+	/**
+	 * 큐에서 최대 batch-size만큼 꺼내 배치 저장 (flusher 스레드)
+	 */
+	private void flushSafely() {
+		flushLock.lock();
+		try {
+			List<PendingTurn> batch = new ArrayList<>(batchSize);
+			pendingTurns.drainTo(batch, batchSize);
+			if (!batch.isEmpty()) {
+				writeBatch(batch);
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 턴 목록을 한 트랜잭션으로 배치 저장 (실패 시 턴 단위로 재시도, 큐 순서 유지)
+	 */
+	private void writeBatch(List<PendingTurn> batch) {
+		long start = System.nanoTime();
+		try {
+			transactionTemplate.executeWithoutResult(status -> flushBatch(batch));
+			long committedAt = System.nanoTime();
+			for (PendingTurn turn : batch) {
+				lagTimer.record(committedAt - turn.enqueuedAt(), TimeUnit.NANOSECONDS);
+			}
+			meterRegistry.counter("chat.session.persistence.write-behind.turns", "result", "batched")
+					.increment(batch.size());
+		} catch (Exception e) {
+			// 배치 중 한 건의 오류로 전체가 유실되지 않도록 턴 단위로 다시 저장
+			log.warn("ChatSessionPersistence: 배치 저장 실패, 턴 단위로 재시도 - 건수: {}, 오류: {}",
+					batch.size(), e.getMessage());
+			for (PendingTurn turn : batch) {
+				persistNow(turn);
+				lagTimer.record(System.nanoTime() - turn.enqueuedAt(), TimeUnit.NANOSECONDS);
+			}
+			meterRegistry.counter("chat.session.persistence.write-behind.turns", "result", "fallback")
+					.increment(batch.size());
+		} finally {
+			flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * 배치 저장: 세션 upsert + 순서 예약 1회 + 메시지 insert 배치 1회
+	 */
+	private void flushBatch(List<PendingTurn> batch) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		// 세션별 제목(첫 사용자 메시지)과 메시지 수. 세션 ID 순으로 잠가 동시 저장 간 교착 방지
+		Map<String, SessionCursor> cursors = new TreeMap<>();
+		for (PendingTurn turn : batch) {
+			SessionCursor cursor = cursors.computeIfAbsent(turn.sessionId(), id -> new SessionCursor());
+			if (cursor.title == null || (cursor.title.equals(DEFAULT_TITLE) && turn.userText() != null)) {
+				cursor.title = truncateTitle(turn.userText());
+			}
+			cursor.reserved += turn.messageCount();
+		}
+
+		List<Object> sessionArgs = new ArrayList<>(cursors.size() * 5 + 1);
+		cursors.forEach((sessionId, cursor) -> {
+			sessionArgs.add(sessionId);
+			sessionArgs.add(cursor.title);
+			sessionArgs.add(cursor.reserved);
+			sessionArgs.add(now);
+			sessionArgs.add(now);
+		});
+		sessionArgs.add(DEFAULT_TITLE);
+		String upsertSql = UPSERT_SESSION_SQL_PREFIX
+				+ String.join(", ", Collections.nCopies(cursors.size(), "(?, ?, ?, ?, ?)"))
+				+ UPSERT_SESSION_SQL_SUFFIX;
+		jdbcTemplate.query(upsertSql, rs -> {
+			SessionCursor cursor = cursors.get(rs.getString("session_id"));
+			cursor.id = rs.getLong("id");
+			cursor.nextOrder = rs.getInt("message_count") - cursor.reserved;
+		}, sessionArgs.toArray());
+
+		List<Object[]> messageArgs = new ArrayList<>(batch.size() * 2);
+		for (PendingTurn turn : batch) {
+			SessionCursor cursor = cursors.get(turn.sessionId());
+			if (turn.userText() != null) {
+				messageArgs.add(new Object[] { cursor.id, ChatMessage.MessageRole.USER.name(), turn.userText(),
+						cursor.nextOrder++, now });
+			}
+			if (turn.aiText() != null) {
+				messageArgs.add(new Object[] { cursor.id, ChatMessage.MessageRole.AI.name(), turn.aiText(),
+						cursor.nextOrder++, now });
+			}
+		}
+		jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, messageArgs);
+		log.debug("ChatSessionPersistence: 배치 저장 완료 - 턴: {}, 세션: {}, 메시지: {}",
+				batch.size(), cursors.size(), messageArgs.size());
+	}
+
+	/**
+	 * 세션의 메시지 순서 count개 예약 (updated_at도 함께 갱신)
+	 *
+	 * @return 예약된 첫 순서
+	 */
+	private int reserveSequence(Long chatSessionId, int count, Timestamp now) {
+		Integer messageCount = jdbcTemplate.queryForObject(RESERVE_SEQUENCE_SQL, Integer.class, count, now,
+				chatSessionId);
+		return messageCount - count;
 	}
 
 	private static String truncateTitle(String text) {
@@ -112,34 +409,104 @@ public class ChatSessionPersistenceService {
 	}
 
 	/**
-	 * 세션 목록 조회 (왼쪽 탭용, 최신순)
+	 * 세션 목록 조회 (왼쪽 탭용, 최신순, keyset 페이징)
+	 *
+	 * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+	 * @param size   페이지 크기
+	 * @return 세션 목록 + 다음 커서 (마지막 페이지면 null)
+	 * @throws IllegalArgumentException 커서 형식이 잘못된 경우
 	 */
 	@Transactional(readOnly = true)
-	public List<ChatSessionDto> listSessions(int page, int size) {
-		Pageable pageable = PageRequest.of(page, size);
-		return chatSessionRepository.findAllByOrderByUpdatedAtDesc(pageable).stream()
-				.map(this::toDto)
+	public ChatSessionPageDto listSessions(String cursor, int size) {
+		// 한 건 더 조회해서 다음 페이지 존재 여부 확인
+		List<SessionListItem> items;
+		if (cursor == null || cursor.isBlank()) {
+			items = chatSessionRepository.findLatest(size + 1);
+		} else {
+			SessionListPosition position = decodeSessionCursor(cursor);
+			items = chatSessionRepository.findLatestBefore(position.updatedAt(), position.id(), size + 1);
+		}
+		boolean hasMore = items.size() > size;
+		List<ChatSessionDto> sessions = (hasMore ? items.subList(0, size) : items).stream()
+				.map(i -> new ChatSessionDto(i.getId(), i.getSessionId(), i.getTitle(), i.getCreatedAt(),
+						i.getUpdatedAt()))
 				.collect(Collectors.toList());
+		String nextCursor = hasMore ? encodeSessionCursor(sessions.get(sessions.size() - 1)) : null;
+		return new ChatSessionPageDto(sessions, nextCursor);
+	}
+
+	/**
+	 * 세션 목록 커서: "updatedAt|id"를 URL-safe Base64로 인코딩
+	 */
+	private static String encodeSessionCursor(ChatSessionDto last) {
+		String raw = last.updatedAt() + CURSOR_SEPARATOR + last.id();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static SessionListPosition decodeSessionCursor(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+			return new SessionListPosition(LocalDateTime.parse(raw.substring(0, separator)),
+					Long.parseLong(raw.substring(separator + 1)));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("잘못된 세션 목록 커서입니다: " + cursor, e);
+		}
+	}
+
+	/**
+	 * 세션의 메시지 목록 조회 (최근 메시지부터 limit개, 커서 페이징)
+	 *
+	 * @param sessionId 세션 ID
+	 * @param before    이 sequenceOrder 이전 메시지만 조회 (null이면 가장 최근부터)
+	 * @param limit     최대 메시지 수
+	 * @return 세션 + 메시지 목록(시간순) + 다음 커서 (더 이전 메시지가 없으면 null)
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ChatSessionWithMessagesDto> getSessionWithMessages(String sessionId, Integer before, int limit) {
+		return chatSessionRepository.findBySessionId(sessionId)
+				.map(session -> {
+					// 한 건 더 조회해서 이전 메시지 존재 여부 확인
+					Pageable pageable = PageRequest.of(0, limit + 1);
+					List<ChatMessage> recent = before != null
+							? chatMessageRepository.findByChatSessionAndSequenceOrderLessThanOrderBySequenceOrderDesc(
+									session, before, pageable)
+							: chatMessageRepository.findByChatSessionOrderBySequenceOrderDesc(session, pageable);
+					boolean hasMore = recent.size() > limit;
+					List<ChatMessage> page = new ArrayList<>(hasMore ? recent.subList(0, limit) : recent);
+					Collections.reverse(page);
+					Integer nextCursor = hasMore ? page.get(0).getSequenceOrder() : null;
+					return new ChatSessionWithMessagesDto(toDto(session), toMessageDtos(page), nextCursor);
+				});
 	}
 
 	/**
-	 * 세션의 메시지 목록 조회
+	 * 세션의 최근 메시지 조회 (Redis 복원용, 시간순)
+	 *
+	 * @param sessionId 세션 ID
+	 * @param limit     최대 메시지 수 (0 이하면 전체)
+	 * @return 메시지 목록 (세션이 없으면 empty)
 	 */
 	@Transactional(readOnly = true)
-	public Optional<ChatSessionWithMessagesDto> getSessionWithMessages(String sessionId) {
+	public Optional<List<ChatMessageDto>> getRecentMessages(String sessionId, int limit) {
 		return chatSessionRepository.findBySessionId(sessionId)
 				.map(session -> {
-					List<ChatMessage> messages = chatMessageRepository
-							.findByChatSessionOrderBySequenceOrderAsc(session);
-					return new ChatSessionWithMessagesDto(
-							toDto(session),
-							messages.stream()
-									.map(m -> new ChatMessageDto(m.getRole().name(), m.getContent(),
-											m.getSequenceOrder()))
-									.collect(Collectors.toList()));
+					if (limit <= 0) {
+						return toMessageDtos(chatMessageRepository.findByChatSessionOrderBySequenceOrderAsc(session));
+					}
+					List<ChatMessage> recent = new ArrayList<>(chatMessageRepository
+							.findByChatSessionOrderBySequenceOrderDesc(session, PageRequest.of(0, limit)));
+					Collections.reverse(recent);
+					return toMessageDtos(recent);
 				});
 	}
 
+	private List<ChatMessageDto> toMessageDtos(List<ChatMessage> messages) {
+		return messages.stream()
+				.map(m -> new ChatMessageDto(m.getRole().name(), m.getContent(), m.getSequenceOrder()))
+				.collect(Collectors.toList());
+	}
+
 	private ChatSessionDto toDto(ChatSession s) {
 		return new ChatSessionDto(s.getId(), s.getSessionId(), s.getTitle(), s.getCreatedAt(), s.getUpdatedAt());
 	}
@@ -153,7 +520,32 @@ public class ChatSessionPersistenceService {
 	public record ChatMessageDto(String role, String content, int sequenceOrder) {
 	}
 
-	/** 세션 + 메시지 목록 DTO */
-	public record ChatSessionWithMessagesDto(ChatSessionDto session, List<ChatMessageDto> messages) {
+	/** write-behind 큐 항목 (blank 메시지는 null) */
+	private record PendingTurn(String sessionId, String userText, String aiText, long enqueuedAt) {
+
+		int messageCount() {
+			return (userText != null ? 1 : 0) + (aiText != null ? 1 : 0);
+		}
+	}
+
+	/** 배치 저장 중 세션별 제목, 예약 수, PK, 다음 순서 */
+	private static final class SessionCursor {
+		private String title;
+		private int reserved;
+		private long id;
+		private int nextOrder;
+	}
+
+	/** 세션 목록 페이지 DTO (nextCursor: 다음 페이지 조회용 cursor 값, 없으면 null) */
+	public record ChatSessionPageDto(List<ChatSessionDto> sessions, String nextCursor) {
+	}
+
+	/** 세션 목록 keyset 위치 */
+	private record SessionListPosition(LocalDateTime updatedAt, long id) {
+	}
+
+	/** 세션 + 메시지 목록 DTO (nextCursor: 이전 메시지 조회용 before 값, 없으면 null) */
+	public record ChatSessionWithMessagesDto(ChatSessionDto session, List<ChatMessageDto> messages,
+			Integer nextCursor) {
 	}
 }
@@ -3,7 +3,6 @@ package ai.langgraph4j.aiagent.service;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -15,14 +14,11 @@ import org.springframework.util.StreamUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import ai.langgraph4j.aiagent.agent.graph.AgentGraph;
-import ai.langgraph4j.aiagent.agent.nodes.ValidationNode;
 import ai.langgraph4j.aiagent.agent.state.AgentState;
 import ai.langgraph4j.aiagent.controller.dto.ChatV2Request;
 import ai.langgraph4j.aiagent.controller.dto.ChatV2Response;
 import ai.langgraph4j.aiagent.controller.dto.RelatedReference;
-import ai.langgraph4j.aiagent.service.ChatSessionPersistenceService.ChatMessageDto;
-import ai.langgraph4j.aiagent.service.ChatSessionPersistenceService.ChatSessionWithMessagesDto;
-import ai.langgraph4j.aiagent.service.dto.MessageDto;
+import ai.langgraph4j.aiagent.service.AnswerValidationService.PendingValidation;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.UserMessage;
@@ -44,17 +40,16 @@ import lombok.extern.slf4j.Slf4j;
 public class ChatV2Service {
 
 	private final AgentGraph agentGraph;
-	private final ValidationNode validationNode;
+	private final AnswerValidationService answerValidationService;
 	private final SessionStore sessionStore;
 	private final ChatSessionPersistenceService chatSessionPersistenceService;
 	private final ResourceLoader resourceLoader;
 	private final RelatedReferencesHolder relatedReferencesHolder;
+	private final ConversationSummarizer conversationSummarizer;
+	private final SpeculativeRetrieval speculativeRetrieval;
+	private final AgentTracing agentTracing;
 
 	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-	private static final String METADATA_VALIDATION_SCORE = "validationScore";
-	private static final String METADATA_VALIDATION_PASSED = "validationPassed";
-	private static final String METADATA_VALIDATION_FEEDBACK = "validationFeedback";
-	private static final String METADATA_VALIDATION_NEEDS_REGENERATION = "validationNeedsRegeneration";
 
 	/**
 	 * 채팅 실행 (비스트리밍)
@@ -63,6 +58,10 @@ public class ChatV2Service {
 	 * @return 채팅 응답
 	 */
 	public ChatV2Response chat(ChatV2Request request) {
+		return agentTracing.turn("sync", () -> executeChat(request));
+	}
+
+	private ChatV2Response executeChat(ChatV2Request request) {
 		long startTime = System.currentTimeMillis();
 		log.info("ChatV2Service: 채팅 요청 - sessionId: {}, messageLength: {}",
 				request.getSessionId(), request.getMessage() != null ? request.getMessage().length() : 0);
@@ -73,8 +72,9 @@ public class ChatV2Service {
 		// System Instruction 처리 (비어있으면 기본값 사용)
 		String systemInstruction = getSystemInstruction(request.getSystemInstruction());
 
-		// 기존 세션 로드 (대화 히스토리 포함)
-		AgentState initialState = loadOrCreateSession(sessionId, systemInstruction);
+		// 기존 세션 로드 (대화 히스토리 포함, Redis에 없으면 DB에서 복원)
+		boolean isNewSession = request.getSessionId() == null || request.getSessionId().isBlank();
+		AgentState initialState = loadOrCreateSession(sessionId, systemInstruction, isNewSession);
 
 		// 사용자 메시지 추가
 		UserMessage userMessage = new UserMessage(request.getMessage());
@@ -88,29 +88,38 @@ public class ChatV2Service {
 			finalState = agentGraph.execute(initialState, request.getMessage());
 		}
 
+		// 검색 도구로 sessionId 기준 저장된 관련 자료 참조 (takeRefs(sessionId)는 sessionId로만 꺼내므로 락 불필요)
+		List<RelatedReference> relatedRefs = relatedReferencesHolder.takeRefs(sessionId);
+
 		// 에러 처리
 		if (finalState.getError() != null && !finalState.getError().isEmpty()) {
 			throw new ChatV2Exception("CHAT_ERROR", finalState.getError());
 		}
 
-		// 답변 검수
-		finalState = validationNode.validate(finalState);
-
-		// 대화 히스토리 저장 (Redis)
-		saveToHistory(sessionId, userMessage, finalState.getAiMessage());
+		// 답변 검수 (async 모드면 응답 후 백그라운드에서 수행, validationId로 조회)
+		PendingValidation pendingValidation = null;
+		if (answerValidationService.isAsyncMode()) {
+			pendingValidation = answerValidationService.submitAsync(userMessage, finalState.getAiMessage(),
+					relatedRefs);
+		} else {
+			finalState = validate(finalState, relatedRefs);
+		}
 
 		// DB 영구 저장 (저장 버튼 없이 항상 저장)
-		chatSessionPersistenceService.persistTurn(sessionId, userMessage, finalState.getAiMessage());
+		persistTurn(sessionId, userMessage, finalState.getAiMessage());
 
-		// 세션 저장
-		sessionStore.saveSession(sessionId, finalState);
+		// 세션 + 대화 히스토리 저장 (Redis, 스크립트 한 번)
+		saveTurn(sessionId, finalState, userMessage);
 
-		// 응답 생성 (takeRefs(sessionId)는 sessionId로만 꺼내므로 락 불필요)
-		ChatV2Response response = buildResponse(finalState, sessionId, startTime);
+		// 응답 생성
+		ChatV2Response response = buildResponse(finalState, sessionId, startTime, relatedRefs, pendingValidation);
 
 		log.info("ChatV2Service: 채팅 완료 - sessionId: {}, 실행 시간: {}초",
 				sessionId, response.getExecutionTime());
 
+		// 히스토리가 길어졌으면 백그라운드에서 오래된 대화 요약
+		conversationSummarizer.summarizeAsync(sessionId);
+
 		return response;
 	}
 
@@ -137,35 +146,44 @@ public class ChatV2Service {
 
 		SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
 
-		CompletableFuture.runAsync(() -> {
+		// 세션 로드/LLM 첫 토큰을 기다리는 동안 검색을 미리 시작 (검색 도구 호출 시 재사용)
+		speculativeRetrieval.start(sessionId, message);
+
+		CompletableFuture.runAsync(agentTracing.turn("streaming", () -> {
 			try {
 				long startTime = System.currentTimeMillis();
 
-				StreamingExecutionContext ctx = prepareStreamingContext(sessionId, systemInstruction, message);
+				StreamingExecutionContext ctx = prepareStreamingContext(sessionId, systemInstruction, message,
+						isNewSession);
 				sendStreamingStartEvents(emitter, sessionId, isNewSession);
 
 				StreamingResult result = executeStreamingWithRelatedRefs(ctx.initialState, sessionId, message, emitter);
 				AgentState finalState = result.finalState;
+				// 그래프 실행이 끝나면 검색 도구가 더 호출되지 않으므로 사용되지 않은 추측 검색 취소
+				speculativeRetrieval.finish(sessionId);
 
 				if (completeStreamingOnError(emitter, finalState)) {
 					return;
 				}
 
-				// 답변 검수 (비동기로 수행, 스트리밍에는 영향 없음)
-				finalState = validationNode.validate(finalState);
-
-				// 대화 히스토리 저장 (Redis)
-				saveToHistory(sessionId, ctx.userMessage, finalState.getAiMessage());
+				// 답변 검수 (async 모드면 complete 이후 늦은 validation 이벤트로 전송)
+				PendingValidation pendingValidation = null;
+				if (answerValidationService.isAsyncMode()) {
+					pendingValidation = answerValidationService.submitAsync(ctx.userMessage, finalState.getAiMessage(),
+							result.relatedRefs);
+				} else {
+					finalState = validate(finalState, result.relatedRefs);
+				}
 
 				// DB 영구 저장 (저장 버튼 없이 항상 저장)
-				chatSessionPersistenceService.persistTurn(sessionId, ctx.userMessage, finalState.getAiMessage());
+				persistTurn(sessionId, ctx.userMessage, finalState.getAiMessage());
 
-				// 세션 저장
-				sessionStore.saveSession(sessionId, finalState);
+				// 세션 + 대화 히스토리 저장 (Redis, 스크립트 한 번)
+				saveTurn(sessionId, finalState, ctx.userMessage);
 
-				// 검수 결과 전송 (있는 경우)
-				if (finalState.getMetadata().containsKey(METADATA_VALIDATION_SCORE)) {
-					ChatV2Response.ValidationResult validation = buildValidationResult(finalState);
+				// 검수 결과 전송 (동기 검수 결과가 있는 경우)
+				ChatV2Response.ValidationResult validation = answerValidationService.toValidationResult(finalState);
+				if (validation != null) {
 					emitter.send(SseEmitter.event()
 							.name("validation")
 							.data(OBJECT_MAPPER.writeValueAsString(validation)));
@@ -188,11 +206,19 @@ public class ChatV2Service {
 						.name("complete")
 						.data("채팅이 완료되었습니다. 실행 시간: " + executionTime + "초"));
 
-				emitter.complete();
+				if (pendingValidation != null) {
+					// 비동기 검수 결과를 받은 뒤 스트림 종료
+					sendLateValidation(emitter, pendingValidation);
+				} else {
+					emitter.complete();
+				}
 
 				log.info("ChatV2Service: 스트리밍 채팅 완료 - sessionId: {}, 실행 시간: {}초",
 						sessionId, executionTime);
 
+				// 히스토리가 길어졌으면 백그라운드에서 오래된 대화 요약
+				conversationSummarizer.summarizeAsync(sessionId);
+
 			} catch (Exception e) {
 				log.error("ChatV2Service: 스트리밍 채팅 중 오류 발생", e);
 				try {
@@ -204,12 +230,42 @@ public class ChatV2Service {
 					log.error("ChatV2Service: 에러 이벤트 전송 실패", ioException);
 					emitter.completeWithError(ioException);
 				}
+			} finally {
+				speculativeRetrieval.finish(sessionId);
 			}
-		});
+		}));
 
 		return emitter;
 	}
 
+	/**
+	 * 비동기 검수 결과를 complete 이후 validation 이벤트로 전송하고 스트림 종료
+	 * (검수 실패/타임아웃 시에는 이벤트 없이 종료, 결과는 validationId로 조회 가능)
+	 */
+	private void sendLateValidation(SseEmitter emitter, PendingValidation pendingValidation) throws IOException {
+		emitter.send(SseEmitter.event()
+				.name("validationPending")
+				.data(pendingValidation.validationId()));
+
+		pendingValidation.future().whenComplete((validation, error) -> {
+			try {
+				if (error != null) {
+					log.warn("ChatV2Service: 비동기 검수 실패 - validationId: {}, 오류: {}",
+							pendingValidation.validationId(), error.getMessage());
+				} else if (validation != null) {
+					emitter.send(SseEmitter.event()
+							.name("validation")
+							.data(OBJECT_MAPPER.writeValueAsString(validation)));
+				}
+				emitter.complete();
+			} catch (Exception e) {
+				log.debug("ChatV2Service: 늦은 검수 이벤트 전송 실패 (클라이언트 연결 종료) - validationId: {}",
+						pendingValidation.validationId());
+				emitter.completeWithError(e);
+			}
+		});
+	}
+
 	private boolean completeStreamingOnError(SseEmitter emitter, AgentState finalState) throws IOException {
 		if (finalState.getError() == null || finalState.getError().isEmpty()) {
 			return false;
@@ -258,9 +314,14 @@ public class ChatV2Service {
 
 	/**
 	 * 세션 로드 또는 생성
+	 *
+	 * @param isNewSession 방금 생성한 세션 ID 여부 (true면 DB 복원 조회 생략)
 	 */
-	private AgentState loadOrCreateSession(String sessionId, String systemInstruction) {
-		AgentState state = sessionStore.loadSession(sessionId);
+	private AgentState loadOrCreateSession(String sessionId, String systemInstruction, boolean isNewSession) {
+		// 세션 상태와 히스토리를 스크립트 한 번으로 조회 (Redis에 없으면 DB에서 히스토리 창만큼 복원)
+		SessionStore.SessionSnapshot snapshot = agentTracing.stage("redis.session-load",
+				() -> sessionStore.loadSessionWithHistory(sessionId, !isNewSession));
+		AgentState state = snapshot != null ? snapshot.state() : null;
 
 		if (state == null) {
 			// 새 세션 생성
@@ -269,10 +330,10 @@ public class ChatV2Service {
 			state.setSystemInstruction(systemInstruction);
 			log.debug("ChatV2Service: 새 AgentState 생성 - sessionId: {}", sessionId);
 		} else {
-			// 기존 세션 로드
-			// 대화 히스토리 로드
-			java.util.List<Object> history = sessionStore.getHistory(sessionId);
+			// 기존 세션 로드 (대화 히스토리 포함)
+			List<Object> history = snapshot.history();
 			state.setMessages(history);
+			state.setHistorySummary(snapshot.summary());
 
 			// System Instruction 업데이트 (새로 제공된 경우)
 			if (systemInstruction != null && !systemInstruction.isBlank()) {
@@ -287,10 +348,26 @@ public class ChatV2Service {
 	}
 
 	/**
-	 * 대화 히스토리에 추가
+	 * 세션 상태 저장 및 대화 히스토리에 추가
+	 */
+	private void saveTurn(String sessionId, AgentState finalState, UserMessage userMessage) {
+		agentTracing.stage("redis.session-save",
+				() -> sessionStore.saveTurn(sessionId, finalState, userMessage, finalState.getAiMessage()));
+	}
+
+	/**
+	 * 대화 턴 DB 저장 (write-behind 모드면 큐 적재까지)
+	 */
+	private void persistTurn(String sessionId, UserMessage userMessage, AiMessage aiMessage) {
+		agentTracing.stage("db.persist-turn",
+				() -> chatSessionPersistenceService.persistTurn(sessionId, userMessage, aiMessage));
+	}
+
+	/**
+	 * 동기 답변 검수
 	 */
-	private void saveToHistory(String sessionId, UserMessage userMessage, AiMessage aiMessage) {
-		sessionStore.addToHistory(sessionId, userMessage, aiMessage);
+	private AgentState validate(AgentState state, List<RelatedReference> relatedRefs) {
+		return agentTracing.stage("validation", () -> answerValidationService.validate(state, relatedRefs));
 	}
 
 	/**
@@ -304,28 +381,9 @@ public class ChatV2Service {
 			return;
 		}
 		try {
-			java.util.Optional<ChatSessionWithMessagesDto> opt = chatSessionPersistenceService
-					.getSessionWithMessages(sessionId);
-			if (opt.isEmpty()) {
+			if (sessionStore.restoreFromDatabase(sessionId) == null) {
 				log.debug("ChatV2Service: restore 건너뜀 - 세션 없음: {}", sessionId);
-				return;
-			}
-			List<ChatMessageDto> messages = opt.get().messages();
-			if (messages == null || messages.isEmpty()) {
-				log.debug("ChatV2Service: restore - 메시지 없음, 빈 세션만 Redis에 저장: {}", sessionId);
-			} else {
-				List<MessageDto> dtos = messages.stream()
-						.sorted(Comparator.comparingInt(ChatMessageDto::sequenceOrder))
-						.map(m -> "USER".equalsIgnoreCase(m.role())
-								? MessageDto.fromUserMessage(new UserMessage(m.content()))
-								: MessageDto.fromAiMessage(new AiMessage(m.content())))
-						.toList();
-				sessionStore.setHistory(sessionId, dtos);
-				log.info("ChatV2Service: Redis 복원 완료 - sessionId: {}, 메시지 수: {}", sessionId, dtos.size());
 			}
-			AgentState state = new AgentState();
-			state.setSessionId(sessionId);
-			sessionStore.saveSession(sessionId, state);
 		} catch (Exception e) {
 			log.warn("ChatV2Service: Redis 복원 실패 - sessionId: {}", sessionId, e);
 		}
@@ -334,13 +392,12 @@ public class ChatV2Service {
 	/**
 	 * 응답 생성
 	 */
-	private ChatV2Response buildResponse(AgentState state, String sessionId, long startTime) {
+	private ChatV2Response buildResponse(AgentState state, String sessionId, long startTime,
+			List<RelatedReference> relatedRefs, PendingValidation pendingValidation) {
 		double executionTime = (System.currentTimeMillis() - startTime) / 1000.0;
 
 		String response = state.getAiMessage() != null ? state.getAiMessage().text() : "";
 
-		// 검색 도구로 sessionId 기준 저장된 관련 자료 참조 (호출 측에서 락 유지 중일 때 takeRefs)
-		java.util.List<RelatedReference> relatedRefs = relatedReferencesHolder.takeRefs(sessionId);
 		if (relatedRefs == null || relatedRefs.isEmpty()) {
 			log.debug("ChatV2Service: 비스트리밍 응답 - 관련 자료 없음 (검색 도구 미호출 또는 결과 없음)");
 		}
@@ -352,37 +409,15 @@ public class ChatV2Service {
 				.metadata(state.getMetadata())
 				.relatedReferences(relatedRefs != null && !relatedRefs.isEmpty() ? relatedRefs : null);
 
-		// 검수 결과 추가 (있는 경우)
-		if (state.getMetadata().containsKey(METADATA_VALIDATION_SCORE)) {
-			ChatV2Response.ValidationResult validation = buildValidationResult(state);
-			builder.validation(validation);
+		// 검수 결과 추가 (동기 검수: 결과, 비동기 검수: 조회용 validationId)
+		builder.validation(answerValidationService.toValidationResult(state));
+		if (pendingValidation != null) {
+			builder.validationId(pendingValidation.validationId());
 		}
 
 		return builder.build();
 	}
 
-	/**
-	 * 검수 결과 생성
-	 */
-	private ChatV2Response.ValidationResult buildValidationResult(AgentState state) {
-		Object scoreObj = state.getMetadata().get(METADATA_VALIDATION_SCORE);
-		Object passedObj = state.getMetadata().get(METADATA_VALIDATION_PASSED);
-		Object feedbackObj = state.getMetadata().get(METADATA_VALIDATION_FEEDBACK);
-		Object needsRegenerationObj = state.getMetadata().get(METADATA_VALIDATION_NEEDS_REGENERATION);
-
-		Double score = scoreObj instanceof Number number ? number.doubleValue() : null;
-		Boolean passed = passedObj instanceof Boolean bool ? bool : null;
-		String feedback = feedbackObj != null ? feedbackObj.toString() : null;
-		Boolean needsRegeneration = needsRegenerationObj instanceof Boolean bool ? bool : null;
-
-		return ChatV2Response.ValidationResult.builder()
-				.score(score)
-				.passed(passed)
-				.feedback(feedback)
-				.needsRegeneration(needsRegeneration)
-				.build();
-	}
-
 	private String resolveOrCreateSessionId(String requestedSessionId) {
 		if (requestedSessionId == null || requestedSessionId.isBlank()) {
 			String newSessionId = generateSessionId();
@@ -392,8 +427,9 @@ public class ChatV2Service {
 		return requestedSessionId;
 	}
 
-	private StreamingExecutionContext prepareStreamingContext(String sessionId, String systemInstruction, String message) {
-		AgentState initialState = loadOrCreateSession(sessionId, systemInstruction);
+	private StreamingExecutionContext prepareStreamingContext(String sessionId, String systemInstruction, String message,
+			boolean isNewSession) {
+		AgentState initialState = loadOrCreateSession(sessionId, systemInstruction, isNewSession);
 		UserMessage userMessage = new UserMessage(message);
 		initialState.setUserMessage(userMessage);
 		return new StreamingExecutionContext(initialState, userMessage);
@@ -1,18 +1,28 @@
 package ai.langgraph4j.aiagent.service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import ai.langgraph4j.aiagent.config.PromptConfig;
 import ai.langgraph4j.aiagent.service.dto.SearchResult;
 import lombok.RequiredArgsConstructor;
@@ -27,8 +37,34 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ConsultationSearchService {
 
+	private static final String FIND_YP_CHUNKS_SQL = """
+			SELECT content, metadata::text FROM spring_ai_vector_store
+			WHERE metadata->>'documentType' = 'yp'
+			  AND replace(metadata->>'documentNumber', ' ', '') = ?
+			""";
+
+	private static final String FIND_LAW_ARTICLE_CHUNKS_SQL = """
+			SELECT content, metadata::text FROM spring_ai_vector_store
+			WHERE metadata->>'documentType' = 'lawArticle'
+			  AND replace(metadata->>'lawNameKorean', ' ', '') = ?
+			  AND metadata->>'articleKoreanString' = ?
+			""";
+
+	private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+	};
+
 	private final VectorStore vectorStore;
 	private final PromptConfig promptConfig;
+	private final AgentTracing agentTracing;
+	private final SearchReranker searchReranker;
+	private final ObjectProvider<LexicalSearchIndex> lexicalSearchIndexProvider;
+	private final ObjectProvider<LawArticleCatalog> lawArticleCatalogProvider;
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	/** 어휘 검색 결과와 벡터 검색 결과를 합칠 때의 RRF 순위 상수 */
+	@Value("${search.lexical.rrf-k:60}")
+	private int lexicalRrfK;
 
 	/**
 	 * 벡터 유사도 검색 수행
@@ -194,199 +230,438 @@ public class ConsultationSearchService {
 		}
 
 		try {
-			// 1단계: 상담 데이터 검색 (documentType == 'counsel')
-			SearchRequest counselSearchRequest = SearchRequest.builder()
-					.query(effectiveQuery)
-					.topK(counselTopK)
-					.similarityThreshold(similarityThreshold)
-					.filterExpression("documentType == 'counsel'")
-					.build();
+			// 상담(+연관 법령), 법령, 예규·판례 브랜치를 검색한 뒤 통합 (그래프 엔진은 브랜치를 병렬 실행)
+			List<SearchResult> counselBranch = agentTracing.stage("search.counsel",
+					() -> searchCounselBranch(effectiveQuery, counselTopK, lawArticleTopK, similarityThreshold));
+			List<SearchResult> lawArticleBranch = agentTracing.stage("search.law-article",
+					() -> searchLawArticleBranch(effectiveQuery, lawArticleTopK, similarityThreshold));
+			List<SearchResult> ypBranch = agentTracing.stage("search.yp",
+					() -> searchYpBranch(effectiveQuery, similarityThreshold));
+			return mergeBranches(query, counselBranch, lawArticleBranch, ypBranch);
 
-			List<Document> counselDocuments = vectorStore.similaritySearch(counselSearchRequest);
-			log.info("상담 데이터 검색 완료 - 결과 수: {}", counselDocuments.size());
-
-			// 2단계: 법령 데이터 검색 (documentType == 'lawArticle')
-			// 법령 데이터는 상담 데이터보다 유사도 점수가 낮을 수 있으므로 임계값을 낮춤
-			double lawArticleThreshold = Math.max(0.0, similarityThreshold - 0.1); // 최소 0.1 낮춤
-			SearchRequest lawArticleSearchRequest = SearchRequest.builder()
-					.query(effectiveQuery)
-					.topK(lawArticleTopK)
-					.similarityThreshold(lawArticleThreshold)
-					.filterExpression("documentType == 'lawArticle'")
-					.build();
+		} catch (Exception e) {
+			log.error("하이브리드 검색 중 오류 발생 - query: {}", query, e);
+			throw new SearchException("하이브리드 검색 중 오류가 발생했습니다: " + e.getMessage(), e);
+		}
+	}
 
-			List<Document> lawArticleDocuments = vectorStore.similaritySearch(lawArticleSearchRequest);
-			log.info("법령 데이터 검색 완료 - 결과 수: {} (임계값: {})", lawArticleDocuments.size(), lawArticleThreshold);
+	/**
+	 * 검색 브랜치 1: 상담 데이터 검색 + 상담 결과의 lawArticlePairs로 연관 법령 조문 검색
+	 *
+	 * @param effectiveQuery      벡터 검색 쿼리 (buildSearchQuery 적용 후)
+	 * @param counselTopK         상담 데이터 검색 결과 수
+	 * @param lawArticleTopK      연관 법령 검색 결과 수
+	 * @param similarityThreshold 유사도 임계값
+	 * @return 상담 결과 + 연관 법령 결과 (중복 제거 전)
+	 */
+	@Transactional(readOnly = true)
+	public List<SearchResult> searchCounselBranch(String effectiveQuery, int counselTopK, int lawArticleTopK,
+			double similarityThreshold) {
+		// 1단계: 상담 데이터 검색 (documentType == 'counsel')
+		SearchRequest counselSearchRequest = SearchRequest.builder()
+				.query(effectiveQuery)
+				.topK(counselTopK)
+				.similarityThreshold(similarityThreshold)
+				.filterExpression("documentType == 'counsel'")
+				.build();
 
-			// 2b단계: 관련 예규·판례 검색 (documentType == 'yp', 상위 10건)
-			int ypTopK = 10;
-			SearchRequest ypSearchRequest = SearchRequest.builder()
-					.query(effectiveQuery)
-					.topK(ypTopK)
-					.similarityThreshold(lawArticleThreshold)
-					.filterExpression("documentType == 'yp'")
-					.build();
-			List<Document> ypDocuments = vectorStore.similaritySearch(ypSearchRequest);
-			log.info("관련 예규·판례 검색 완료 - 결과 수: {} (임계값: {})", ypDocuments.size(), lawArticleThreshold);
-			for (int i = 0; i < ypDocuments.size(); i++) {
-				Document doc = ypDocuments.get(i);
-				Map<String, Object> meta = doc.getMetadata();
-				Long ypId = extractLong(meta, "ypId");
-				String title = extractString(meta, "title");
-				String documentNumber = extractString(meta, "documentNumber");
-				String documentDate = extractString(meta, "documentDate");
-				Double score = doc.getScore();
-				String content = doc.getText();
-				String contentPreview = content != null && content.length() > 100 ? content.substring(0, 100) + "..."
-						: content;
-				log.info(
-						"예규·판례 검색 결과 [{}] - ypId: {}, documentNumber: {}, documentDate: {}, title: {}, score: {}, content: {}",
-						i + 1, ypId, documentNumber, documentDate, title, score, contentPreview);
+		List<Document> counselDocuments = fuseLexical(effectiveQuery,
+				vectorStore.similaritySearch(counselSearchRequest), "counsel", counselTopK);
+		log.info("상담 데이터 검색 완료 - 결과 수: {}", counselDocuments.size());
+
+		// 3단계: 상담 결과에서 lawArticles 추출하여 추가 법령 검색
+		Set<String> foundLawArticlePairs = new HashSet<>();
+		for (Document counselDoc : counselDocuments) {
+			Map<String, Object> metadata = counselDoc.getMetadata();
+			@SuppressWarnings("unchecked")
+			List<String> lawArticlePairs = (List<String>) metadata.get("lawArticlePairs");
+			if (lawArticlePairs != null) {
+				foundLawArticlePairs.addAll(lawArticlePairs);
 			}
+		}
+
+		List<Document> relatedLawArticleDocuments = new ArrayList<>();
+		if (!foundLawArticlePairs.isEmpty()) {
+			log.info("상담 결과에서 추출한 lawArticlePairs: {}개", foundLawArticlePairs.size());
+			// 연관 법령 조문 검색 시에도 임계값을 낮춤
+			double relatedLawArticleThreshold = Math.max(0.0, similarityThreshold - 0.1);
+			relatedLawArticleDocuments = searchLawArticlesByPairs(effectiveQuery, foundLawArticlePairs,
+					lawArticleTopK,
+					relatedLawArticleThreshold);
+			log.info("연관 법령 조문 검색 완료 - 결과 수: {} (임계값: {})",
+					relatedLawArticleDocuments.size(), relatedLawArticleThreshold);
 
 			// 검색 결과가 없을 때 디버깅 정보 출력
-			if (lawArticleDocuments.isEmpty()) {
-				log.warn("법령 데이터 검색 결과가 없습니다. " +
-						"벡터 스토어에 법령 데이터가 없거나, 유사도 임계값({})이 너무 높을 수 있습니다.", lawArticleThreshold);
-
-				// 필터 없이 검색해보기 (디버깅용)
-				try {
-					SearchRequest debugRequest = SearchRequest.builder()
-							.query(effectiveQuery)
-							.topK(5)
-							.similarityThreshold(0.0)
-							.filterExpression("documentType == 'lawArticle'")
-							.build();
-					List<Document> debugResults = vectorStore.similaritySearch(debugRequest);
-					log.info("디버깅: 필터만 적용한 법령 데이터 검색 결과: {}건", debugResults.size());
-					if (!debugResults.isEmpty()) {
-						log.info("디버깅: 첫 번째 결과 유사도 점수: {}", debugResults.get(0).getScore());
-					}
-				} catch (Exception e) {
-					log.debug("디버깅 검색 중 오류 (무시): {}", e.getMessage());
-				}
+			if (relatedLawArticleDocuments.isEmpty()) {
+				log.warn("연관 법령 조문 검색 결과가 없습니다. " +
+						"lawArticlePairs: {}, 임계값: {}", foundLawArticlePairs, relatedLawArticleThreshold);
 			}
+		}
 
-			// 3단계: 상담 결과에서 lawArticles 추출하여 추가 법령 검색
-			Set<String> foundLawArticlePairs = new HashSet<>();
-			for (Document counselDoc : counselDocuments) {
-				Map<String, Object> metadata = counselDoc.getMetadata();
-				@SuppressWarnings("unchecked")
-				List<String> lawArticlePairs = (List<String>) metadata.get("lawArticlePairs");
-				if (lawArticlePairs != null) {
-					foundLawArticlePairs.addAll(lawArticlePairs);
-				}
-			}
+		List<SearchResult> results = new ArrayList<>(counselDocuments.size() + relatedLawArticleDocuments.size());
+		for (Document doc : counselDocuments) {
+			results.add(convertToSearchResult(doc));
+		}
+		for (Document doc : relatedLawArticleDocuments) {
+			results.add(convertLawArticleToSearchResult(doc));
+		}
+		return results;
+	}
 
-			List<Document> relatedLawArticleDocuments = new ArrayList<>();
-			if (!foundLawArticlePairs.isEmpty()) {
-				log.info("상담 결과에서 추출한 lawArticlePairs: {}개", foundLawArticlePairs.size());
-				// 연관 법령 조문 검색 시에도 임계값을 낮춤
-				double relatedLawArticleThreshold = Math.max(0.0, similarityThreshold - 0.1);
-				relatedLawArticleDocuments = searchLawArticlesByPairs(effectiveQuery, foundLawArticlePairs,
-						lawArticleTopK,
-						relatedLawArticleThreshold);
-				log.info("연관 법령 조문 검색 완료 - 결과 수: {} (임계값: {})",
-						relatedLawArticleDocuments.size(), relatedLawArticleThreshold);
-
-				// 검색 결과가 없을 때 디버깅 정보 출력
-				if (relatedLawArticleDocuments.isEmpty()) {
-					log.warn("연관 법령 조문 검색 결과가 없습니다. " +
-							"lawArticlePairs: {}, 임계값: {}", foundLawArticlePairs, relatedLawArticleThreshold);
+	/**
+	 * 검색 브랜치 2: 법령 조문 검색 (documentType == 'lawArticle')
+	 *
+	 * @param effectiveQuery      벡터 검색 쿼리 (buildSearchQuery 적용 후)
+	 * @param lawArticleTopK      법령 데이터 검색 결과 수
+	 * @param similarityThreshold 유사도 임계값 (법령은 0.1 낮춰 적용)
+	 * @return 법령 결과 (중복 제거 전)
+	 */
+	@Transactional(readOnly = true)
+	public List<SearchResult> searchLawArticleBranch(String effectiveQuery, int lawArticleTopK,
+			double similarityThreshold) {
+		// 2단계: 법령 데이터 검색 (documentType == 'lawArticle')
+		// 법령 데이터는 상담 데이터보다 유사도 점수가 낮을 수 있으므로 임계값을 낮춤
+		double lawArticleThreshold = Math.max(0.0, similarityThreshold - 0.1); // 최소 0.1 낮춤
+		SearchRequest lawArticleSearchRequest = SearchRequest.builder()
+				.query(effectiveQuery)
+				.topK(lawArticleTopK)
+				.similarityThreshold(lawArticleThreshold)
+				.filterExpression("documentType == 'lawArticle'")
+				.build();
+
+		List<Document> lawArticleDocuments = fuseLexical(effectiveQuery,
+				vectorStore.similaritySearch(lawArticleSearchRequest), "lawArticle", lawArticleTopK);
+		log.info("법령 데이터 검색 완료 - 결과 수: {} (임계값: {})", lawArticleDocuments.size(), lawArticleThreshold);
+
+		// 검색 결과가 없을 때 디버깅 정보 출력
+		if (lawArticleDocuments.isEmpty()) {
+			log.warn("법령 데이터 검색 결과가 없습니다. " +
+					"벡터 스토어에 법령 데이터가 없거나, 유사도 임계값({})이 너무 높을 수 있습니다.", lawArticleThreshold);
+
+			// 필터 없이 검색해보기 (디버깅용)
+			try {
+				SearchRequest debugRequest = SearchRequest.builder()
+						.query(effectiveQuery)
+						.topK(5)
+						.similarityThreshold(0.0)
+						.filterExpression("documentType == 'lawArticle'")
+						.build();
+				List<Document> debugResults = vectorStore.similaritySearch(debugRequest);
+				log.info("디버깅: 필터만 적용한 법령 데이터 검색 결과: {}건", debugResults.size());
+				if (!debugResults.isEmpty()) {
+					log.info("디버깅: 첫 번째 결과 유사도 점수: {}", debugResults.get(0).getScore());
 				}
+			} catch (Exception e) {
+				log.debug("디버깅 검색 중 오류 (무시): {}", e.getMessage());
 			}
+		}
 
-			// 4단계: 결과 통합 및 중복 제거 (lawId:articleKey 기준)
-			Map<String, SearchResult> resultMap = new LinkedHashMap<>();
+		List<SearchResult> results = new ArrayList<>(lawArticleDocuments.size());
+		for (Document doc : lawArticleDocuments) {
+			results.add(convertLawArticleToSearchResult(doc));
+		}
+		return results;
+	}
+
+	/**
+	 * 검색 브랜치 3: 관련 예규·판례 검색 (documentType == 'yp', 상위 10건)
+	 *
+	 * @param effectiveQuery      벡터 검색 쿼리 (buildSearchQuery 적용 후)
+	 * @param similarityThreshold 유사도 임계값 (법령과 같이 0.1 낮춰 적용)
+	 * @return 예규·판례 결과 (중복 제거 전)
+	 */
+	@Transactional(readOnly = true)
+	public List<SearchResult> searchYpBranch(String effectiveQuery, double similarityThreshold) {
+		double ypThreshold = Math.max(0.0, similarityThreshold - 0.1);
+		int ypTopK = 10;
+		SearchRequest ypSearchRequest = SearchRequest.builder()
+				.query(effectiveQuery)
+				.topK(ypTopK)
+				.similarityThreshold(ypThreshold)
+				.filterExpression("documentType == 'yp'")
+				.build();
+		List<Document> ypDocuments = fuseLexical(effectiveQuery, vectorStore.similaritySearch(ypSearchRequest), "yp",
+				ypTopK);
+		log.info("관련 예규·판례 검색 완료 - 결과 수: {} (임계값: {})", ypDocuments.size(), ypThreshold);
+		for (int i = 0; i < ypDocuments.size(); i++) {
+			Document doc = ypDocuments.get(i);
+			Map<String, Object> meta = doc.getMetadata();
+			Long ypId = extractLong(meta, "ypId");
+			String title = extractString(meta, "title");
+			String documentNumber = extractString(meta, "documentNumber");
+			String documentDate = extractString(meta, "documentDate");
+			Double score = doc.getScore();
+			String content = doc.getText();
+			String contentPreview = content != null && content.length() > 100 ? content.substring(0, 100) + "..."
+					: content;
+			log.info(
+					"예규·판례 검색 결과 [{}] - ypId: {}, documentNumber: {}, documentDate: {}, title: {}, score: {}, content: {}",
+					i + 1, ypId, documentNumber, documentDate, title, score, contentPreview);
+		}
+
+		List<SearchResult> results = new ArrayList<>(ypDocuments.size());
+		for (Document doc : ypDocuments) {
+			results.add(convertYpToSearchResult(doc));
+		}
+		return results;
+	}
+
+	/**
+	 * 4단계: 브랜치 결과 통합 및 중복 제거
+	 * 순서: 상담 → 법령 → 연관 법령 → 예규·판례 (법령은 lawId:articleKey, 예규·판례는 ypId 기준으로 먼저 나온 결과 유지)
+	 * search.rerank.strategy가 none이 아니면 통합 후 {@link SearchReranker}로 관련도 순 재정렬 및 전체 예산 적용
+	 *
+	 * @param query            사용자 질문 (재순위화용)
+	 * @param counselBranch    searchCounselBranch 결과
+	 * @param lawArticleBranch searchLawArticleBranch 결과
+	 * @param ypBranch         searchYpBranch 결과
+	 * @return 통합 검색 결과 리스트
+	 */
+	public List<SearchResult> mergeBranches(String query, List<SearchResult> counselBranch,
+			List<SearchResult> lawArticleBranch, List<SearchResult> ypBranch) {
+		Map<String, SearchResult> resultMap = new LinkedHashMap<>();
 
-			// 상담 결과 추가
-			for (Document doc : counselDocuments) {
-				SearchResult result = convertToSearchResult(doc);
+		// 상담 결과 추가 (같은 상담의 청크는 마지막 청크로 대체)
+		for (SearchResult result : counselBranch) {
+			if ("counsel".equals(result.getDocumentType())) {
 				resultMap.put("counsel:" + result.getCounselId(), result);
 			}
+		}
 
-			// 법령 결과 추가 (중복 제거)
-			int addedLawArticles = 0;
-			for (Document doc : lawArticleDocuments) {
-				Map<String, Object> meta = doc.getMetadata();
-				String lawId = extractString(meta, "lawId");
-				String articleKey = extractString(meta, "articleKey");
-				String documentType = extractString(meta, "documentType");
-				String key = "lawArticle:" + lawId + ":" + articleKey;
-				log.debug("법령 검색 결과 처리 - lawId: {}, articleKey: {}, documentType: {}, key: {}",
-						lawId, articleKey, documentType, key);
-				if (!resultMap.containsKey(key)) {
-					SearchResult result = convertLawArticleToSearchResult(doc);
-					log.debug("법령 결과 추가 - documentType: {}, title: {}",
-							result.getDocumentType(), result.getTitle());
-					resultMap.put(key, result);
-					addedLawArticles++;
-				} else {
-					log.debug("법령 결과 중복 제거됨 - key: {}", key);
-				}
+		// 법령 결과 추가 (중복 제거)
+		int addedLawArticles = 0;
+		for (SearchResult result : lawArticleBranch) {
+			if (resultMap.putIfAbsent(lawArticleKey(result), result) == null) {
+				addedLawArticles++;
 			}
-			log.info("법령 검색 결과 추가 완료 - {}건 추가됨 (전체 법령 검색 결과: {}건)",
-					addedLawArticles, lawArticleDocuments.size());
+		}
+		log.info("법령 검색 결과 추가 완료 - {}건 추가됨 (전체 법령 검색 결과: {}건)",
+				addedLawArticles, lawArticleBranch.size());
+
+		// 연관 법령 결과 추가 (중복 제거)
+		int addedRelatedLawArticles = 0;
+		int relatedLawArticleCount = 0;
+		for (SearchResult result : counselBranch) {
+			if ("counsel".equals(result.getDocumentType())) {
+				continue;
+			}
+			relatedLawArticleCount++;
+			if (resultMap.putIfAbsent(lawArticleKey(result), result) == null) {
+				addedRelatedLawArticles++;
+			}
+		}
+		log.info("연관 법령 검색 결과 추가 완료 - {}건 추가됨 (전체 연관 법령 검색 결과: {}건)",
+				addedRelatedLawArticles, relatedLawArticleCount);
+
+		// 예규·판례 결과 추가 (ypId 기준 중복 제거)
+		int addedYp = 0;
+		int ypIndex = 0;
+		for (SearchResult result : ypBranch) {
+			Long ypId = result.getYpId();
+			String key = "yp:" + (ypId != null ? ypId : ("noid-" + (ypIndex++)));
+			if (resultMap.putIfAbsent(key, result) == null) {
+				addedYp++;
+			}
+		}
+		log.info("예규·판례 검색 결과 추가 완료 - {}건 추가됨 (전체 예규·판례 검색 결과: {}건)", addedYp, ypBranch.size());
 
-			// 연관 법령 결과 추가 (중복 제거)
-			int addedRelatedLawArticles = 0;
-			for (Document doc : relatedLawArticleDocuments) {
-				Map<String, Object> meta = doc.getMetadata();
-				String lawId = extractString(meta, "lawId");
-				String articleKey = extractString(meta, "articleKey");
-				String documentType = extractString(meta, "documentType");
-				String key = "lawArticle:" + lawId + ":" + articleKey;
-				log.debug("연관 법령 검색 결과 처리 - lawId: {}, articleKey: {}, documentType: {}, key: {}",
-						lawId, articleKey, documentType, key);
-				if (!resultMap.containsKey(key)) {
-					SearchResult result = convertLawArticleToSearchResult(doc);
-					log.debug("연관 법령 결과 추가 - documentType: {}, title: {}",
-							result.getDocumentType(), result.getTitle());
-					resultMap.put(key, result);
-					addedRelatedLawArticles++;
+		List<SearchResult> results = new ArrayList<>(resultMap.values());
+
+		// 재순위화: 연관 법령은 상담 브랜치와 별도 순위 목록으로 반영 (법령 브랜치와 겹치면 점수 합산)
+		if (searchReranker.isEnabled()) {
+			List<SearchResult> counselOnly = new ArrayList<>();
+			List<SearchResult> relatedLawArticles = new ArrayList<>();
+			for (SearchResult result : counselBranch) {
+				if ("counsel".equals(result.getDocumentType())) {
+					counselOnly.add(result);
 				} else {
-					log.debug("연관 법령 결과 중복 제거됨 - key: {}", key);
+					relatedLawArticles.add(result);
 				}
 			}
-			log.info("연관 법령 검색 결과 추가 완료 - {}건 추가됨 (전체 연관 법령 검색 결과: {}건)",
-					addedRelatedLawArticles, relatedLawArticleDocuments.size());
+			results = searchReranker.rerank(query, results,
+					List.of(counselOnly, lawArticleBranch, relatedLawArticles, ypBranch),
+					ConsultationSearchService::resultKey);
+		}
 
-			// 예규·판례 결과 추가 (ypId 기준 중복 제거)
-			int addedYp = 0;
-			int ypIndex = 0;
-			for (Document doc : ypDocuments) {
-				Map<String, Object> meta = doc.getMetadata();
-				Long ypId = extractLong(meta, "ypId");
-				String key = "yp:" + (ypId != null ? ypId : ("noid-" + (ypIndex++)));
-				if (!resultMap.containsKey(key)) {
-					SearchResult result = convertYpToSearchResult(doc);
-					resultMap.put(key, result);
-					addedYp++;
+		// 최종 결과 분류 확인
+		long finalCounselCount = results.stream()
+				.filter(r -> "counsel".equals(r.getDocumentType()))
+				.count();
+		long finalLawArticleCount = results.stream()
+				.filter(r -> "lawArticle".equals(r.getDocumentType()))
+				.count();
+		long finalYpCount = results.stream()
+				.filter(r -> "yp".equals(r.getDocumentType()))
+				.count();
+		log.info("하이브리드 검색 완료 - 통합 결과 수: {} (상담: {}건, 법령: {}건, 예규·판례: {}건)",
+				results.size(), finalCounselCount, finalLawArticleCount, finalYpCount);
+
+		return results;
+	}
+
+	/**
+	 * 예규·판례 번호로 직접 조회 (임베딩·벡터 검색 없이 메타데이터 documentNumber 일치, 공백 무시)
+	 * 청크는 chunkIndex 순으로 합쳐 ypId당 한 건으로 반환하며 similarityScore는 1.0입니다.
+	 *
+	 * @param documentNumber 예규·판례 번호 (예: 조심2018전1149)
+	 * @return 일치하는 예규·판례 (없으면 빈 리스트)
+	 */
+	@Transactional(readOnly = true)
+	public List<SearchResult> findYpByDocumentNumber(String documentNumber) {
+		String normalized = documentNumber.replace(" ", "");
+		List<Document> documents = joinChunks(findChunks(FIND_YP_CHUNKS_SQL, normalized), "ypId");
+		log.info("예규·판례 번호 직접 조회 - documentNumber: {}, 결과 수: {}", normalized, documents.size());
+		return documents.stream()
+				.map(this::convertYpToSearchResult)
+				.toList();
+	}
+
+	/**
+	 * 법령명 + 조문(제N조, 제N조의M)으로 직접 조회 (임베딩·벡터 검색 없이 메타데이터 일치, 법령명 공백 무시)
+	 * 같은 조문이 여러 시행일로 저장되어 있으면 enforceDate가 가장 최근인 것을 사용합니다.
+	 *
+	 * @param lawNameKorean       법령명 (예: 소득세법, 소득세법 시행령)
+	 * @param articleKoreanString 조문 표기 (예: 제10조의2)
+	 * @return 일치하는 법령 조문
+	 */
+	@Transactional(readOnly = true)
+	public Optional<SearchResult> findLawArticle(String lawNameKorean, String articleKoreanString) {
+		List<Document> documents = joinChunks(
+				findChunks(FIND_LAW_ARTICLE_CHUNKS_SQL, lawNameKorean.replace(" ", ""), articleKoreanString),
+				"lawId");
+		Optional<Document> latest = documents.stream()
+				.max(Comparator.comparing((Document doc) -> {
+					String enforceDate = extractString(doc.getMetadata(), "enforceDate");
+					return enforceDate != null ? enforceDate : "";
+				}));
+		log.info("법령 조문 직접 조회 - lawNameKorean: {}, article: {}, 결과: {}", lawNameKorean, articleKoreanString,
+				latest.isPresent() ? "있음" : "없음");
+		return latest.map(this::convertLawArticleToSearchResult);
+	}
+
+	private List<Document> findChunks(String sql, Object... args) {
+		return jdbcTemplate.query(sql, (rs, rowNum) -> Document.builder()
+				.text(rs.getString(1) != null ? rs.getString(1) : "")
+				.metadata(parseMetadata(rs.getString(2)))
+				.build(), args);
+	}
+
+	/**
+	 * 같은 문서(groupKey 메타데이터 기준)의 청크를 chunkIndex 순으로 합쳐 한 Document로 (score 1.0)
+	 */
+	private List<Document> joinChunks(List<Document> chunks, String groupKey) {
+		Map<String, List<Document>> groups = new LinkedHashMap<>();
+		for (Document chunk : chunks) {
+			groups.computeIfAbsent(String.valueOf(chunk.getMetadata().get(groupKey)), k -> new ArrayList<>())
+					.add(chunk);
+		}
+		List<Document> documents = new ArrayList<>(groups.size());
+		for (List<Document> group : groups.values()) {
+			group.sort(Comparator.comparing((Document doc) -> {
+				Integer chunkIndex = extractInteger(doc.getMetadata(), "chunkIndex");
+				return chunkIndex != null ? chunkIndex : 0;
+			}));
+			StringBuilder text = new StringBuilder();
+			for (Document chunk : group) {
+				if (!text.isEmpty()) {
+					text.append("\n");
 				}
+				text.append(chunk.getText());
 			}
-			log.info("예규·판례 검색 결과 추가 완료 - {}건 추가됨 (전체 예규·판례 검색 결과: {}건)", addedYp, ypDocuments.size());
+			documents.add(Document.builder()
+					.text(text.toString())
+					.metadata(group.get(0).getMetadata())
+					.score(1.0)
+					.build());
+		}
+		return documents;
+	}
 
-			List<SearchResult> results = new ArrayList<>(resultMap.values());
+	private Map<String, Object> parseMetadata(String json) {
+		if (json == null || json.isBlank()) {
+			return new HashMap<>();
+		}
+		try {
+			Map<String, Object> metadata = objectMapper.readValue(json, METADATA_TYPE);
+			metadata.values().removeIf(Objects::isNull);
+			return metadata;
+		} catch (Exception e) {
+			log.debug("메타데이터 파싱 실패 (무시): {}", e.getMessage());
+			return new HashMap<>();
+		}
+	}
 
-			// 최종 결과 분류 확인
-			long finalCounselCount = results.stream()
-					.filter(r -> "counsel".equals(r.getDocumentType()))
-					.count();
-			long finalLawArticleCount = results.stream()
-					.filter(r -> "lawArticle".equals(r.getDocumentType()))
-					.count();
-			long finalYpCount = results.stream()
-					.filter(r -> "yp".equals(r.getDocumentType()))
-					.count();
-			log.info("하이브리드 검색 완료 - 통합 결과 수: {} (상담: {}건, 법령: {}건, 예규·판례: {}건)",
-					results.size(), finalCounselCount, finalLawArticleCount, finalYpCount);
+	/**
+	 * 재순위화용 문서 키 (mergeBranches 중복 제거 기준과 동일, ypId 없는 예규·판례는 null)
+	 */
+	private static String resultKey(SearchResult result) {
+		if ("counsel".equals(result.getDocumentType())) {
+			return "counsel:" + result.getCounselId();
+		}
+		if ("yp".equals(result.getDocumentType())) {
+			return result.getYpId() != null ? "yp:" + result.getYpId() : null;
+		}
+		return lawArticleKey(result);
+	}
 
-			return results;
+	/**
+	 * 법령 결과 중복 제거 키 (lawArticle:lawId:articleKey)
+	 */
+	private static String lawArticleKey(SearchResult result) {
+		SearchResult.LawArticleInfo info = result.getLawArticles() != null && !result.getLawArticles().isEmpty()
+				? result.getLawArticles().get(0)
+				: null;
+		return "lawArticle:" + (info != null ? info.getLawId() : null) + ":" + (info != null ? info.getArticleKey() : null);
+	}
 
-		} catch (Exception e) {
-			log.error("하이브리드 검색 중 오류 발생 - query: {}", query, e);
-			throw new SearchException("하이브리드 검색 중 오류가 발생했습니다: " + e.getMessage(), e);
+	/**
+	 * 벡터 검색 결과에 BM25 어휘 검색 결과를 RRF로 합침 (search.lexical.enabled=false면 벡터 결과 그대로)
+	 * 같은 청크(id)는 한 번만 남기고 RRF 점수 순으로 정렬합니다. 어휘 검색에서만 나온 청크는 벡터 유사도가 없으므로
+	 * score(similarityScore)가 비어 있고 BM25 점수는 metadata lexicalScore에만 있습니다.
+	 *
+	 * @param effectiveQuery  벡터 검색 쿼리 (어휘 검색에는 systemInstruction 보강 앞부분만 사용)
+	 * @param vectorDocuments 벡터 검색 결과 (유사도 순)
+	 * @param documentType    문서 타입 필터
+	 * @param topK            합친 결과의 최대 수 (벡터 결과가 더 많으면 벡터 결과 수)
+	 */
+	private List<Document> fuseLexical(String effectiveQuery, List<Document> vectorDocuments, String documentType,
+			int topK) {
+		LexicalSearchIndex lexicalSearchIndex = lexicalSearchIndexProvider.getIfAvailable();
+		if (lexicalSearchIndex == null) {
+			return vectorDocuments;
+		}
+		List<Document> lexicalDocuments = lexicalSearchIndex.search(lexicalQuery(effectiveQuery), documentType, topK);
+		if (lexicalDocuments.isEmpty()) {
+			return vectorDocuments;
+		}
+
+		Map<String, Document> documents = new LinkedHashMap<>();
+		Map<String, Double> scores = new HashMap<>();
+		for (List<Document> ranked : List.of(vectorDocuments, lexicalDocuments)) {
+			for (int i = 0; i < ranked.size(); i++) {
+				Document doc = ranked.get(i);
+				documents.putIfAbsent(doc.getId(), doc);
+				scores.merge(doc.getId(), 1.0 / (lexicalRrfK + i + 1), Double::sum);
+			}
 		}
+		List<Document> fused = new ArrayList<>(documents.values());
+		fused.sort(Comparator.comparingDouble((Document doc) -> scores.get(doc.getId())).reversed());
+		int limit = Math.max(topK, vectorDocuments.size());
+		Set<String> vectorIds = new HashSet<>();
+		vectorDocuments.forEach(doc -> vectorIds.add(doc.getId()));
+		long lexicalOnly = fused.stream().limit(limit).filter(doc -> !vectorIds.contains(doc.getId())).count();
+		log.info("어휘 검색 결과 합침 - documentType: {}, 벡터: {}건, 어휘: {}건, 어휘 검색으로만 추가: {}건", documentType,
+				vectorDocuments.size(), lexicalDocuments.size(), lexicalOnly);
+		return fused.size() > limit ? new ArrayList<>(fused.subList(0, limit)) : fused;
+	}
+
+	/**
+	 * buildSearchQuery로 덧붙인 systemInstruction 보강 부분을 제외한 질문 (어휘 검색용)
+	 */
+	private String lexicalQuery(String effectiveQuery) {
+		String marker = "\n\n" + promptConfig.getSearchQueryContextPrefix();
+		int index = effectiveQuery.indexOf(marker);
+		return index >= 0 ? effectiveQuery.substring(0, index) : effectiveQuery;
 	}
 
 	/**
@@ -665,6 +940,7 @@ public class ConsultationSearchService {
 
 	/**
 	 * 메타데이터에서 법령 조문 정보를 추출하고 벡터 스토어에서 법령 조문 문서를 검색
+	 * LawArticleCatalog가 적재되어 있으면 카탈로그에서 먼저 찾고, 없는 조문만 벡터 스토어에서 검색합니다.
 	 * 
 	 * @param metadata 벡터 메타데이터
 	 * @return 법령 조문 정보 리스트
@@ -692,6 +968,8 @@ public class ConsultationSearchService {
 				return lawArticleInfos;
 			}
 
+			LawArticleCatalog lawArticleCatalog = lawArticleCatalogProvider.getIfAvailable();
+
 			// 각 lawArticlePair를 파싱하여 벡터 스토어에서 법령 조문 검색
 			for (String pair : lawArticlePairs) {
 				if (pair == null || !pair.contains(":")) {
@@ -712,6 +990,23 @@ public class ConsultationSearchService {
 					continue;
 				}
 
+				// 카탈로그 조회 (해시 조회, 내용은 조문별로 처음 한 번만 DB에서 적재)
+				Optional<LawArticleCatalog.Article> cataloged = lawArticleCatalog != null
+						? lawArticleCatalog.find(lawId, articleKey)
+						: Optional.empty();
+				if (cataloged.isPresent()) {
+					LawArticleCatalog.Article article = cataloged.get();
+					lawArticleInfos.add(SearchResult.LawArticleInfo.builder()
+							.lawId(article.lawId())
+							.lawNameKorean(article.lawNameKorean())
+							.articleKey(article.articleKey())
+							.articleKoreanString(article.articleKoreanString())
+							.articleTitle(article.articleTitle())
+							.articleContent(article.content())
+							.build());
+					continue;
+				}
+
 				// 벡터 스토어에서 법령 조문 검색
 				// 필터 표현식이 제대로 작동하지 않을 수 있으므로,
 				// documentType만 필터로 적용하고 lawId와 articleKey는 메모리에서 필터링
@@ -0,0 +1,181 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import ai.langgraph4j.aiagent.service.dto.SearchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 결과 컨텍스트 패킹
+ * 프롬프트에 넣을 검색 결과를 순위화하고, 거의 같은 내용은 하나만 남긴 뒤 토큰 예산 안에서 가치가 높은 순으로 채웁니다.
+ *
+ * - 순위: 문서 타입(상담/법령/예규·판례)별 최상위 min-per-type건을 먼저, 나머지는 유사도 내림차순
+ *   (SearchReranker가 켜져 있으면 이미 관련도 순이므로 유사도 정렬 없이 입력 순서 사용,
+ *   어휘 검색으로만 찾아 유사도가 없는 결과는 유사도 있는 결과 뒤에 브랜치의 RRF 순서대로)
+ * - 중복 제거: 제목 + 내용의 문자 3-gram SimHash(64비트) 해밍 거리 <= simhash-max-distance면 중복
+ *   (제목과 내용이 모두 비어 있으면 비교할 내용이 없으므로 중복 판정하지 않음)
+ * - 예산: 항목별 토큰 비용(호출자가 렌더링 결과로 계산) 합계가 max-tokens를 넘지 않게 선택
+ *
+ * search.context.packing.enabled=false면 입력을 그대로 반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContextPacker {
+
+	private final MeterRegistry meterRegistry;
+	private final SearchReranker searchReranker;
+
+	@Value("${search.context.packing.enabled:true}")
+	private boolean enabled;
+
+	/** 검색 결과 컨텍스트 최대 토큰 수 */
+	@Value("${search.context.max-tokens:4000}")
+	private int maxTokens;
+
+	/** 근사 중복 판정 SimHash 해밍 거리 (0이면 완전히 같은 내용만 중복) */
+	@Value("${search.context.simhash-max-distance:3}")
+	private int simhashMaxDistance;
+
+	/** 문서 타입별로 유사도와 관계없이 먼저 고려할 최상위 결과 수 (한 타입이 예산을 독차지하지 않도록) */
+	@Value("${search.context.min-per-type:1}")
+	private int minPerType;
+
+	/**
+	 * 검색 결과 패킹
+	 *
+	 * @param results 검색 결과 (hybridSearch 통합 결과)
+	 * @param cost    항목별 토큰 비용 (프롬프트에 렌더링될 텍스트 기준)
+	 * @return 선택된 결과 (순위 순)
+	 */
+	public List<SearchResult> pack(List<SearchResult> results, ToIntFunction<SearchResult> cost) {
+		if (!enabled || results == null || results.size() <= 1) {
+			return results;
+		}
+		List<SearchResult> selected = new ArrayList<>();
+		List<Long> selectedHashes = new ArrayList<>();
+		int usedTokens = 0;
+		int duplicates = 0;
+		int overBudget = 0;
+
+		for (SearchResult result : rank(results)) {
+			String text = shingleText(result);
+			long hash = simhash(text);
+			if (!text.isEmpty() && isNearDuplicate(hash, selectedHashes)) {
+				duplicates++;
+				continue;
+			}
+			int tokens = cost.applyAsInt(result);
+			if (usedTokens + tokens > maxTokens && !selected.isEmpty()) {
+				overBudget++;
+				continue;
+			}
+			selected.add(result);
+			if (!text.isEmpty()) {
+				selectedHashes.add(hash);
+			}
+			usedTokens += tokens;
+		}
+
+		meterRegistry.summary("search.context.tokens").record(usedTokens);
+		meterRegistry.counter("search.context.dropped", "reason", "duplicate").increment(duplicates);
+		meterRegistry.counter("search.context.dropped", "reason", "budget").increment(overBudget);
+		log.debug("ContextPacker: 검색 결과 패킹 - 입력: {}건, 선택: {}건, 중복 제외: {}건, 예산 초과 제외: {}건, 토큰: {}/{}",
+				results.size(), selected.size(), duplicates, overBudget, usedTokens, maxTokens);
+		return selected;
+	}
+
+	/**
+	 * 타입별 최상위 결과를 먼저, 나머지는 유사도 내림차순 (동점이면 원래 순서, 재순위화된 입력은 입력 순서)
+	 */
+	private List<SearchResult> rank(List<SearchResult> results) {
+		List<SearchResult> sorted = new ArrayList<>(results);
+		if (!searchReranker.isEnabled()) {
+			sorted.sort(Comparator.comparingDouble(
+					(SearchResult r) -> r.getSimilarityScore() != null ? r.getSimilarityScore() : 0.0).reversed());
+		}
+
+		List<SearchResult> ranked = new ArrayList<>(sorted.size());
+		List<SearchResult> rest = new ArrayList<>(sorted.size());
+		Map<String, Integer> perType = new HashMap<>();
+		for (SearchResult result : sorted) {
+			String type = result.getDocumentType() != null ? result.getDocumentType() : "";
+			int count = perType.merge(type, 1, Integer::sum);
+			if (count <= minPerType) {
+				ranked.add(result);
+			} else {
+				rest.add(result);
+			}
+		}
+		ranked.addAll(rest);
+		return ranked;
+	}
+
+	private boolean isNearDuplicate(long hash, List<Long> selectedHashes) {
+		for (long selectedHash : selectedHashes) {
+			if (Long.bitCount(hash ^ selectedHash) <= simhashMaxDistance) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * SimHash 대상 텍스트: 제목 + 내용 (공백 제거, 소문자)
+	 */
+	static String shingleText(SearchResult result) {
+		return normalize(result.getTitle()) + normalize(result.getContent());
+	}
+
+	/**
+	 * 64비트 SimHash (문자 3-gram, FNV-1a 해시, 빈 텍스트는 0)
+	 */
+	static long simhash(String text) {
+		if (text.isEmpty()) {
+			return 0L;
+		}
+		int[] weights = new int[64];
+		int shingle = Math.min(3, text.length());
+		for (int i = 0; i + shingle <= text.length(); i++) {
+			long hash = 0xcbf29ce484222325L;
+			for (int j = i; j < i + shingle; j++) {
+				hash ^= text.charAt(j);
+				hash *= 0x100000001b3L;
+			}
+			for (int bit = 0; bit < 64; bit++) {
+				weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+			}
+		}
+		long simhash = 0L;
+		for (int bit = 0; bit < 64; bit++) {
+			if (weights[bit] > 0) {
+				simhash |= 1L << bit;
+			}
+		}
+		return simhash;
+	}
+
+	private static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,204 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import ai.langgraph4j.aiagent.service.LlmAdmissionController.Pool;
+import ai.langgraph4j.aiagent.service.LlmAdmissionController.Priority;
+import ai.langgraph4j.aiagent.service.SessionStore.SummarySource;
+import ai.langgraph4j.aiagent.service.dto.MessageDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대화 롤링 요약 서비스
+ * 히스토리가 trigger-messages를 넘으면 최근 keep-recent-messages를 제외한 앞부분을
+ * 기존 요약과 합쳐 새 요약으로 압축합니다. 요약은 세션과 함께 Redis에 저장되며(SessionStore),
+ * LlmNode는 요약 + 최근 대화만 프롬프트로 보냅니다.
+ *
+ * - 응답 전달 후 백그라운드 스레드에서 실행되므로 턴 지연에 영향이 없습니다.
+ * - 세션당 한 번에 하나의 요약만 실행하며, 요약 중 히스토리가 바뀌면 결과를 버립니다.
+ *
+ * chat.history.summary.enabled=false(기본값)면 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Service
+public class ConversationSummarizer {
+
+	private final SessionStore sessionStore;
+	private final ChatModel summaryModel;
+	private final LlmAdmissionController admissionController;
+	private final TokenEstimator tokenEstimator;
+	private final MeterRegistry meterRegistry;
+	private final AgentTracing agentTracing;
+
+	/** 요약 진행 중인 세션 (세션당 단일 실행) */
+	private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+	@Value("${chat.history.summary.enabled:false}")
+	private boolean enabled;
+
+	/** 저장된 히스토리가 이 메시지 수 이상이면 요약 */
+	@Value("${chat.history.summary.trigger-messages:16}")
+	private int triggerMessages;
+
+	/** 요약하지 않고 원문으로 유지할 최근 메시지 수 */
+	@Value("${chat.history.summary.keep-recent-messages:6}")
+	private int keepRecentMessages;
+
+	@Value("${chat.history.summary.pool-size:2}")
+	private int poolSize;
+
+	@Value("${chat.history.summary.queue-capacity:100}")
+	private int queueCapacity;
+
+	private ThreadPoolExecutor summaryExecutor;
+
+	/**
+	 * @param chatModel        메인 ChatModel (요약 전용 모델이 없을 때 사용)
+	 * @param summaryChatModel 요약 전용 경량 모델 (AiConfig, 선택)
+	 */
+	public ConversationSummarizer(SessionStore sessionStore,
+			@Qualifier("chatModel") ChatModel chatModel,
+			@Qualifier("summaryChatModel") ObjectProvider<ChatModel> summaryChatModel,
+			LlmAdmissionController admissionController,
+			TokenEstimator tokenEstimator,
+			MeterRegistry meterRegistry,
+			AgentTracing agentTracing) {
+		this.sessionStore = sessionStore;
+		this.summaryModel = summaryChatModel.getIfAvailable(() -> chatModel);
+		this.admissionController = admissionController;
+		this.tokenEstimator = tokenEstimator;
+		this.meterRegistry = meterRegistry;
+		this.agentTracing = agentTracing;
+	}
+
+	@PostConstruct
+	void initExecutor() {
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.summaryExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+				r -> {
+					Thread t = new Thread(r, "conversation-summary-" + threadIndex.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+		this.summaryExecutor.allowCoreThreadTimeOut(true);
+		if (enabled) {
+			log.info("ConversationSummarizer: 활성화 - 요약 기준: {}개, 유지 메시지: {}개",
+					triggerMessages, keepRecentMessages);
+		}
+	}
+
+	@PreDestroy
+	void shutdownExecutor() {
+		summaryExecutor.shutdown();
+	}
+
+	/**
+	 * 응답 전달 후 호출: 필요하면 백그라운드에서 요약 수행
+	 *
+	 * @param sessionId 세션 ID
+	 */
+	public void summarizeAsync(String sessionId) {
+		if (!enabled || sessionId == null || !inFlight.add(sessionId)) {
+			return;
+		}
+		try {
+			summaryExecutor.execute(() -> {
+				try {
+					summarize(sessionId);
+				} finally {
+					inFlight.remove(sessionId);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			inFlight.remove(sessionId);
+			countRun("rejected");
+			log.debug("ConversationSummarizer: 요약 대기열이 가득 참 - sessionId: {}", sessionId);
+		}
+	}
+
+	private void summarize(String sessionId) {
+		SummarySource source = sessionStore.loadSummarySource(sessionId);
+		if (source == null || source.messages().size() < triggerMessages) {
+			return;
+		}
+
+		// 사용자/AI 쌍이 나뉘지 않도록 짝수 개만 요약
+		int summarizedCount = source.messages().size() - keepRecentMessages;
+		summarizedCount -= summarizedCount % 2;
+		if (summarizedCount <= 0) {
+			return;
+		}
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			String summary = callModel(source.summary(), source.messages().subList(0, summarizedCount));
+			if (summary == null || summary.isBlank()) {
+				countRun("empty");
+				return;
+			}
+			boolean applied = sessionStore.applySummary(sessionId, source, summarizedCount, summary.strip());
+			countRun(applied ? "applied" : "stale");
+			log.info("ConversationSummarizer: 요약 {} - sessionId: {}, 요약 메시지: {}개, 요약 길이: {}자",
+					applied ? "완료" : "폐기(히스토리 변경)", sessionId, summarizedCount, summary.length());
+		} catch (Exception e) {
+			countRun("error");
+			log.warn("ConversationSummarizer: 요약 실패 - sessionId: {}, 오류: {}", sessionId, e.getMessage());
+		} finally {
+			sample.stop(meterRegistry.timer("chat.history.summary.duration"));
+		}
+	}
+
+	private String callModel(String previousSummary, List<MessageDto> messages) {
+		StringBuilder conversation = new StringBuilder();
+		for (MessageDto message : messages) {
+			conversation.append("USER".equals(message.getType()) ? "사용자: " : "AI: ")
+					.append(message.getText())
+					.append("\n");
+		}
+
+		String prompt = String.format(
+				"다음은 지금까지의 대화 요약과 그 이후의 대화입니다. 두 내용을 합쳐 하나의 요약으로 작성하세요.\n" +
+				"- 사용자의 질문 의도, 확인된 사실(법령 조문, 예규·판례 번호, 수치), 결론을 빠짐없이 남기세요.\n" +
+				"- 인사말이나 반복되는 설명은 제외하세요.\n" +
+				"- 1000자 이내로 작성하세요.\n\n" +
+				"기존 요약:\n%s\n\n" +
+				"이후 대화:\n%s",
+				previousSummary != null ? previousSummary : "(없음)", conversation);
+
+		Prompt summaryPrompt = new Prompt(List.of(
+				new SystemMessage("당신은 상담 대화를 간결하게 요약하는 도우미입니다."),
+				new UserMessage(prompt)));
+		// 백그라운드 작업이므로 배치 우선순위 (채팅 호출용 예약분을 사용하지 않음)
+		ChatResponse response = admissionController.call(Pool.SUMMARY, Priority.BATCH,
+				tokenEstimator.estimate(prompt), () -> summaryModel.call(summaryPrompt), () -> true);
+		agentTracing.recordTokens("summary", response);
+		return response.getResult().getOutput().getText();
+	}
+
+	private void countRun(String result) {
+		meterRegistry.counter("chat.history.summary.runs", "result", result).increment();
+	}
+}
@@ -31,6 +31,7 @@ public class CounselEmbeddingService {
 
 	private final CounselRepository counselRepository;
 	private final VectorStore vectorStore;
+	private final TokenEstimator tokenEstimator;
 
 	/**
 	 * 모든 상담 데이터를 임베딩하여 Vector Store에 저장
@@ -168,7 +169,7 @@ public class CounselEmbeddingService {
 		// 4. Vector Store에 즉시 저장 (배치 단위로 저장하여 메모리 해제)
 		if (!documents.isEmpty()) {
 			try {
-				vectorStore.add(documents);
+				LlmAdmissionController.runAsBatch(() -> vectorStore.add(documents));
 				log.debug("배치 저장 완료: 성공 {}건, 실패 {}건, 총 문서 {}개", successCount, failCount,
 						documents.size());
 			} catch (Exception e) {
@@ -283,9 +284,8 @@ public class CounselEmbeddingService {
 		List<String> chunks = new ArrayList<>();
 
 		if (text.length() <= maxChunkSize) {
-			// 텍스트가 최대 크기보다 작으면 그대로 반환
-			chunks.add(text);
-			return chunks;
+			// 텍스트가 최대 크기보다 작으면 그대로 반환 (토큰 한도 초과 시에만 분할)
+			return tokenEstimator.splitToTokenLimit(text, TokenEstimator.EMBEDDING_MAX_TOKENS);
 		}
 
 		// 텍스트를 문장 단위로 분할하여 의미 있는 경계에서 나눔
@@ -319,7 +319,7 @@ public class CounselEmbeddingService {
 			}
 		}
 
-		return chunks;
+		return tokenEstimator.limitChunks(chunks, TokenEstimator.EMBEDDING_MAX_TOKENS);
 	}
 
 	/**
@@ -27,6 +27,9 @@ import com.google.genai.types.ThinkingConfig;
 import com.google.genai.types.ThinkingLevel;
 
 import ai.langgraph4j.aiagent.config.PromptConfig;
+import ai.langgraph4j.aiagent.service.LlmAdmissionController.Permit;
+import ai.langgraph4j.aiagent.service.LlmAdmissionController.Pool;
+import ai.langgraph4j.aiagent.service.LlmAdmissionController.Priority;
 import ai.langgraph4j.aiagent.service.dto.SearchResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +51,8 @@ public class GeminiTextService {
 	private final ChatModel chatModel;
 	private final ConsultationSearchService consultationSearchService;
 	private final PromptConfig promptConfig;
+	private final LlmAdmissionController admissionController;
+	private final TokenEstimator tokenEstimator;
 
 	/**
 	 * 텍스트 입력을 받아 Gemini API로 응답을 생성합니다.
@@ -114,10 +119,9 @@ public class GeminiTextService {
 						.build();
 			}
 
-			GenerateContentResponse response = client.models.generateContent(
-					modelName,
-					prompt,
-					config);
+			GenerateContentConfig requestConfig = config;
+			GenerateContentResponse response = admissionController.call(Pool.CHAT, tokenEstimator.estimate(prompt),
+					() -> client.models.generateContent(modelName, prompt, requestConfig));
 
 			// 응답에서 grounding_metadata와 thought 필드 확인
 			if (includeThoughts != null && includeThoughts) {
@@ -193,8 +197,9 @@ public class GeminiTextService {
 						.thinkingLevel(new ThinkingLevel("low")))
 				.build();
 
-		GenerateContentResponse response = client.models.generateContent("gemini-3-flash-preview",
-				param != null ? param : "How does AI work?", config);
+		String prompt = param != null ? param : "How does AI work?";
+		GenerateContentResponse response = admissionController.call(Pool.CHAT, tokenEstimator.estimate(prompt),
+				() -> client.models.generateContent("gemini-3-flash-preview", prompt, config));
 
 		return response.text();
 	}
@@ -215,8 +220,9 @@ public class GeminiTextService {
 				.systemInstruction(Content.fromParts(Part.fromText(systemInstruction)))
 				.build();
 
-		GenerateContentResponse response = client.models.generateContent(modelName,
-				userPrompt, config);
+		GenerateContentResponse response = admissionController.call(Pool.CHAT,
+				tokenEstimator.estimate(systemInstruction) + tokenEstimator.estimate(userPrompt),
+				() -> client.models.generateContent(modelName, userPrompt, config));
 
 		return response.text();
 	}
@@ -242,13 +248,14 @@ public class GeminiTextService {
 					.build();
 		}
 
-		ResponseStream<GenerateContentResponse> responseStream = client.models.generateContentStream(
-				modelName, userPrompt, config);
-
-		for (GenerateContentResponse res : responseStream) {
-			System.out.print(res.text());
+		try (Permit permit = admissionController.acquire(Pool.CHAT, Priority.INTERACTIVE,
+				tokenEstimator.estimate(systemInstruction) + tokenEstimator.estimate(userPrompt));
+				ResponseStream<GenerateContentResponse> responseStream = client.models.generateContentStream(
+						modelName, userPrompt, config)) {
+			for (GenerateContentResponse res : responseStream) {
+				System.out.print(res.text());
+			}
 		}
-		responseStream.close();
 	}
 
 	/**
@@ -360,7 +367,11 @@ public class GeminiTextService {
 					StreamingChatModel streamingChatModel = (StreamingChatModel) chatModel;
 					Prompt prompt = new Prompt(messages);
 
-					Flux<ChatResponse> responseFlux = streamingChatModel.stream(prompt);
+					// 입장 제어: 실행 권한은 스트림이 끝나거나 취소될 때 반환
+					Permit permit = admissionController.acquire(Pool.CHAT, Priority.INTERACTIVE,
+							tokenEstimator.estimate(finalSystemInstruction) + tokenEstimator.estimate(userPrompt));
+					Flux<ChatResponse> responseFlux = streamingChatModel.stream(prompt)
+							.doFinally(signal -> permit.close());
 
 					// 이전 텍스트를 추적하여 델타만 전송
 					java.util.concurrent.atomic.AtomicReference<String> previousText = new java.util.concurrent.atomic.AtomicReference<>(
@@ -465,7 +476,9 @@ public class GeminiTextService {
 					// 스트리밍 미지원 - 일반 호출 사용
 					log.warn("ChatModel이 StreamingChatModel을 구현하지 않음. 일반 호출 사용");
 					Prompt prompt = new Prompt(messages);
-					ChatResponse response = chatModel.call(prompt);
+					ChatResponse response = admissionController.call(Pool.CHAT,
+							tokenEstimator.estimate(finalSystemInstruction) + tokenEstimator.estimate(userPrompt),
+							() -> chatModel.call(prompt));
 
 					String content = response.getResult().getOutput().getText();
 					if (content != null && !content.isEmpty()) {
@@ -0,0 +1,273 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신 법령 조문 카탈로그 (프로세스 내, 읽기 위주)
+ * 상담 결과의 lawArticlePairs(lawId:articleKey)로 LawArticleInfo를 만들 때 벡터 검색 대신 해시 조회로 메타데이터를 찾습니다.
+ *
+ * - 키: lawId:articleKey, 같은 조문이 여러 시행일로 저장되어 있으면 enforceDate가 가장 최근인 것만 유지
+ * - 메타데이터(법령명, 조문 표기, 조문 제목)만 시작 시 백그라운드로 적재, 반복되는 문자열은 intern
+ * - 조문 내용은 처음 조회할 때 해당 조문 청크만 읽어 lawId:articleKey LRU(content-cache-size)에 보관
+ * - LawArticleEmbeddingsChangedEvent(커밋 후)로 해당 법령만 또는 전체를 다시 적재
+ * - 시작 시 전체 적재가 실패하면 retry-initial-delay-ms부터 두 배씩(최대 retry-max-delay-ms) 늘려 재시도
+ *
+ * 적재 전이거나 카탈로그에 없는 조문은 호출자가 기존 벡터 검색으로 처리합니다.
+ * search.law-article-catalog.enabled=false면 사용하지 않습니다. test 프로파일에서는 로드하지 않습니다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class LawArticleCatalog {
+
+	private static final String SELECT_ARTICLES_SQL = """
+			SELECT DISTINCT metadata->>'lawId', metadata->>'lawNameKorean', metadata->>'articleKey',
+			       metadata->>'articleKoreanString', metadata->>'articleTitle', metadata->>'enforceDate'
+			FROM spring_ai_vector_store
+			WHERE metadata->>'documentType' = 'lawArticle'
+			""";
+
+	/** lawId / lawId + articleKey 조건은 vector_store_law_article_key_idx 사용 (docs/VECTOR_TABLE_SETUP.sql) */
+	private static final String SELECT_ARTICLES_BY_LAW_SQL = SELECT_ARTICLES_SQL + " AND metadata->>'lawId' = ?";
+
+	private static final String SELECT_CONTENT_SQL = """
+			SELECT content FROM spring_ai_vector_store
+			WHERE metadata->>'documentType' = 'lawArticle'
+			  AND metadata->>'lawId' = ? AND metadata->>'articleKey' = ?
+			  AND coalesce(metadata->>'enforceDate', '') = ?
+			ORDER BY coalesce((metadata->>'chunkIndex')::int, 0)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${search.law-article-catalog.enabled:true}")
+	private boolean enabled;
+
+	/** 조문 내용 캐시 최대 항목 수 (자주 조회되는 조문만 유지) */
+	@Value("${search.law-article-catalog.content-cache-size:2000}")
+	private int contentCacheSize;
+
+	/** 시작 시 전체 적재 실패 후 첫 재시도 대기 시간 (ms) */
+	@Value("${search.law-article-catalog.retry-initial-delay-ms:5000}")
+	private long retryInitialDelayMs;
+
+	/** 전체 적재 재시도 대기 시간 상한 (ms) */
+	@Value("${search.law-article-catalog.retry-max-delay-ms:300000}")
+	private long retryMaxDelayMs;
+
+	private volatile Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private volatile boolean loaded;
+	private ScheduledExecutorService loader;
+
+	/** access-order LinkedHashMap (LRU), 자기 자신으로 동기화 */
+	private final LinkedHashMap<String, CachedContent> contents = new LinkedHashMap<>(16, 0.75f, true);
+
+	@PostConstruct
+	void init() {
+		if (!enabled) {
+			return;
+		}
+		Gauge.builder("search.law-article-catalog.size", this, c -> c.entries.size())
+				.description("법령 조문 카탈로그 항목 수")
+				.register(meterRegistry);
+		this.loader = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "law-article-catalog-loader");
+			t.setDaemon(true);
+			return t;
+		});
+		loader.execute(() -> loadAllWithRetry(retryInitialDelayMs));
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (loader != null) {
+			loader.shutdownNow();
+		}
+	}
+
+	/**
+	 * 카탈로그 사용 가능 여부 (전체 적재 완료 후 true)
+	 */
+	public boolean isReady() {
+		return enabled && loaded;
+	}
+
+	/**
+	 * lawId + articleKey로 최신 조문 조회 (내용은 처음 조회 시 적재)
+	 *
+	 * @return 카탈로그에 없으면 empty
+	 */
+	public Optional<Article> find(String lawId, String articleKey) {
+		if (!isReady()) {
+			return Optional.empty();
+		}
+		Entry entry = entries.get(key(lawId, articleKey));
+		if (entry == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new Article(entry.lawId, entry.lawNameKorean, entry.articleKey, entry.articleKoreanString,
+				entry.articleTitle, content(entry)));
+	}
+
+	/**
+	 * 임베딩 커밋 후 해당 법령(또는 전체) 다시 적재
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onLawArticleEmbeddingsChanged(LawArticleEmbeddingsChangedEvent event) {
+		if (loader == null) {
+			return;
+		}
+		loader.execute(() -> reload(event.lawId()));
+	}
+
+	/**
+	 * 전체 적재, 실패하면 delayMs 후 재시도 (대기 시간은 두 배씩 늘림)
+	 * 그 사이 이벤트로 전체 적재가 끝났으면 재시도하지 않음
+	 */
+	private void loadAllWithRetry(long delayMs) {
+		if (loaded || reload(null) || loader.isShutdown()) {
+			return;
+		}
+		log.warn("LawArticleCatalog: 전체 적재 재시도 예약 - 대기: {}ms", delayMs);
+		long nextDelayMs = Math.min(delayMs * 2, retryMaxDelayMs);
+		loader.schedule(() -> loadAllWithRetry(nextDelayMs), delayMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 해당 법령(lawId가 null이면 전체) 조문 메타데이터 적재
+	 *
+	 * @return 적재 성공 여부
+	 */
+	private boolean reload(String lawId) {
+		long start = System.currentTimeMillis();
+		try {
+			Map<String, Entry> loadedEntries = new ConcurrentHashMap<>();
+			RowHandler handler = new RowHandler(loadedEntries);
+			if (lawId == null) {
+				jdbcTemplate.query(SELECT_ARTICLES_SQL, handler);
+				this.entries = loadedEntries;
+				this.loaded = true;
+			} else {
+				jdbcTemplate.query(SELECT_ARTICLES_BY_LAW_SQL, handler, lawId);
+				entries.values().removeIf(entry -> entry.lawId.equals(lawId));
+				entries.putAll(loadedEntries);
+			}
+			log.info("LawArticleCatalog: 적재 완료 - lawId: {}, 조문: {}건, 전체: {}건, 소요: {}ms",
+					lawId != null ? lawId : "전체", loadedEntries.size(), entries.size(),
+					System.currentTimeMillis() - start);
+			return true;
+		} catch (Exception e) {
+			log.warn("LawArticleCatalog: 적재 실패, 기존 카탈로그 유지 - lawId: {}, 오류: {}", lawId, e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 조문 내용 (캐시에 없으면 해당 조문 청크를 읽어 캐시)
+	 * 다시 적재된 조문은 새 Entry이므로, 이전 Entry로 캐시한 내용은 사용하지 않고 다시 읽음
+	 */
+	private String content(Entry entry) {
+		String key = key(entry.lawId, entry.articleKey);
+		synchronized (contents) {
+			CachedContent cached = contents.get(key);
+			if (cached != null && cached.entry() == entry) {
+				return cached.text();
+			}
+		}
+		List<String> chunks = jdbcTemplate.queryForList(SELECT_CONTENT_SQL, String.class, entry.lawId,
+				entry.articleKey, entry.enforceDate);
+		String content = String.join("\n", chunks);
+		synchronized (contents) {
+			contents.put(key, new CachedContent(entry, content));
+			if (contents.size() > contentCacheSize) {
+				contents.remove(contents.keySet().iterator().next());
+			}
+		}
+		return content;
+	}
+
+	private static String key(String lawId, String articleKey) {
+		return lawId + ":" + articleKey;
+	}
+
+	private static String intern(String value) {
+		return value != null ? value.intern() : null;
+	}
+
+	/**
+	 * 조회 결과 (조문 메타데이터 + 내용)
+	 */
+	public record Article(String lawId, String lawNameKorean, String articleKey, String articleKoreanString,
+			String articleTitle, String content) {
+	}
+
+	private static final class Entry {
+		private final String lawId;
+		private final String lawNameKorean;
+		private final String articleKey;
+		private final String articleKoreanString;
+		private final String articleTitle;
+		private final String enforceDate;
+
+		private Entry(String lawId, String lawNameKorean, String articleKey, String articleKoreanString,
+				String articleTitle, String enforceDate) {
+			this.lawId = lawId;
+			this.lawNameKorean = lawNameKorean;
+			this.articleKey = articleKey;
+			this.articleKoreanString = articleKoreanString;
+			this.articleTitle = articleTitle;
+			this.enforceDate = enforceDate;
+		}
+	}
+
+	/**
+	 * 캐시된 조문 내용 (어느 Entry로 읽었는지 함께 보관)
+	 */
+	private record CachedContent(Entry entry, String text) {
+	}
+
+	/**
+	 * 행을 Entry로 변환해 lawId:articleKey별 최신 enforceDate만 유지
+	 */
+	private record RowHandler(Map<String, Entry> target) implements RowCallbackHandler {
+
+		@Override
+		public void processRow(ResultSet rs) throws SQLException {
+			String lawId = rs.getString(1);
+			String articleKey = rs.getString(3);
+			if (lawId == null || articleKey == null) {
+				return;
+			}
+			String enforceDate = rs.getString(6);
+			Entry entry = new Entry(intern(lawId), intern(rs.getString(2)), intern(articleKey), intern(rs.getString(4)),
+					rs.getString(5), enforceDate != null ? intern(enforceDate) : "");
+			target.merge(key(lawId, articleKey), entry,
+					(current, candidate) -> candidate.enforceDate.compareTo(current.enforceDate) > 0 ? candidate : current);
+		}
+	}
+}
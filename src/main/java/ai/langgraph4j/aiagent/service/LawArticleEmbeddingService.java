@@ -36,6 +36,7 @@ public class LawArticleEmbeddingService {
 	private final LawBasicInformationRepository lawBasicInformationRepository;
 	private final ArticleRepository articleRepository;
 	private final VectorStore vectorStore;
+	private final TokenEstimator tokenEstimator;
 	private final ApplicationContext applicationContext;
 
 	/**
@@ -117,6 +118,7 @@ public class LawArticleEmbeddingService {
 
 		log.info("전체 최신 법령 조문 임베딩 완료: 총 {}개 법령, {}개 조문, {}개 문서 임베딩",
 				totalCount, totalArticles, totalProcessed);
+		applicationContext.publishEvent(new LawArticleEmbeddingsChangedEvent(null));
 		return totalProcessed;
 	}
 
@@ -200,6 +202,7 @@ public class LawArticleEmbeddingService {
 
 		log.info("법령 ID {} (lawId: {}) 임베딩 완료: {}개 조문, {}개 문서 임베딩",
 				law.getId(), lawId, articles.size(), processed);
+		applicationContext.publishEvent(new LawArticleEmbeddingsChangedEvent(lawId));
 		return processed;
 	}
 
@@ -254,7 +257,7 @@ public class LawArticleEmbeddingService {
 				// 4. 각 조문의 문서를 즉시 Vector Store에 저장 (flush)
 				if (!documents.isEmpty()) {
 					try {
-						vectorStore.add(documents);
+						LlmAdmissionController.runAsBatch(() -> vectorStore.add(documents));
 						totalDocuments += documents.size();
 						successCount++;
 						log.debug("조문 ID {} 임베딩 완료 ({}개 청크)", article.getId(), chunks.size());
@@ -289,9 +292,8 @@ public class LawArticleEmbeddingService {
 		List<String> chunks = new ArrayList<>();
 
 		if (text.length() <= maxChunkSize) {
-			// 텍스트가 최대 크기보다 작으면 그대로 반환
-			chunks.add(text);
-			return chunks;
+			// 텍스트가 최대 크기보다 작으면 그대로 반환 (토큰 한도 초과 시에만 분할)
+			return tokenEstimator.splitToTokenLimit(text, TokenEstimator.EMBEDDING_MAX_TOKENS);
 		}
 
 		// 텍스트를 문장 단위로 분할하여 의미 있는 경계에서 나눔
@@ -325,7 +327,7 @@ public class LawArticleEmbeddingService {
 			}
 		}
 
-		return chunks;
+		return tokenEstimator.limitChunks(chunks, TokenEstimator.EMBEDDING_MAX_TOKENS);
 	}
 
 	/**
@@ -409,8 +411,7 @@ public class LawArticleEmbeddingService {
 		BigDecimal costPerMillionTokens = new BigDecimal("0.15");
 		BigDecimal costPerToken = costPerMillionTokens.divide(new BigDecimal("1000000"), 10, RoundingMode.HALF_UP);
 
-		// 토큰 계산 상수 (한글 중심 텍스트: 1 토큰 ≈ 3 문자)
-		final double TOKENS_PER_CHAR = 1.0 / 3.0;
+		// 청크 분할 기준 (토큰 수는 TokenEstimator로 추정)
 		final int MAX_CHUNK_SIZE = 6000; // 약 2,000 토큰 (안전 마진 포함)
 
 		for (Article article : articles) {
@@ -430,8 +431,7 @@ public class LawArticleEmbeddingService {
 				// 각 청크의 토큰 수 계산
 				long articleTokens = 0;
 				for (String chunk : chunks) {
-					// 문자 수를 토큰 수로 변환 (보수적으로 계산)
-					long chunkTokens = Math.round(chunk.length() * TOKENS_PER_CHAR);
+					long chunkTokens = tokenEstimator.estimate(chunk);
 					articleTokens += chunkTokens;
 				}
 
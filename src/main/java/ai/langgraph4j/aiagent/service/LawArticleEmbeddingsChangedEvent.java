@@ -0,0 +1,9 @@
+package ai.langgraph4j.aiagent.service;
+
+/**
+ * 법령 조문 임베딩 변경 이벤트 (LawArticleEmbeddingService가 임베딩 저장 후 발행)
+ *
+ * @param lawId 변경된 법령ID (null이면 전체 법령)
+ */
+public record LawArticleEmbeddingsChangedEvent(String lawId) {
+}
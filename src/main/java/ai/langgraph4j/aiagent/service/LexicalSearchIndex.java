@@ -0,0 +1,412 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 벡터 스토어 청크에 대한 프로세스 내 BM25 역색인 (문자 bigram)
+ * 조문 번호("제10조의2"), 예규·판례 번호("조심2018전1149")처럼 정확한 표기가 중요한 질문을
+ * 임베딩 검색과 별도로 어휘 일치로 찾아 ConsultationSearchService 브랜치 결과에 RRF로 합칩니다.
+ *
+ * - 토큰: 소문자 변환 후 공백·기호를 제거한 문자 bigram ("제 10조의 2"와 "제10조의2"가 같은 토큰열)
+ * - 점수: BM25 (k1, b), 문서 빈도가 max-df-ratio를 넘는 흔한 bigram은 질의에서 제외
+ * - 후보: 질의 bigram의 posting에 있는 문서만 점수를 누적하고, 일치한 질의 bigram 수가
+ *   max(min-matched-terms, min-term-coverage × 질의 bigram 수) 미만인 문서는 제외
+ * - 결과 Document의 score는 비우고 BM25 원점수를 metadata lexicalScore에 담음 (벡터 유사도와 척도가 다르므로)
+ * - 색인: spring_ai_vector_store의 id, content, metadata를 시작 시 백그라운드로 적재하고
+ *   refresh-minutes마다, 그리고 법령 조문 임베딩 변경 이벤트 후 새 색인을 만들어 교체 (검색은 불변 스냅샷을 읽으므로 잠금 없음)
+ *
+ * search.lexical.enabled=true일 때만 등록됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.lexical.enabled", havingValue = "true")
+public class LexicalSearchIndex {
+
+	private static final String SELECT_CHUNKS_SQL = "SELECT id::text, content, metadata::text FROM spring_ai_vector_store";
+
+	private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+	};
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PlatformTransactionManager transactionManager;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${search.lexical.k1:1.2}")
+	private double k1;
+
+	@Value("${search.lexical.b:0.75}")
+	private double b;
+
+	/** 이 비율보다 많은 문서에 나오는 bigram은 질의 토큰에서 제외 (0 ~ 1) */
+	@Value("${search.lexical.max-df-ratio:0.2}")
+	private double maxDfRatio;
+
+	/** 결과로 인정할 최소 일치 질의 bigram 수 */
+	@Value("${search.lexical.min-matched-terms:2}")
+	private int minMatchedTerms;
+
+	/** 결과로 인정할 최소 일치 질의 bigram 비율 (0 ~ 1, 질의 bigram 중 문서에 나온 비율) */
+	@Value("${search.lexical.min-term-coverage:0.3}")
+	private double minTermCoverage;
+
+	/** 색인 재구성 주기 (분, 0 이하면 시작 시 한 번만) */
+	@Value("${search.lexical.refresh-minutes:60}")
+	private long refreshMinutes;
+
+	/** 적재 시 JDBC fetch size */
+	@Value("${search.lexical.fetch-size:500}")
+	private int fetchSize;
+
+	private volatile Index index = Index.EMPTY;
+	private final AtomicBoolean rebuildPending = new AtomicBoolean();
+	private ScheduledExecutorService refresher;
+	private Timer queryTimer;
+
+	@PostConstruct
+	void init() {
+		this.queryTimer = Timer.builder("search.lexical.query")
+				.description("BM25 역색인 검색 소요 시간")
+				.register(meterRegistry);
+		Gauge.builder("search.lexical.documents", this, s -> s.index.size())
+				.description("역색인 문서(청크) 수")
+				.register(meterRegistry);
+
+		this.refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "lexical-index-refresher");
+			t.setDaemon(true);
+			return t;
+		});
+		if (refreshMinutes > 0) {
+			refresher.scheduleWithFixedDelay(this::rebuildSafely, 0, refreshMinutes, TimeUnit.MINUTES);
+		} else {
+			refresher.execute(this::rebuildSafely);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (refresher != null) {
+			refresher.shutdownNow();
+		}
+	}
+
+	/**
+	 * 색인 재구성 요청 (백그라운드에서 실행, 이미 대기 중인 재구성이 있으면 합침)
+	 */
+	public void requestRebuild() {
+		if (rebuildPending.compareAndSet(false, true)) {
+			refresher.execute(() -> {
+				rebuildPending.set(false);
+				rebuildSafely();
+			});
+		}
+	}
+
+	/**
+	 * 법령 조문 임베딩 커밋 후 색인 재구성
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onLawArticleEmbeddingsChanged(LawArticleEmbeddingsChangedEvent event) {
+		requestRebuild();
+	}
+
+	/**
+	 * BM25 검색
+	 *
+	 * @param query        검색 쿼리 (systemInstruction 보강 전 질문)
+	 * @param documentType 문서 타입 필터 (counsel / lawArticle / yp, null이면 전체)
+	 * @param topK         반환할 최대 결과 수
+	 * @return BM25 점수 순 문서 (score 없음, metadata lexicalScore에 BM25 원점수)
+	 */
+	public List<Document> search(String query, String documentType, int topK) {
+		Index current = index;
+		if (current.size() == 0 || query == null || query.isBlank() || topK <= 0) {
+			return List.of();
+		}
+		return queryTimer.record(() -> current.search(query, documentType, topK, k1, b, maxDfRatio,
+				minMatchedTerms, minTermCoverage));
+	}
+
+	private void rebuildSafely() {
+		try {
+			rebuild();
+		} catch (Exception e) {
+			log.warn("LexicalSearchIndex: 색인 재구성 실패, 기존 색인 유지 - 오류: {}", e.getMessage(), e);
+		}
+	}
+
+	private void rebuild() {
+		long start = System.currentTimeMillis();
+		Index.Builder builder = new Index.Builder();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		// PostgreSQL은 트랜잭션 안에서만 fetch size 단위로 커서를 읽음
+		transactionTemplate.executeWithoutResult(status -> {
+			JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+			streaming.setFetchSize(fetchSize);
+			streaming.query(SELECT_CHUNKS_SQL, (RowCallbackHandler) rs -> {
+				String content = rs.getString(2);
+				if (content != null && !content.isBlank()) {
+					builder.add(rs.getString(1), content, parseMetadata(rs.getString(3)));
+				}
+			});
+		});
+		this.index = builder.build();
+		log.info("LexicalSearchIndex: 색인 재구성 완료 - 문서: {}건, bigram: {}개, 소요: {}ms", index.size(),
+				index.terms(), System.currentTimeMillis() - start);
+	}
+
+	private Map<String, Object> parseMetadata(String json) {
+		if (json == null || json.isBlank()) {
+			return Map.of();
+		}
+		try {
+			Map<String, Object> metadata = objectMapper.readValue(json, METADATA_TYPE);
+			// Document는 null 메타데이터 값을 허용하지 않음
+			metadata.values().removeIf(Objects::isNull);
+			return metadata;
+		} catch (Exception e) {
+			log.debug("LexicalSearchIndex: metadata 파싱 실패 (무시) - {}", e.getMessage());
+			return Map.of();
+		}
+	}
+
+	/**
+	 * 공백·기호 제거 후 소문자 문자 bigram 목록 (중복 포함, 한 글자면 그 글자)
+	 */
+	static List<String> tokenize(String text) {
+		StringBuilder normalized = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				normalized.append(Character.toLowerCase(c));
+			}
+		}
+		List<String> tokens = new ArrayList<>(Math.max(1, normalized.length() - 1));
+		if (normalized.length() == 1) {
+			tokens.add(normalized.toString());
+		}
+		for (int i = 0; i + 1 < normalized.length(); i++) {
+			tokens.add(normalized.substring(i, i + 2));
+		}
+		return tokens;
+	}
+
+	/**
+	 * 불변 역색인 스냅샷 (bigram → 문서 번호/빈도 배열)
+	 */
+	private static final class Index {
+
+		static final Index EMPTY = new Index(new String[0], new String[0], List.of(), List.of(), new int[0],
+				Map.of(), 0);
+
+		private final String[] ids;
+		private final String[] documentTypes;
+		private final List<String> contents;
+		private final List<Map<String, Object>> metadata;
+		private final int[] lengths;
+		private final Map<String, Postings> postings;
+		private final double averageLength;
+
+		private Index(String[] ids, String[] documentTypes, List<String> contents, List<Map<String, Object>> metadata,
+				int[] lengths, Map<String, Postings> postings, double averageLength) {
+			this.ids = ids;
+			this.documentTypes = documentTypes;
+			this.contents = contents;
+			this.metadata = metadata;
+			this.lengths = lengths;
+			this.postings = postings;
+			this.averageLength = averageLength;
+		}
+
+		int size() {
+			return ids.length;
+		}
+
+		int terms() {
+			return postings.size();
+		}
+
+		List<Document> search(String query, String documentType, int topK, double k1, double b, double maxDfRatio,
+				int minMatchedTerms, double minTermCoverage) {
+			Map<String, Integer> queryTerms = new HashMap<>();
+			for (String token : tokenize(query)) {
+				queryTerms.merge(token, 1, Integer::sum);
+			}
+			int n = size();
+			// 질의 bigram의 posting에 있는 문서만 누적 (전체 문서 배열을 만들지 않음)
+			Map<Integer, Candidate> candidates = new HashMap<>();
+			int admittedTerms = 0;
+			for (Map.Entry<String, Integer> term : queryTerms.entrySet()) {
+				Postings p = postings.get(term.getKey());
+				if (p != null && p.docs.length > maxDfRatio * n) {
+					continue;
+				}
+				admittedTerms++;
+				if (p == null) {
+					continue;
+				}
+				double idf = Math.log(1.0 + (n - p.docs.length + 0.5) / (p.docs.length + 0.5));
+				for (int i = 0; i < p.docs.length; i++) {
+					int doc = p.docs[i];
+					if (documentType != null && !documentType.equals(documentTypes[doc])) {
+						continue;
+					}
+					double tf = p.freqs[i];
+					double norm = tf + k1 * (1.0 - b + b * lengths[doc] / averageLength);
+					Candidate candidate = candidates.computeIfAbsent(doc, d -> new Candidate());
+					candidate.score += term.getValue() * idf * tf * (k1 + 1.0) / norm;
+					candidate.matchedTerms++;
+				}
+			}
+			if (candidates.isEmpty()) {
+				return List.of();
+			}
+			int requiredTerms = Math.max(Math.max(1, minMatchedTerms), (int) Math.ceil(minTermCoverage * admittedTerms));
+
+			// 상위 topK 선택 (topK가 작으므로 정렬 삽입)
+			int[] top = new int[topK];
+			double[] topScores = new double[topK];
+			int count = 0;
+			for (Map.Entry<Integer, Candidate> entry : candidates.entrySet()) {
+				Candidate candidate = entry.getValue();
+				if (candidate.matchedTerms < requiredTerms) {
+					continue;
+				}
+				double score = candidate.score;
+				if (count == topK && score <= topScores[count - 1]) {
+					continue;
+				}
+				int pos = count < topK ? count++ : count - 1;
+				while (pos > 0 && topScores[pos - 1] < score) {
+					top[pos] = top[pos - 1];
+					topScores[pos] = topScores[pos - 1];
+					pos--;
+				}
+				top[pos] = entry.getKey();
+				topScores[pos] = score;
+			}
+			List<Document> results = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				int doc = top[i];
+				Map<String, Object> meta = new HashMap<>(metadata.get(doc));
+				meta.put("lexicalScore", topScores[i]);
+				results.add(Document.builder()
+						.id(ids[doc])
+						.text(contents.get(doc))
+						.metadata(meta)
+						.build());
+			}
+			return results;
+		}
+
+		static final class Builder {
+
+			private final List<String> ids = new ArrayList<>();
+			private final List<String> documentTypes = new ArrayList<>();
+			private final List<String> contents = new ArrayList<>();
+			private final List<Map<String, Object>> metadata = new ArrayList<>();
+			private final List<Integer> lengths = new ArrayList<>();
+			private final Map<String, PostingsBuilder> postings = new HashMap<>();
+			private long totalLength;
+
+			void add(String id, String content, Map<String, Object> meta) {
+				int doc = ids.size();
+				Object type = meta.get("documentType");
+				ids.add(id);
+				documentTypes.add(type != null ? type.toString().intern() : null);
+				contents.add(content);
+				metadata.add(meta);
+
+				Map<String, Integer> termFreqs = new HashMap<>();
+				List<String> tokens = tokenize(content);
+				for (String token : tokens) {
+					termFreqs.merge(token, 1, Integer::sum);
+				}
+				termFreqs.forEach((term, freq) -> postings.computeIfAbsent(term, k -> new PostingsBuilder())
+						.add(doc, freq));
+				lengths.add(tokens.size());
+				totalLength += tokens.size();
+			}
+
+			Index build() {
+				Map<String, Postings> built = new HashMap<>(postings.size() * 4 / 3 + 1);
+				postings.forEach((term, p) -> built.put(term, p.build()));
+				int[] lengthArray = lengths.stream().mapToInt(Integer::intValue).toArray();
+				double averageLength = ids.isEmpty() ? 0 : (double) totalLength / ids.size();
+				return new Index(ids.toArray(new String[0]), documentTypes.toArray(new String[0]), contents, metadata,
+						lengthArray, built, averageLength);
+			}
+		}
+	}
+
+	/**
+	 * 검색 중 문서 하나의 누적 점수와 일치한 질의 bigram 수
+	 */
+	private static final class Candidate {
+		private double score;
+		private int matchedTerms;
+	}
+
+	private static final class Postings {
+		private final int[] docs;
+		private final int[] freqs;
+
+		private Postings(int[] docs, int[] freqs) {
+			this.docs = docs;
+			this.freqs = freqs;
+		}
+	}
+
+	private static final class PostingsBuilder {
+		private int[] docs = new int[4];
+		private int[] freqs = new int[4];
+		private int size;
+
+		void add(int doc, int freq) {
+			if (size == docs.length) {
+				docs = Arrays.copyOf(docs, size * 2);
+				freqs = Arrays.copyOf(freqs, size * 2);
+			}
+			docs[size] = doc;
+			freqs[size] = freq;
+			size++;
+		}
+
+		Postings build() {
+			return new Postings(Arrays.copyOf(docs, size), Arrays.copyOf(freqs, size));
+		}
+	}
+}
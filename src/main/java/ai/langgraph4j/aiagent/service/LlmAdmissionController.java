@@ -0,0 +1,406 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 호출 입장 제어 (동시 실행 수 + 분당 토큰 예산)
+ * 채팅(LlmNode, GeminiTextService), 검수(ValidationNode), 요약(ConversationSummarizer),
+ * 임베딩(EmbeddingModel) 호출이 모델 풀별 동시 실행 수와 분당 토큰 예산을 공유합니다.
+ *
+ * - 풀마다 동시 실행 수의 interactive-reserve-ratio 만큼은 대화형(INTERACTIVE) 호출 전용으로 남겨
+ *   임베딩 적재 같은 배치(BATCH) 호출이 채팅을 밀어내지 않게 합니다.
+ * - 분당 토큰 예산은 토큰 버킷으로 관리하며, 예산이 부족하면 채워질 때까지 대기합니다.
+ * - 429(RESOURCE_EXHAUSTED) 응답은 지수 백오프 + full jitter로 재시도합니다.
+ * - 대기 시간이 max-queue-ms를 넘으면 AdmissionRejectedException으로 거절합니다.
+ *
+ * 대기 시간은 llm.admission.queue-time, 재시도/거절은 llm.admission.retries / llm.admission.rejected,
+ * 실행 중 호출 수는 llm.admission.in-flight 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmAdmissionController {
+
+	/** 현재 스레드의 호출 우선순위 (기본 INTERACTIVE, 배치 작업은 runAsBatch로 지정) */
+	private static final ThreadLocal<Priority> CURRENT_PRIORITY = ThreadLocal.withInitial(() -> Priority.INTERACTIVE);
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<Pool, PoolState> pools = new EnumMap<>(Pool.class);
+
+	@Value("${agent.llm.admission.enabled:true}")
+	private boolean enabled;
+
+	/** 동시 실행 수/토큰 예산 대기 최대 시간 (ms) */
+	@Value("${agent.llm.admission.max-queue-ms:30000}")
+	private long maxQueueMs;
+
+	/** 풀별 동시 실행 수 중 대화형 호출 전용 비율 (배치 호출은 나머지만 사용) */
+	@Value("${agent.llm.admission.interactive-reserve-ratio:0.25}")
+	private double interactiveReserveRatio;
+
+	@Value("${agent.llm.admission.retry.max-attempts:3}")
+	private int maxRetries;
+
+	@Value("${agent.llm.admission.retry.base-delay-ms:500}")
+	private long retryBaseDelayMs;
+
+	@Value("${agent.llm.admission.retry.max-delay-ms:8000}")
+	private long retryMaxDelayMs;
+
+	@Value("${agent.llm.admission.chat.concurrency:32}")
+	private int chatConcurrency;
+
+	@Value("${agent.llm.admission.chat.tokens-per-minute:0}")
+	private long chatTokensPerMinute;
+
+	@Value("${agent.llm.admission.validation.concurrency:8}")
+	private int validationConcurrency;
+
+	@Value("${agent.llm.admission.validation.tokens-per-minute:0}")
+	private long validationTokensPerMinute;
+
+	@Value("${agent.llm.admission.summary.concurrency:4}")
+	private int summaryConcurrency;
+
+	@Value("${agent.llm.admission.summary.tokens-per-minute:0}")
+	private long summaryTokensPerMinute;
+
+	@Value("${agent.llm.admission.embedding.concurrency:16}")
+	private int embeddingConcurrency;
+
+	@Value("${agent.llm.admission.embedding.tokens-per-minute:0}")
+	private long embeddingTokensPerMinute;
+
+	@PostConstruct
+	void init() {
+		pools.put(Pool.CHAT, new PoolState(Pool.CHAT, chatConcurrency, chatTokensPerMinute));
+		pools.put(Pool.VALIDATION, new PoolState(Pool.VALIDATION, validationConcurrency, validationTokensPerMinute));
+		pools.put(Pool.SUMMARY, new PoolState(Pool.SUMMARY, summaryConcurrency, summaryTokensPerMinute));
+		pools.put(Pool.EMBEDDING, new PoolState(Pool.EMBEDDING, embeddingConcurrency, embeddingTokensPerMinute));
+		for (PoolState state : pools.values()) {
+			Gauge.builder("llm.admission.in-flight", state.inFlight, AtomicInteger::get)
+					.description("실행 중인 LLM 호출 수")
+					.tag("pool", state.pool.tag)
+					.register(meterRegistry);
+		}
+		if (enabled) {
+			log.info("LlmAdmissionController: 활성화 - chat: {}/{}tpm, validation: {}/{}tpm, summary: {}/{}tpm, embedding: {}/{}tpm",
+					chatConcurrency, chatTokensPerMinute, validationConcurrency, validationTokensPerMinute,
+					summaryConcurrency, summaryTokensPerMinute, embeddingConcurrency, embeddingTokensPerMinute);
+		}
+	}
+
+	/**
+	 * 현재 스레드의 LLM 호출을 배치 우선순위로 실행 (임베딩 적재 등)
+	 */
+	public static <T> T runAsBatch(Supplier<T> work) {
+		Priority previous = CURRENT_PRIORITY.get();
+		CURRENT_PRIORITY.set(Priority.BATCH);
+		try {
+			return work.get();
+		} finally {
+			CURRENT_PRIORITY.set(previous);
+		}
+	}
+
+	/**
+	 * 현재 스레드의 LLM 호출을 배치 우선순위로 실행 (임베딩 적재 등)
+	 */
+	public static void runAsBatch(Runnable work) {
+		runAsBatch(() -> {
+			work.run();
+			return null;
+		});
+	}
+
+	/**
+	 * 현재 스레드의 호출 우선순위
+	 */
+	public static Priority currentPriority() {
+		return CURRENT_PRIORITY.get();
+	}
+
+	/**
+	 * 입장 제어 후 호출 (현재 스레드 우선순위, 429 재시도)
+	 *
+	 * @param pool            모델 풀
+	 * @param estimatedTokens 추정 토큰 수 (분당 토큰 예산 차감용)
+	 * @param call            LLM 호출
+	 * @return 호출 결과
+	 */
+	public <T> T call(Pool pool, long estimatedTokens, Supplier<T> call) {
+		return call(pool, currentPriority(), estimatedTokens, call, () -> true);
+	}
+
+	/**
+	 * 입장 제어 후 호출
+	 *
+	 * @param pool            모델 풀
+	 * @param priority        우선순위
+	 * @param estimatedTokens 추정 토큰 수 (분당 토큰 예산 차감용)
+	 * @param call            LLM 호출
+	 * @param retryable       429 발생 시 재시도 가능 여부 (스트리밍 중 일부를 이미 전송했으면 false)
+	 * @return 호출 결과
+	 */
+	public <T> T call(Pool pool, Priority priority, long estimatedTokens, Supplier<T> call,
+			BooleanSupplier retryable) {
+		if (!enabled) {
+			return call.get();
+		}
+		for (int attempt = 0;; attempt++) {
+			try (Permit permit = acquire(pool, priority, estimatedTokens)) {
+				return call.get();
+			} catch (RuntimeException e) {
+				if (!isRateLimited(e) || attempt >= maxRetries || !retryable.getAsBoolean()) {
+					throw e;
+				}
+				long delay = backoffDelay(attempt);
+				meterRegistry.counter("llm.admission.retries", "pool", pool.tag).increment();
+				log.warn("LlmAdmissionController: 429 응답, {}ms 후 재시도 ({}/{}) - pool: {}",
+						delay, attempt + 1, maxRetries, pool.tag);
+				sleep(delay);
+			}
+		}
+	}
+
+	/**
+	 * 실행 권한 획득 (스트리밍처럼 호출이 비동기로 끝나는 경우 직접 close)
+	 *
+	 * @param pool            모델 풀
+	 * @param priority        우선순위
+	 * @param estimatedTokens 추정 토큰 수
+	 * @return 실행 권한 (반드시 close)
+	 * @throws AdmissionRejectedException 대기 시간 초과
+	 */
+	public Permit acquire(Pool pool, Priority priority, long estimatedTokens) {
+		if (!enabled) {
+			return Permit.NOOP;
+		}
+		PoolState state = pools.get(pool);
+		long start = System.nanoTime();
+		long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxQueueMs);
+		boolean batchAcquired = false;
+		boolean acquired = false;
+		try {
+			if (priority == Priority.BATCH) {
+				batchAcquired = state.batchPermits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+				if (!batchAcquired) {
+					throw reject(pool, "concurrency");
+				}
+			}
+			acquired = state.permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+			if (!acquired) {
+				throw reject(pool, "concurrency");
+			}
+
+			if (state.bucket != null && estimatedTokens > 0) {
+				long tokens = Math.min(estimatedTokens, state.bucket.capacity);
+				long waitNanos = state.bucket.reserve(tokens);
+				if (waitNanos > deadline - System.nanoTime()) {
+					state.bucket.refund(tokens);
+					throw reject(pool, "tokens");
+				}
+				if (waitNanos > 0) {
+					TimeUnit.NANOSECONDS.sleep(waitNanos);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			if (acquired) {
+				state.permits.release();
+			}
+			if (batchAcquired) {
+				state.batchPermits.release();
+			}
+			throw new AdmissionRejectedException("LLM 호출 대기 중 인터럽트되었습니다", e);
+		} catch (AdmissionRejectedException e) {
+			if (acquired) {
+				state.permits.release();
+			}
+			if (batchAcquired) {
+				state.batchPermits.release();
+			}
+			throw e;
+		}
+
+		Timer.builder("llm.admission.queue-time")
+				.description("LLM 호출 입장 대기 시간 (동시 실행 수 + 토큰 예산)")
+				.tag("pool", pool.tag)
+				.tag("priority", priority.name().toLowerCase())
+				.register(meterRegistry)
+				.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		state.inFlight.incrementAndGet();
+		return new Permit(state, batchAcquired);
+	}
+
+	/**
+	 * 429 / RESOURCE_EXHAUSTED 응답 여부 (원인 예외까지 확인)
+	 */
+	public static boolean isRateLimited(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			String message = t.getMessage();
+			if (message != null && (message.contains("429") || message.contains("RESOURCE_EXHAUSTED")
+					|| message.contains("Too Many Requests"))) {
+				return true;
+			}
+			if (t.getCause() == t) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 지수 백오프 + full jitter: [0, min(max, base * 2^attempt)]
+	 */
+	private long backoffDelay(int attempt) {
+		long cap = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(attempt, 20));
+		return ThreadLocalRandom.current().nextLong(cap + 1);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AdmissionRejectedException("LLM 호출 재시도 대기 중 인터럽트되었습니다", e);
+		}
+	}
+
+	private AdmissionRejectedException reject(Pool pool, String reason) {
+		meterRegistry.counter("llm.admission.rejected", "pool", pool.tag, "reason", reason).increment();
+		log.warn("LlmAdmissionController: 대기 시간 초과로 거절 - pool: {}, 원인: {}", pool.tag, reason);
+		return new AdmissionRejectedException("요청이 많아 LLM 호출이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", null);
+	}
+
+	/**
+	 * 모델 풀 (동시 실행 수와 토큰 예산을 공유하는 단위)
+	 */
+	public enum Pool {
+		CHAT("chat"), VALIDATION("validation"), SUMMARY("summary"), EMBEDDING("embedding");
+
+		private final String tag;
+
+		Pool(String tag) {
+			this.tag = tag;
+		}
+	}
+
+	/**
+	 * 호출 우선순위
+	 */
+	public enum Priority {
+		/** 사용자가 응답을 기다리는 호출 (채팅, 검색 쿼리 임베딩) */
+		INTERACTIVE,
+		/** 배치 작업 (임베딩 적재, 백그라운드 요약) */
+		BATCH
+	}
+
+	/**
+	 * 실행 권한 (close 시 반환, 중복 close 무시)
+	 */
+	public static class Permit implements AutoCloseable {
+
+		private static final Permit NOOP = new Permit(null, false);
+
+		private final PoolState state;
+		private final boolean batch;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Permit(PoolState state, boolean batch) {
+			this.state = state;
+			this.batch = batch;
+		}
+
+		@Override
+		public void close() {
+			if (state == null || !released.compareAndSet(false, true)) {
+				return;
+			}
+			state.inFlight.decrementAndGet();
+			state.permits.release();
+			if (batch) {
+				state.batchPermits.release();
+			}
+		}
+	}
+
+	/**
+	 * 입장 거절 (대기 시간 초과 또는 인터럽트)
+	 */
+	public static class AdmissionRejectedException extends RuntimeException {
+
+		public AdmissionRejectedException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+
+	private final class PoolState {
+		private final Pool pool;
+		private final Semaphore permits;
+		private final Semaphore batchPermits;
+		private final TokenBucket bucket;
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		private PoolState(Pool pool, int concurrency, long tokensPerMinute) {
+			int total = Math.max(1, concurrency);
+			int reserved = (int) Math.floor(total * interactiveReserveRatio);
+			this.pool = pool;
+			this.permits = new Semaphore(total, true);
+			this.batchPermits = new Semaphore(Math.max(1, total - reserved), true);
+			this.bucket = tokensPerMinute > 0 ? new TokenBucket(tokensPerMinute) : null;
+		}
+	}
+
+	/**
+	 * 분당 토큰 버킷 (예약 방식: 부족하면 음수로 차감하고 채워질 때까지의 대기 시간을 반환)
+	 */
+	private static final class TokenBucket {
+		private final long capacity;
+		private final double tokensPerNano;
+		private double available;
+		private long lastRefill = System.nanoTime();
+
+		private TokenBucket(long tokensPerMinute) {
+			this.capacity = tokensPerMinute;
+			this.tokensPerNano = tokensPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+			this.available = tokensPerMinute;
+		}
+
+		synchronized long reserve(long tokens) {
+			refill();
+			available -= tokens;
+			return available >= 0 ? 0 : (long) (-available / tokensPerNano);
+		}
+
+		synchronized void refund(long tokens) {
+			refill();
+			available = Math.min(capacity, available + tokens);
+		}
+
+		private void refill() {
+			long now = System.nanoTime();
+			available = Math.min(capacity, available + (now - lastRefill) * tokensPerNano);
+			lastRefill = now;
+		}
+	}
+}
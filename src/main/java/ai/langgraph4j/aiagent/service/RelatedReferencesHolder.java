@@ -42,6 +42,13 @@ public class RelatedReferencesHolder {
 		}
 	}
 
+	/**
+	 * 현재 처리 중인 세션 ID (검색 도구 스레드에서 추측 검색 조회용, 없으면 null)
+	 */
+	public String getCurrentSessionId() {
+		return currentSessionId;
+	}
+
 	/**
 	 * 해당 세션에 보관된 관련 자료를 꺼내고, 저장소에서 제거합니다.
 	 */
@@ -0,0 +1,190 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import ai.langgraph4j.aiagent.service.dto.SearchResult;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 하이브리드 검색 재순위화 (외부 서비스 없이 프로세스 내에서 계산)
+ * 상담·법령·연관 법령·예규·판례 브랜치 후보를 하나의 순위 목록으로 합치고 전체 예산(max-results) 안에서 자릅니다.
+ *
+ * - none: 재순위화 없음 (브랜치 순서 그대로, 예산 미적용)
+ * - rrf: Reciprocal Rank Fusion, 점수 = Σ 1 / (k + 브랜치 내 순위). 여러 브랜치에서 나온 결과(법령 + 연관 법령)가 올라감
+ * - local: 벡터 유사도와 질문-문서(제목 + 내용) 문자 bigram 겹침 비율의 가중합 (조문 번호, 용어 일치 반영)
+ *
+ * 예산 안에서도 문서 타입별 최상위 min-per-type건은 유지해 한 타입이 결과를 독차지하지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class SearchReranker {
+
+	private enum Strategy {
+		NONE, RRF, LOCAL
+	}
+
+	@Value("${search.rerank.strategy:none}")
+	private String strategyName;
+
+	/** RRF 순위 상수 (클수록 하위 순위와의 점수 차가 줄어듦) */
+	@Value("${search.rerank.rrf-k:60}")
+	private int rrfK;
+
+	/** local 점수에서 bigram 겹침 비율의 가중치 (0 ~ 1, 나머지는 벡터 유사도) */
+	@Value("${search.rerank.lexical-weight:0.3}")
+	private double lexicalWeight;
+
+	/** 재순위화 후 남길 전체 결과 수 (0 이하면 제한 없음) */
+	@Value("${search.rerank.max-results:15}")
+	private int maxResults;
+
+	/** 예산과 관계없이 남길 문서 타입별 최상위 결과 수 */
+	@Value("${search.rerank.min-per-type:1}")
+	private int minPerType;
+
+	private Strategy strategy;
+
+	@PostConstruct
+	void init() {
+		this.strategy = Strategy.valueOf(strategyName.trim().toUpperCase());
+		log.info("SearchReranker: 재순위화 전략 - strategy: {}, maxResults: {}", strategy, maxResults);
+	}
+
+	/**
+	 * 재순위화가 켜져 있는지 (켜져 있으면 결과 순서가 관련도 순)
+	 */
+	public boolean isEnabled() {
+		return strategy != Strategy.NONE;
+	}
+
+	/**
+	 * 통합 결과 재순위화
+	 *
+	 * @param query    사용자 질문 (local 전략의 bigram 겹침 계산용)
+	 * @param merged   중복 제거된 통합 결과 (mergeBranches 순서)
+	 * @param branches 브랜치별 결과 (각 목록은 브랜치 내 순위 순, rrf 전략용)
+	 * @param key      중복 제거 키 (같은 문서면 같은 키, null이면 자기 자신만 같은 문서)
+	 * @return 관련도 순으로 정렬하고 예산 안에서 자른 결과
+	 */
+	public List<SearchResult> rerank(String query, List<SearchResult> merged, List<List<SearchResult>> branches,
+			Function<SearchResult, String> key) {
+		if (strategy == Strategy.NONE || merged.size() <= 1) {
+			return merged;
+		}
+		Map<SearchResult, Double> scores = strategy == Strategy.RRF
+				? rrfScores(merged, branches, key)
+				: localScores(query, merged);
+
+		List<SearchResult> sorted = new ArrayList<>(merged);
+		sorted.sort(Comparator.comparingDouble((SearchResult r) -> scores.getOrDefault(r, 0.0)).reversed());
+		List<SearchResult> ranked = applyBudget(sorted);
+		log.debug("SearchReranker: 재순위화 완료 - strategy: {}, 입력: {}건, 결과: {}건", strategy, merged.size(),
+				ranked.size());
+		return ranked;
+	}
+
+	private Map<SearchResult, Double> rrfScores(List<SearchResult> merged, List<List<SearchResult>> branches,
+			Function<SearchResult, String> key) {
+		Map<String, Double> byKey = new HashMap<>();
+		for (List<SearchResult> branch : branches) {
+			Map<String, Integer> firstRank = new HashMap<>();
+			for (int i = 0; i < branch.size(); i++) {
+				String k = key.apply(branch.get(i));
+				if (k != null) {
+					firstRank.putIfAbsent(k, i + 1);
+				}
+			}
+			firstRank.forEach((k, rank) -> byKey.merge(k, 1.0 / (rrfK + rank), Double::sum));
+		}
+		Map<SearchResult, Double> scores = new IdentityHashMap<>();
+		for (SearchResult result : merged) {
+			String k = key.apply(result);
+			// 키가 없는 결과는 자기 브랜치 순위만 반영
+			scores.put(result, k != null ? byKey.getOrDefault(k, 0.0) : 1.0 / (rrfK + rankInBranch(result, branches)));
+		}
+		return scores;
+	}
+
+	private static int rankInBranch(SearchResult result, List<List<SearchResult>> branches) {
+		for (List<SearchResult> branch : branches) {
+			for (int i = 0; i < branch.size(); i++) {
+				if (branch.get(i) == result) {
+					return i + 1;
+				}
+			}
+		}
+		return Integer.MAX_VALUE / 2;
+	}
+
+	private Map<SearchResult, Double> localScores(String query, List<SearchResult> merged) {
+		Set<String> queryGrams = query != null ? SpeculativeRetrieval.bigrams(query) : Set.of();
+		Map<SearchResult, Double> scores = new IdentityHashMap<>();
+		for (SearchResult result : merged) {
+			double similarity = result.getSimilarityScore() != null ? result.getSimilarityScore() : 0.0;
+			double overlap = overlap(queryGrams, result);
+			scores.put(result, (1.0 - lexicalWeight) * similarity + lexicalWeight * overlap);
+		}
+		return scores;
+	}
+
+	/**
+	 * 질문 bigram 중 문서(제목 + 내용)에 나타나는 비율
+	 */
+	private static double overlap(Set<String> queryGrams, SearchResult result) {
+		if (queryGrams.isEmpty()) {
+			return 0.0;
+		}
+		String title = result.getTitle() != null ? result.getTitle() : "";
+		String content = result.getContent() != null ? result.getContent() : "";
+		Set<String> docGrams = SpeculativeRetrieval.bigrams(title + " " + content);
+		int matched = 0;
+		for (String gram : queryGrams) {
+			if (docGrams.contains(gram)) {
+				matched++;
+			}
+		}
+		return (double) matched / queryGrams.size();
+	}
+
+	/**
+	 * 타입별 최상위 min-per-type건을 먼저 확보하고 나머지를 점수 순으로 max-results까지 채움 (점수 순서 유지)
+	 */
+	private List<SearchResult> applyBudget(List<SearchResult> sorted) {
+		if (maxResults <= 0 || sorted.size() <= maxResults) {
+			return sorted;
+		}
+		Set<SearchResult> keep = Collections.newSetFromMap(new IdentityHashMap<>());
+		Map<String, Integer> perType = new HashMap<>();
+		for (SearchResult result : sorted) {
+			String type = result.getDocumentType() != null ? result.getDocumentType() : "";
+			if (perType.merge(type, 1, Integer::sum) <= minPerType) {
+				keep.add(result);
+			}
+		}
+		for (SearchResult result : sorted) {
+			if (keep.size() >= maxResults) {
+				break;
+			}
+			keep.add(result);
+		}
+		List<SearchResult> ranked = new ArrayList<>(keep.size());
+		for (SearchResult result : sorted) {
+			if (keep.contains(result)) {
+				ranked.add(result);
+			}
+		}
+		return ranked;
+	}
+}
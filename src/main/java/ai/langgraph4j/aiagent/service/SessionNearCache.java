@@ -0,0 +1,303 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import ai.langgraph4j.aiagent.service.dto.AgentStateDto;
+import ai.langgraph4j.aiagent.service.dto.MessageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 니어 캐시 (프로세스 내 캐시)
+ * 매 턴 같은 세션 키를 Redis에서 읽고 Jackson 역직렬화하는 비용을 줄이기 위해
+ * 역직렬화된 AgentStateDto와 히스토리를 SessionStore 앞단에 보관합니다.
+ *
+ * - 항목 수(max-entries)와 추정 바이트(max-bytes)로 제한되는 LRU
+ * - 쓰기 시 Redis pub/sub 채널로 다른 노드에 무효화 메시지 전송 (SessionNearCacheConfig가 구독)
+ * - 무효화 메시지 유실에 대비해 max-age 이후 항목은 사용하지 않음 (최대 staleness 상한)
+ * - 캐시 적중으로 Redis를 읽지 않는 동안에도 세션이 만료되지 않도록 ttl-refresh-seconds마다 한 번 TTL 연장 대상으로 알림
+ *
+ * chat.session.near-cache.enabled=false(기본값)면 모든 메서드가 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionNearCache {
+
+	public static final String INVALIDATION_CHANNEL = "chat:session:invalidate";
+	private static final String MESSAGE_SEPARATOR = "|";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	/** 이 노드 식별자 (자기가 보낸 무효화 메시지 무시용) */
+	private final String nodeId = UUID.randomUUID().toString();
+
+	/** access-order LinkedHashMap (LRU), this로 동기화 */
+	private final LinkedHashMap<String, CachedSession> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long totalBytes;
+
+	@Value("${chat.session.near-cache.enabled:false}")
+	private boolean enabled;
+
+	@Value("${chat.session.near-cache.max-entries:1000}")
+	private int maxEntries;
+
+	@Value("${chat.session.near-cache.max-bytes:33554432}")
+	private long maxBytes;
+
+	@Value("${chat.session.near-cache.max-age-seconds:60}")
+	private long maxAgeSeconds;
+
+	/** 캐시 적중 중 Redis 세션 TTL을 다시 연장하는 최소 간격 (초) */
+	@Value("${chat.session.near-cache.ttl-refresh-seconds:300}")
+	private long ttlRefreshSeconds;
+
+	private Counter hitCounter;
+	private Counter missCounter;
+	private Counter evictionCounter;
+	private Counter invalidationCounter;
+	private DistributionSummary entryAge;
+	private Timer invalidationLag;
+
+	@PostConstruct
+	void registerMeters() {
+		hitCounter = meterRegistry.counter("chat.session.near-cache.requests", "result", "hit");
+		missCounter = meterRegistry.counter("chat.session.near-cache.requests", "result", "miss");
+		evictionCounter = meterRegistry.counter("chat.session.near-cache.evictions");
+		invalidationCounter = meterRegistry.counter("chat.session.near-cache.invalidations");
+		entryAge = DistributionSummary.builder("chat.session.near-cache.entry-age")
+				.description("캐시 적중 시 항목 나이 (ms, staleness 상한 지표)")
+				.baseUnit("milliseconds")
+				.register(meterRegistry);
+		invalidationLag = Timer.builder("chat.session.near-cache.invalidation-lag")
+				.description("다른 노드 쓰기 후 무효화 메시지 수신까지의 지연")
+				.register(meterRegistry);
+		Gauge.builder("chat.session.near-cache.size", this, c -> c.size()).register(meterRegistry);
+		Gauge.builder("chat.session.near-cache.bytes", this, c -> c.bytes()).register(meterRegistry);
+
+		if (enabled) {
+			log.info("SessionNearCache: 활성화 - 최대 항목: {}, 최대 바이트: {}, 최대 나이: {}초",
+					maxEntries, maxBytes, maxAgeSeconds);
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 캐시 조회
+	 *
+	 * @param sessionId 세션 ID
+	 * @return 캐시된 세션 (없거나 max-age 초과 시 null)
+	 */
+	public CachedSession get(String sessionId) {
+		if (!enabled) {
+			return null;
+		}
+		long now = System.currentTimeMillis();
+		CachedSession cached;
+		synchronized (this) {
+			cached = entries.get(sessionId);
+			if (cached != null && now - cached.cachedAt() > TimeUnit.SECONDS.toMillis(maxAgeSeconds)) {
+				removeEntry(sessionId);
+				cached = null;
+			}
+		}
+		if (cached == null) {
+			missCounter.increment();
+			return null;
+		}
+		hitCounter.increment();
+		entryAge.record(now - cached.cachedAt());
+		return cached;
+	}
+
+	/**
+	 * Redis에서 읽거나 쓴 세션을 캐시에 저장
+	 *
+	 * @param sessionId       세션 ID
+	 * @param state           세션 상태 DTO (캐시에 넣은 뒤 변경하지 않아야 함)
+	 * @param history         히스토리 DTO (캐시에 넣은 뒤 변경하지 않아야 함)
+	 * @param summary         이전 대화 요약 (없으면 null)
+	 * @param stateSize       세션 상태 직렬화 크기 (추정 바이트 계산용)
+	 */
+	public void put(String sessionId, AgentStateDto state, List<MessageDto> history, String summary,
+			int stateSize) {
+		if (!enabled) {
+			return;
+		}
+		long estimatedBytes = estimateBytes(stateSize, history)
+				+ (summary != null ? 2L * summary.length() : 0);
+		if (estimatedBytes > maxBytes) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		CachedSession cached = new CachedSession(state, List.copyOf(history), summary, estimatedBytes, now,
+				new AtomicLong(now));
+		synchronized (this) {
+			removeEntry(sessionId);
+			entries.put(sessionId, cached);
+			totalBytes += estimatedBytes;
+			evictIfNeeded();
+		}
+	}
+
+	/**
+	 * 턴 저장 후 캐시 갱신 (캐시에 있는 세션만 갱신) 및 다른 노드 무효화
+	 *
+	 * @param sessionId       세션 ID
+	 * @param state           새 세션 상태 DTO
+	 * @param newMessages     이번 턴에 추가된 메시지
+	 * @param maxMessages     히스토리 최대 메시지 수 (0 이하면 무제한)
+	 * @param stateSize       새 세션 상태 직렬화 크기
+	 */
+	public void applyTurn(String sessionId, AgentStateDto state, List<MessageDto> newMessages, int maxMessages,
+			int stateSize) {
+		if (!enabled) {
+			return;
+		}
+		// 같은 세션의 동시 턴이 같은 이전 항목에서 시작해 서로의 메시지를 덮어쓰지 않도록 조회~저장을 한 번에 수행
+		synchronized (this) {
+			CachedSession previous = entries.get(sessionId);
+			if (previous != null) {
+				List<MessageDto> history = new ArrayList<>(previous.history());
+				history.addAll(newMessages);
+				if (maxMessages > 0 && history.size() > maxMessages) {
+					history = history.subList(history.size() - maxMessages, history.size());
+				}
+				put(sessionId, state, history, previous.summary(), stateSize);
+			}
+		}
+		publishInvalidation(sessionId);
+	}
+
+	/**
+	 * 캐시 적중 시 Redis 세션 TTL을 연장해야 하는지 (항목별로 ttl-refresh-seconds마다 한 호출만 true)
+	 * 항목을 만든 조회/저장이 TTL을 연장했으므로 그 시각부터 간격을 셈
+	 */
+	public boolean claimTtlRefresh(CachedSession cached) {
+		long now = System.currentTimeMillis();
+		long last = cached.ttlRefreshedAt().get();
+		return now - last >= TimeUnit.SECONDS.toMillis(ttlRefreshSeconds)
+				&& cached.ttlRefreshedAt().compareAndSet(last, now);
+	}
+
+	/**
+	 * 로컬 캐시에서 제거하고 다른 노드에도 무효화 전송
+	 */
+	public void invalidate(String sessionId) {
+		if (!enabled) {
+			return;
+		}
+		synchronized (this) {
+			removeEntry(sessionId);
+		}
+		publishInvalidation(sessionId);
+	}
+
+	/**
+	 * 무효화 채널 메시지 처리 (SessionNearCacheConfig의 리스너에서 호출)
+	 *
+	 * @param message "nodeId|sessionId|발행시각(ms)"
+	 */
+	public void onInvalidationMessage(String message) {
+		String[] parts = message.split("\\" + MESSAGE_SEPARATOR, 3);
+		if (parts.length < 3 || nodeId.equals(parts[0])) {
+			return;
+		}
+		boolean removed;
+		synchronized (this) {
+			removed = removeEntry(parts[1]);
+		}
+		if (removed) {
+			invalidationCounter.increment();
+		}
+		try {
+			long lag = System.currentTimeMillis() - Long.parseLong(parts[2]);
+			invalidationLag.record(Math.max(lag, 0), TimeUnit.MILLISECONDS);
+		} catch (NumberFormatException e) {
+			log.debug("SessionNearCache: 잘못된 무효화 메시지 - {}", message);
+		}
+	}
+
+	private void publishInvalidation(String sessionId) {
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+					nodeId + MESSAGE_SEPARATOR + sessionId + MESSAGE_SEPARATOR + System.currentTimeMillis());
+		} catch (Exception e) {
+			// 전송 실패 시 다른 노드는 max-age 이후 갱신됨
+			log.warn("SessionNearCache: 무효화 메시지 전송 실패 - sessionId: {}, 오류: {}", sessionId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 추정 바이트: 직렬화 크기 x 2 (역직렬화된 객체 기준 근사) + 메시지당 객체 오버헤드
+	 */
+	private static long estimateBytes(int stateSize, List<MessageDto> history) {
+		long bytes = 2L * stateSize;
+		for (MessageDto message : history) {
+			bytes += 64 + 2L * (message.getText() != null ? message.getText().length() : 0);
+		}
+		return bytes;
+	}
+
+	private boolean removeEntry(String sessionId) {
+		CachedSession removed = entries.remove(sessionId);
+		if (removed != null) {
+			totalBytes -= removed.estimatedBytes();
+			return true;
+		}
+		return false;
+	}
+
+	private void evictIfNeeded() {
+		Iterator<Map.Entry<String, CachedSession>> it = entries.entrySet().iterator();
+		while ((entries.size() > maxEntries || totalBytes > maxBytes) && it.hasNext()) {
+			Map.Entry<String, CachedSession> eldest = it.next();
+			totalBytes -= eldest.getValue().estimatedBytes();
+			it.remove();
+			evictionCounter.increment();
+		}
+	}
+
+	private synchronized int size() {
+		return entries.size();
+	}
+
+	private synchronized long bytes() {
+		return totalBytes;
+	}
+
+	/**
+	 * 캐시 항목
+	 *
+	 * @param state          세션 상태 DTO
+	 * @param history        히스토리 DTO (불변 리스트)
+	 * @param summary        이전 대화 요약 (없으면 null)
+	 * @param estimatedBytes 추정 바이트
+	 * @param cachedAt       캐시 저장 시각 (ms)
+	 * @param ttlRefreshedAt 마지막 Redis TTL 연장 시각 (ms, 캐시 적중 중 갱신)
+	 */
+	public record CachedSession(AgentStateDto state, List<MessageDto> history, String summary, long estimatedBytes,
+			long cachedAt, AtomicLong ttlRefreshedAt) {
+	}
+}
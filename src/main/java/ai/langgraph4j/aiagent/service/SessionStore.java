@@ -1,24 +1,37 @@
 package ai.langgraph4j.aiagent.service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import ai.langgraph4j.aiagent.agent.state.AgentState;
+import ai.langgraph4j.aiagent.service.ChatSessionPersistenceService.ChatMessageDto;
+import ai.langgraph4j.aiagent.service.codec.SessionSerializer;
 import ai.langgraph4j.aiagent.service.dto.AgentStateDto;
 import ai.langgraph4j.aiagent.service.dto.MessageDto;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.UserMessage;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,6 +42,17 @@ import lombok.extern.slf4j.Slf4j;
  * v2: LangGraph 기반 채팅 시스템의 세션 관리
  * 
  * 토큰 비용 최적화: 최근 N개 메시지만 유지하여 LLM 호출 시 전송되는 토큰 수를 제한합니다.
+ *
+ * 히스토리는 메시지 1건 = 리스트 원소 1개인 Redis 리스트로 저장합니다.
+ * 추가는 RPUSH + LTRIM + EXPIRE를 Lua 스크립트 한 번으로 수행하므로
+ * 턴당 전송량이 히스토리 길이와 무관하고, 동시 추가 시에도 메시지가 유실되지 않습니다.
+ *
+ * 채팅 턴 처리 시에는 loadSessionWithHistory(조회 스크립트, TTL 연장 포함)와 saveTurn(저장 스크립트)을 사용해
+ * 조회와 저장을 각각 스크립트 하나로 묶습니다. 실제 왕복 수는 chat.session.redis.round-trips 메트릭으로 확인합니다.
+ * (docs/SESSION_REDIS_ROUNDTRIPS.md 참고)
+ *
+ * 세션/메시지 값은 SessionSerializer(버전 헤더 + 코덱 + 선택적 압축)로 직렬화하여
+ * byte[] 템플릿으로 저장합니다. (docs/SESSION_CODEC.md 참고)
  */
 @Slf4j
 @Service
@@ -36,20 +60,128 @@ import lombok.extern.slf4j.Slf4j;
 public class SessionStore {
 
 	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisTemplate<String, byte[]> sessionRedisTemplate;
+	private final SessionSerializer sessionSerializer;
 	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final SessionNearCache nearCache;
+	private final TokenEstimator tokenEstimator;
+	/** DB 복원용 (test 프로파일 등 JPA가 없으면 비어 있음) */
+	private final ObjectProvider<ChatSessionPersistenceService> persistenceServiceProvider;
+
+	/** 세션별 진행 중인 DB 복원 (single-flight) */
+	private final ConcurrentHashMap<String, CompletableFuture<SessionSnapshot>> restoresInFlight = new ConcurrentHashMap<>();
 
 	private static final String SESSION_KEY_PREFIX = "chat:session:";
-	private static final String HISTORY_KEY_PREFIX = "chat:history:";
+	private static final String HISTORY_KEY_PREFIX = "chat:history-list:";
+	/** 이전 JSON 통짜 히스토리 키 (읽기 시 리스트로 이전 후 삭제) */
+	private static final String LEGACY_HISTORY_KEY_PREFIX = "chat:history:";
+	/** 이전 대화 요약 키 (ConversationSummarizer가 기록) */
+	private static final String SUMMARY_KEY_PREFIX = "chat:summary:";
 	private static final long SESSION_TTL_HOURS = 24; // 세션 만료 시간: 24시간
 
 	/**
-	 * 대화 히스토리 최대 메시지 수
+	 * 히스토리 추가: RPUSH 후 최근 N개만 남기고(LTRIM) TTL 갱신
+	 * KEYS[1] 히스토리 키, ARGV[1] TTL(초), ARGV[2] 최대 메시지 수(0 이하면 무제한), ARGV[3..] 메시지
+	 */
+	private static final RedisScript<Long> APPEND_HISTORY_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('RPUSH', KEYS[1], unpack(ARGV, 3)) "
+					+ "local max = tonumber(ARGV[2]) "
+					+ "if max > 0 then redis.call('LTRIM', KEYS[1], -max, -1) end "
+					+ "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+					+ "return redis.call('LLEN', KEYS[1])",
+			Long.class);
+
+	/**
+	 * 히스토리 전체 교체 (복원용): DEL 후 RPUSH + LTRIM + EXPIRE
+	 * 인자 구성은 APPEND_HISTORY_SCRIPT와 동일 (메시지가 없으면 삭제만 수행)
+	 */
+	private static final RedisScript<Long> REPLACE_HISTORY_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('DEL', KEYS[1]) "
+					+ "if #ARGV < 3 then return 0 end "
+					+ "redis.call('RPUSH', KEYS[1], unpack(ARGV, 3)) "
+					+ "local max = tonumber(ARGV[2]) "
+					+ "if max > 0 then redis.call('LTRIM', KEYS[1], -max, -1) end "
+					+ "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+					+ "return redis.call('LLEN', KEYS[1])",
+			Long.class);
+
+	/**
+	 * 세션 조회 + TTL 연장: GETEX 세션, EXPIRE 히스토리/요약, LRANGE 히스토리, GET 요약 (Redis 6.2 이상)
+	 * KEYS[1] 세션 키, KEYS[2] 히스토리 키, KEYS[3] 요약 키, ARGV[1] TTL(초), ARGV[2] LRANGE 시작 인덱스
+	 * 반환: {세션, 히스토리 원소 목록, 요약} (세션이 없으면 {nil})
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> LOAD_SESSION_SCRIPT = new DefaultRedisScript<>(
+			"local s = redis.call('GETEX', KEYS[1], 'EX', ARGV[1]) "
+					+ "if not s then return {false} end "
+					+ "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+					+ "redis.call('EXPIRE', KEYS[3], ARGV[1]) "
+					+ "return {s, redis.call('LRANGE', KEYS[2], ARGV[2], -1), redis.call('GET', KEYS[3])}",
+			List.class);
+
+	/**
+	 * TTL 연장만 수행: EXPIRE 세션/히스토리/요약 (니어 캐시 적중 시)
+	 * KEYS[1] 세션 키, KEYS[2] 히스토리 키, KEYS[3] 요약 키, ARGV[1] TTL(초)
+	 */
+	private static final RedisScript<Long> TOUCH_SESSION_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+					+ "redis.call('EXPIRE', KEYS[3], ARGV[1]) "
+					+ "return redis.call('EXPIRE', KEYS[1], ARGV[1])",
+			Long.class);
+
+	/**
+	 * 턴 저장: 세션 SET + 요약 TTL 갱신 + 히스토리 RPUSH/LTRIM/EXPIRE
+	 * KEYS[1] 세션 키, KEYS[2] 히스토리 키, KEYS[3] 요약 키,
+	 * ARGV[1] TTL(초), ARGV[2] 최대 메시지 수, ARGV[3] 세션, ARGV[4..] 메시지
+	 */
+	private static final RedisScript<Long> SAVE_TURN_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[1]) "
+					+ "redis.call('EXPIRE', KEYS[3], ARGV[1]) "
+					+ "if #ARGV < 4 then return redis.call('LLEN', KEYS[2]) end "
+					+ "redis.call('RPUSH', KEYS[2], unpack(ARGV, 4)) "
+					+ "local max = tonumber(ARGV[2]) "
+					+ "if max > 0 then redis.call('LTRIM', KEYS[2], -max, -1) end "
+					+ "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+					+ "return redis.call('LLEN', KEYS[2])",
+			Long.class);
+
+	/**
+	 * 요약 반영: 요약 SET + 요약된 앞부분 메시지 LTRIM
+	 * 요약하는 동안 히스토리가 바뀌었으면(앞부분 마지막 원소 불일치) 반영하지 않음
+	 * KEYS[1] 요약 키, KEYS[2] 히스토리 키, ARGV[1] TTL(초), ARGV[2] 요약된 메시지 수, ARGV[3] 요약된 마지막 원소, ARGV[4] 요약
+	 */
+	private static final RedisScript<Long> APPLY_SUMMARY_SCRIPT = new DefaultRedisScript<>(
+			"local n = tonumber(ARGV[2]) "
+					+ "if redis.call('LINDEX', KEYS[2], n - 1) ~= ARGV[3] then return 0 end "
+					+ "redis.call('SET', KEYS[1], ARGV[4], 'EX', ARGV[1]) "
+					+ "redis.call('LTRIM', KEYS[2], n, -1) "
+					+ "return 1",
+			Long.class);
+
+	/**
+	 * 대화 히스토리 최대 메시지 수 (Redis 보관·조회와 DB 복원의 안전 상한)
+	 * max-input-tokens가 설정되어 있으면 LLM에 보낼 히스토리는 토큰 예산으로 고르고, 이 값은 그 후보 범위만 제한합니다.
 	 * 0 또는 음수로 설정하면 제한 없음 (모든 히스토리 유지)
-	 * 예: 20이면 최근 10개 질문+답변 쌍만 유지 (총 20개 메시지)
+	 * 예: 100이면 Redis에는 최근 50개 질문+답변 쌍(총 100개 메시지)까지 보관하고, 그중 토큰 예산에 드는 만큼만 LLM에 보냄
 	 */
-	@Value("${chat.history.max-messages:20}")
+	@Value("${chat.history.max-messages:100}")
 	private int maxHistoryMessages;
 
+	/**
+	 * Redis에 세션이 없을 때(TTL 만료 등) DB에서 자동 복원 여부
+	 */
+	@Value("${chat.session.lazy-restore.enabled:true}")
+	private boolean lazyRestoreEnabled;
+
+	/**
+	 * LLM에 보낼 대화 히스토리 최대 입력 토큰 수 (추정치 기준, 히스토리 길이의 주 제한)
+	 * 최신 질문+답변 쌍부터 이 예산 안에 들어가는 만큼만 사용합니다.
+	 * 0 또는 음수로 설정하면 토큰 제한 없음 (max-messages만 적용)
+	 */
+	@Value("${chat.history.max-input-tokens:6000}")
+	private int maxHistoryInputTokens;
+
 	/**
 	 * 세션의 AgentState를 Redis에 저장
 	 * 
@@ -65,11 +197,13 @@ public class SessionStore {
 		try {
 			String sessionKey = SESSION_KEY_PREFIX + sessionId;
 
-			// AgentState를 DTO로 변환하여 저장
-			AgentStateDto stateDto = AgentStateDto.fromAgentState(state);
-			String stateJson = objectMapper.writeValueAsString(stateDto);
+			// AgentState를 저장용 DTO로 변환하여 저장
+			AgentStateDto stateDto = AgentStateDto.forStorage(state);
+			byte[] payload = sessionSerializer.serialize(stateDto, "state");
 
-			redisTemplate.opsForValue().set(sessionKey, stateJson, SESSION_TTL_HOURS, TimeUnit.HOURS);
+			sessionRedisTemplate.opsForValue().set(sessionKey, payload, SESSION_TTL_HOURS, TimeUnit.HOURS);
+			countRoundTrip("saveSession");
+			nearCache.invalidate(sessionId);
 			log.debug("SessionStore: 세션 저장 완료 - sessionId: {}", sessionId);
 		} catch (RedisConnectionFailureException e) {
 			log.error("SessionStore: Redis 연결 실패로 세션 저장 실패 - sessionId: {}, 오류: {}",
@@ -96,15 +230,16 @@ public class SessionStore {
 
 		try {
 			String sessionKey = SESSION_KEY_PREFIX + sessionId;
-			String stateJson = redisTemplate.opsForValue().get(sessionKey);
+			byte[] payload = sessionRedisTemplate.opsForValue().get(sessionKey);
+			countRoundTrip("loadSession");
 
-			if (stateJson == null) {
+			if (payload == null) {
 				log.debug("SessionStore: 세션을 찾을 수 없음 - sessionId: {} (새 세션이거나 만료됨)", sessionId);
 				return null;
 			}
 
 			// DTO로 읽어서 AgentState로 변환
-			AgentStateDto stateDto = objectMapper.readValue(stateJson, AgentStateDto.class);
+			AgentStateDto stateDto = sessionSerializer.deserialize(payload, AgentStateDto.class);
 			AgentState state = stateDto != null ? stateDto.toAgentState() : null;
 
 			log.debug("SessionStore: 세션 조회 완료 - sessionId: {}", sessionId);
@@ -138,26 +273,25 @@ public class SessionStore {
 		try {
 			String historyKey = HISTORY_KEY_PREFIX + sessionId;
 
-			// 기존 히스토리 조회 (MessageDto 리스트)
-			List<MessageDto> history = getHistoryAsDtos(sessionId);
-
-			// 새 메시지를 DTO로 변환하여 추가
+			// 새 메시지를 DTO로 변환 (기존 히스토리는 읽지 않음)
+			List<MessageDto> newMessages = new ArrayList<>(2);
 			if (userMessage != null) {
-				history.add(MessageDto.fromUserMessage(userMessage));
+				newMessages.add(withTokens(MessageDto.fromUserMessage(userMessage)));
 			}
 			if (aiMessage != null) {
-				history.add(MessageDto.fromAiMessage(aiMessage));
+				newMessages.add(withTokens(MessageDto.fromAiMessage(aiMessage)));
+			}
+			if (newMessages.isEmpty()) {
+				return;
 			}
 
-			// 토큰 비용 최적화: 최근 N개 메시지만 유지 (Sliding Window)
-			history = limitHistorySize(history);
-
-			// 히스토리 저장 (MessageDto 리스트를 JSON으로 직렬화)
-			String historyJson = objectMapper.writeValueAsString(history);
-			redisTemplate.opsForValue().set(historyKey, historyJson, SESSION_TTL_HOURS, TimeUnit.HOURS);
+			// RPUSH + LTRIM(최근 N개만 유지, Sliding Window) + EXPIRE 를 한 번에 실행
+			Long size = sessionRedisTemplate.execute(APPEND_HISTORY_SCRIPT, List.of(historyKey),
+					historyScriptArgs(newMessages));
+			countRoundTrip("addToHistory");
 
 			log.debug("SessionStore: 히스토리 추가 완료 - sessionId: {}, 히스토리 크기: {} (제한: {})",
-					sessionId, history.size(), maxHistoryMessages > 0 ? maxHistoryMessages : "무제한");
+					sessionId, size, maxHistoryMessages > 0 ? maxHistoryMessages : "무제한");
 		} catch (RedisConnectionFailureException e) {
 			log.error("SessionStore: Redis 연결 실패로 히스토리 추가 실패 - sessionId: {}, 오류: {}",
 					sessionId, e.getMessage());
@@ -185,8 +319,12 @@ public class SessionStore {
 		try {
 			String historyKey = HISTORY_KEY_PREFIX + sessionId;
 			history = limitHistorySize(history);
-			String historyJson = objectMapper.writeValueAsString(history);
-			redisTemplate.opsForValue().set(historyKey, historyJson, SESSION_TTL_HOURS, TimeUnit.HOURS);
+			history.forEach(this::withTokens);
+			sessionRedisTemplate.execute(REPLACE_HISTORY_SCRIPT, List.of(historyKey), historyScriptArgs(history));
+			// 복원된 히스토리와 맞지 않는 이전 요약 제거
+			sessionRedisTemplate.delete(SUMMARY_KEY_PREFIX + sessionId);
+			countRoundTrip("setHistory");
+			nearCache.invalidate(sessionId);
 			log.debug("SessionStore: 히스토리 설정 완료 (복원) - sessionId: {}, 크기: {}", sessionId, history.size());
 		} catch (RedisConnectionFailureException e) {
 			log.error("SessionStore: Redis 연결 실패로 히스토리 설정 실패 - sessionId: {}", sessionId, e);
@@ -209,21 +347,19 @@ public class SessionStore {
 
 		try {
 			String historyKey = HISTORY_KEY_PREFIX + sessionId;
-			String historyJson = redisTemplate.opsForValue().get(historyKey);
 
-			if (historyJson == null) {
+			// 토큰 비용 최적화: 최근 N개 메시지만 조회 (LTRIM과 이중 방어)
+			long start = maxHistoryMessages > 0 ? -maxHistoryMessages : 0;
+			List<byte[]> items = sessionRedisTemplate.opsForList().range(historyKey, start, -1);
+			countRoundTrip("getHistory");
+
+			List<MessageDto> history = decodeHistory(sessionId, items);
+			if (history.isEmpty()) {
 				log.debug("SessionStore: 히스토리를 찾을 수 없음 - sessionId: {} (새 세션이거나 만료됨)", sessionId);
-				return new ArrayList<>();
+				return history;
 			}
 
-			// JSON을 List<MessageDto>로 변환
-			TypeReference<List<MessageDto>> typeRef = new TypeReference<List<MessageDto>>() {
-			};
-			List<MessageDto> history = objectMapper.readValue(historyJson, typeRef);
-
-			// 토큰 비용 최적화: 최근 N개 메시지만 반환 (이중 방어)
-			history = limitHistorySize(history != null ? history : new ArrayList<>());
-
+			history = selectWithinTokenBudget(history);
 			log.debug("SessionStore: 히스토리 조회 완료 - sessionId: {}, 히스토리 크기: {} (제한: {})",
 					sessionId, history.size(), maxHistoryMessages > 0 ? maxHistoryMessages : "무제한");
 			return history;
@@ -239,6 +375,391 @@ public class SessionStore {
 		}
 	}
 
+	/**
+	 * 세션 상태와 히스토리를 스크립트 한 번으로 조회하고 TTL 연장 (sliding TTL)
+	 * Redis에 세션이 없으면(만료 등) DB에서 히스토리 창만큼 복원합니다.
+	 *
+	 * @param sessionId 세션 ID
+	 * @return 세션 상태와 히스토리 (Redis와 DB 모두 없으면 null)
+	 */
+	public SessionSnapshot loadSessionWithHistory(String sessionId) {
+		return loadSessionWithHistory(sessionId, true);
+	}
+
+	/**
+	 * 세션 상태와 히스토리를 스크립트 한 번으로 조회하고 TTL 연장 (sliding TTL)
+	 *
+	 * @param sessionId     세션 ID
+	 * @param restoreOnMiss Redis에 세션이 없을 때 DB 복원 시도 여부 (방금 생성한 세션 ID면 false)
+	 * @return 세션 상태와 히스토리 (세션이 없으면 null)
+	 */
+	public SessionSnapshot loadSessionWithHistory(String sessionId, boolean restoreOnMiss) {
+		if (sessionId == null || sessionId.isBlank()) {
+			log.warn("SessionStore: 세션 ID가 없어 조회를 건너뜁니다");
+			return null;
+		}
+
+		// 니어 캐시 적중 시 Redis 조회/역직렬화 생략
+		SessionNearCache.CachedSession cached = nearCache.get(sessionId);
+		if (cached != null) {
+			log.debug("SessionStore: 니어 캐시 적중 - sessionId: {}", sessionId);
+			// Redis를 읽지 않아도 sliding TTL은 유지 (항목별 ttl-refresh-seconds마다 한 번)
+			if (nearCache.claimTtlRefresh(cached)) {
+				touchSession(sessionId);
+			}
+			return new SessionSnapshot(cached.state().toAgentState(),
+					toMessages(selectWithinTokenBudget(cached.history())), cached.summary());
+		}
+
+		try {
+			String sessionKey = SESSION_KEY_PREFIX + sessionId;
+			String historyKey = HISTORY_KEY_PREFIX + sessionId;
+			String summaryKey = SUMMARY_KEY_PREFIX + sessionId;
+			long start = maxHistoryMessages > 0 ? -maxHistoryMessages : 0;
+
+			@SuppressWarnings("unchecked")
+			List<Object> results = sessionRedisTemplate.execute(LOAD_SESSION_SCRIPT,
+					List.of(sessionKey, historyKey, summaryKey),
+					String.valueOf(TimeUnit.HOURS.toSeconds(SESSION_TTL_HOURS)).getBytes(StandardCharsets.US_ASCII),
+					String.valueOf(start).getBytes(StandardCharsets.US_ASCII));
+			countRoundTrip("loadSessionWithHistory");
+
+			byte[] payload = results != null && !results.isEmpty() ? (byte[]) results.get(0) : null;
+			if (payload == null) {
+				log.debug("SessionStore: 세션을 찾을 수 없음 - sessionId: {} (새 세션이거나 만료됨)", sessionId);
+				return restoreOnMiss && lazyRestoreEnabled ? restoreFromDatabase(sessionId) : null;
+			}
+
+			AgentStateDto stateDto = sessionSerializer.deserialize(payload, AgentStateDto.class);
+			AgentState state = stateDto != null ? stateDto.toAgentState() : new AgentState();
+
+			@SuppressWarnings("unchecked")
+			List<byte[]> items = (List<byte[]>) results.get(1);
+			List<MessageDto> history = decodeHistory(sessionId, items);
+			byte[] summaryBytes = results.size() > 2 ? (byte[]) results.get(2) : null;
+			String summary = summaryBytes != null ? new String(summaryBytes, StandardCharsets.UTF_8) : null;
+			if (stateDto != null) {
+				nearCache.put(sessionId, stateDto, history, summary, payload.length);
+			}
+
+			List<MessageDto> selected = selectWithinTokenBudget(history);
+			log.debug("SessionStore: 세션+히스토리 조회 완료 - sessionId: {}, 히스토리 크기: {} (토큰 예산 적용 후: {})",
+					sessionId, history.size(), selected.size());
+			return new SessionSnapshot(state, toMessages(selected), summary);
+		} catch (RedisConnectionFailureException e) {
+			log.error("SessionStore: Redis 연결 실패로 세션 조회 실패 - sessionId: {}, 오류: {}",
+					sessionId, e.getMessage());
+			log.error("SessionStore: Redis 연결 상태를 확인하세요. Redis 서비스가 실행 중인지 확인하세요.", e);
+			return null;
+		} catch (Exception e) {
+			log.error("SessionStore: 세션 조회 중 오류 발생 - sessionId: {}, 오류 타입: {}, 메시지: {}",
+					sessionId, e.getClass().getSimpleName(), e.getMessage(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * 세션/히스토리/요약 TTL 연장 (실패해도 조회 결과에는 영향 없음)
+	 */
+	private void touchSession(String sessionId) {
+		try {
+			sessionRedisTemplate.execute(TOUCH_SESSION_SCRIPT,
+					List.of(SESSION_KEY_PREFIX + sessionId, HISTORY_KEY_PREFIX + sessionId, SUMMARY_KEY_PREFIX + sessionId),
+					String.valueOf(TimeUnit.HOURS.toSeconds(SESSION_TTL_HOURS)).getBytes(StandardCharsets.US_ASCII));
+			countRoundTrip("touchSession");
+		} catch (Exception e) {
+			log.warn("SessionStore: 세션 TTL 연장 실패 - sessionId: {}, 오류: {}", sessionId, e.getMessage());
+		}
+	}
+
+	/**
+	 * DB에 저장된 세션을 Redis에 복원 (히스토리 창 max-messages만큼만 조회)
+	 * 같은 세션에 대한 동시 복원은 하나만 실행하고 나머지는 그 결과를 기다립니다 (single-flight).
+	 *
+	 * @param sessionId 세션 ID
+	 * @return 복원된 세션 (DB에도 없거나 DB 저장이 비활성화된 경우 null)
+	 */
+	public SessionSnapshot restoreFromDatabase(String sessionId) {
+		ChatSessionPersistenceService persistence = persistenceServiceProvider.getIfAvailable();
+		if (persistence == null || sessionId == null || sessionId.isBlank()) {
+			return null;
+		}
+
+		CompletableFuture<SessionSnapshot> restore = new CompletableFuture<>();
+		CompletableFuture<SessionSnapshot> inFlight = restoresInFlight.putIfAbsent(sessionId, restore);
+		if (inFlight != null) {
+			meterRegistry.counter("chat.session.restore", "result", "joined").increment();
+			log.debug("SessionStore: 진행 중인 복원 대기 - sessionId: {}", sessionId);
+			return inFlight.join();
+		}
+
+		try {
+			SessionSnapshot snapshot = doRestore(sessionId, persistence);
+			restore.complete(snapshot);
+			return snapshot;
+		} catch (RuntimeException e) {
+			restore.completeExceptionally(e);
+			throw e;
+		} finally {
+			restoresInFlight.remove(sessionId, restore);
+		}
+	}
+
+	private SessionSnapshot doRestore(String sessionId, ChatSessionPersistenceService persistence) {
+		Optional<List<ChatMessageDto>> messages = persistence.getRecentMessages(sessionId, maxHistoryMessages);
+		if (messages.isEmpty()) {
+			meterRegistry.counter("chat.session.restore", "result", "not-found").increment();
+			return null;
+		}
+
+		List<MessageDto> history = messages.get().stream()
+				.map(m -> "USER".equalsIgnoreCase(m.role())
+						? MessageDto.fromUserMessage(new UserMessage(m.content()))
+						: MessageDto.fromAiMessage(new AiMessage(m.content())))
+				.collect(Collectors.toList());
+		setHistory(sessionId, history);
+
+		AgentState state = new AgentState();
+		state.setSessionId(sessionId);
+		saveSession(sessionId, state);
+
+		meterRegistry.counter("chat.session.restore", "result", "restored").increment();
+		log.info("SessionStore: DB에서 세션 복원 완료 - sessionId: {}, 메시지 수: {}", sessionId, history.size());
+		return new SessionSnapshot(state, toMessages(selectWithinTokenBudget(history)), null);
+	}
+
+	/**
+	 * 턴 결과 저장: 세션 상태 SET과 히스토리 추가를 스크립트 한 번으로 수행
+	 *
+	 * @param sessionId   세션 ID
+	 * @param state       최종 AgentState
+	 * @param userMessage 사용자 메시지
+	 * @param aiMessage   AI 메시지
+	 */
+	public void saveTurn(String sessionId, AgentState state, UserMessage userMessage, AiMessage aiMessage) {
+		if (sessionId == null || sessionId.isBlank()) {
+			log.warn("SessionStore: 세션 ID가 없어 저장을 건너뜁니다");
+			return;
+		}
+
+		try {
+			String sessionKey = SESSION_KEY_PREFIX + sessionId;
+			String historyKey = HISTORY_KEY_PREFIX + sessionId;
+
+			List<MessageDto> newMessages = new ArrayList<>(2);
+			if (userMessage != null) {
+				newMessages.add(withTokens(MessageDto.fromUserMessage(userMessage)));
+			}
+			if (aiMessage != null) {
+				newMessages.add(withTokens(MessageDto.fromAiMessage(aiMessage)));
+			}
+
+			Object[] historyArgs = historyScriptArgs(newMessages);
+			Object[] args = new Object[historyArgs.length + 1];
+			args[0] = historyArgs[0];
+			args[1] = historyArgs[1];
+			AgentStateDto stateDto = AgentStateDto.forStorage(state);
+			byte[] payload = sessionSerializer.serialize(stateDto, "state");
+			args[2] = payload;
+			System.arraycopy(historyArgs, 2, args, 3, historyArgs.length - 2);
+
+			Long size = sessionRedisTemplate.execute(SAVE_TURN_SCRIPT,
+					List.of(sessionKey, historyKey, SUMMARY_KEY_PREFIX + sessionId), args);
+			countRoundTrip("saveTurn");
+			nearCache.applyTurn(sessionId, stateDto, newMessages, maxHistoryMessages, payload.length);
+
+			log.debug("SessionStore: 턴 저장 완료 - sessionId: {}, 히스토리 크기: {} (제한: {})",
+					sessionId, size, maxHistoryMessages > 0 ? maxHistoryMessages : "무제한");
+		} catch (RedisConnectionFailureException e) {
+			log.error("SessionStore: Redis 연결 실패로 턴 저장 실패 - sessionId: {}, 오류: {}",
+					sessionId, e.getMessage());
+			log.error("SessionStore: Redis 연결 상태를 확인하세요. Redis 서비스가 실행 중인지 확인하세요.", e);
+		} catch (Exception e) {
+			log.error("SessionStore: 턴 저장 중 오류 발생 - sessionId: {}, 오류 타입: {}, 메시지: {}",
+					sessionId, e.getClass().getSimpleName(), e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 요약 대상 조회: 현재 요약과 저장된 히스토리 전체를 파이프라인 한 번으로 조회
+	 *
+	 * @param sessionId 세션 ID
+	 * @return 요약 대상 (히스토리가 없거나 오류 시 null)
+	 */
+	public SummarySource loadSummarySource(String sessionId) {
+		try {
+			String historyKey = HISTORY_KEY_PREFIX + sessionId;
+			String summaryKey = SUMMARY_KEY_PREFIX + sessionId;
+			List<Object> results = sessionRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings({ "unchecked", "rawtypes" })
+				public Object execute(RedisOperations operations) {
+					operations.opsForValue().get(summaryKey);
+					operations.opsForList().range(historyKey, 0, -1);
+					return null;
+				}
+			});
+			countRoundTrip("loadSummarySource");
+
+			byte[] summaryBytes = (byte[]) results.get(0);
+			@SuppressWarnings("unchecked")
+			List<byte[]> items = (List<byte[]>) results.get(1);
+			if (items == null || items.isEmpty()) {
+				return null;
+			}
+			List<MessageDto> messages = new ArrayList<>(items.size());
+			for (byte[] item : items) {
+				messages.add(sessionSerializer.deserialize(item, MessageDto.class));
+			}
+			return new SummarySource(
+					summaryBytes != null ? new String(summaryBytes, StandardCharsets.UTF_8) : null,
+					messages, items);
+		} catch (Exception e) {
+			log.warn("SessionStore: 요약 대상 조회 실패 - sessionId: {}, 오류: {}", sessionId, e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 요약 반영: 새 요약을 저장하고 요약된 앞부분 메시지를 히스토리에서 제거 (스크립트 한 번)
+	 *
+	 * @param sessionId       세션 ID
+	 * @param source          loadSummarySource 결과
+	 * @param summarizedCount 요약된 앞부분 메시지 수
+	 * @param summary         새 요약
+	 * @return 반영 여부 (요약 중 히스토리가 바뀌었으면 false)
+	 */
+	public boolean applySummary(String sessionId, SummarySource source, int summarizedCount, String summary) {
+		try {
+			Long applied = sessionRedisTemplate.execute(APPLY_SUMMARY_SCRIPT,
+					List.of(SUMMARY_KEY_PREFIX + sessionId, HISTORY_KEY_PREFIX + sessionId),
+					String.valueOf(TimeUnit.HOURS.toSeconds(SESSION_TTL_HOURS)).getBytes(StandardCharsets.US_ASCII),
+					String.valueOf(summarizedCount).getBytes(StandardCharsets.US_ASCII),
+					source.rawItems().get(summarizedCount - 1),
+					summary.getBytes(StandardCharsets.UTF_8));
+			countRoundTrip("applySummary");
+			nearCache.invalidate(sessionId);
+			return applied != null && applied == 1L;
+		} catch (Exception e) {
+			log.warn("SessionStore: 요약 반영 실패 - sessionId: {}, 오류: {}", sessionId, e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * LRANGE 결과를 MessageDto 리스트로 변환 (비어 있으면 이전 형식 히스토리 이전 시도)
+	 */
+	private List<MessageDto> decodeHistory(String sessionId, List<byte[]> items) throws IOException {
+		if (items == null || items.isEmpty()) {
+			return migrateLegacyHistory(sessionId);
+		}
+		List<MessageDto> history = new ArrayList<>(items.size());
+		for (byte[] item : items) {
+			history.add(sessionSerializer.deserialize(item, MessageDto.class));
+		}
+		return history;
+	}
+
+	/**
+	 * Redis 왕복 횟수 기록 (턴당 왕복 수 확인용)
+	 */
+	private void countRoundTrip(String operation) {
+		meterRegistry.counter("chat.session.redis.round-trips", "operation", operation).increment();
+	}
+
+	/**
+	 * 히스토리 스크립트 인자 생성: TTL(초), 최대 메시지 수, 메시지...
+	 * (byte[] 템플릿으로 실행하므로 숫자 인자도 byte[]로 전달)
+	 */
+	private Object[] historyScriptArgs(List<MessageDto> messages) throws IOException {
+		Object[] args = new Object[messages.size() + 2];
+		args[0] = String.valueOf(TimeUnit.HOURS.toSeconds(SESSION_TTL_HOURS)).getBytes(StandardCharsets.US_ASCII);
+		args[1] = String.valueOf(maxHistoryMessages).getBytes(StandardCharsets.US_ASCII);
+		for (int i = 0; i < messages.size(); i++) {
+			args[i + 2] = sessionSerializer.serialize(messages.get(i), "message");
+		}
+		return args;
+	}
+
+	/**
+	 * 이전 형식(JSON 통짜 문자열) 히스토리를 리스트 형식으로 이전
+	 * 배포 전 생성된 세션의 문맥을 유지하기 위한 것으로, 이전 키는 이전 후 삭제합니다.
+	 */
+	private List<MessageDto> migrateLegacyHistory(String sessionId) throws IOException {
+		String legacyKey = LEGACY_HISTORY_KEY_PREFIX + sessionId;
+		String historyJson = redisTemplate.opsForValue().get(legacyKey);
+		countRoundTrip("migrateLegacyHistory");
+		if (historyJson == null) {
+			return new ArrayList<>();
+		}
+
+		TypeReference<List<MessageDto>> typeRef = new TypeReference<List<MessageDto>>() {
+		};
+		List<MessageDto> history = objectMapper.readValue(historyJson, typeRef);
+		history = limitHistorySize(history != null ? history : new ArrayList<>());
+		history.forEach(this::withTokens);
+
+		sessionRedisTemplate.execute(REPLACE_HISTORY_SCRIPT, List.of(HISTORY_KEY_PREFIX + sessionId),
+				historyScriptArgs(history));
+		redisTemplate.delete(legacyKey);
+		log.info("SessionStore: 이전 형식 히스토리를 리스트로 이전 - sessionId: {}, 크기: {}", sessionId, history.size());
+		return history;
+	}
+
+	/**
+	 * 메시지 토큰 수가 없으면 추정하여 채움 (히스토리 추가 시 한 번만 계산)
+	 * 저장값은 보정 계수를 적용하지 않은 기본 추정값이며, 보정 계수는 예산 비교 시점에 곱함
+	 */
+	private MessageDto withTokens(MessageDto message) {
+		if (message != null && message.getTokens() == null) {
+			message.setTokens(tokenEstimator.estimateUncalibrated(message.getText()));
+		}
+		return message;
+	}
+
+	/**
+	 * 토큰 예산 안에 들어가는 최신 대화만 선택
+	 * 최신 메시지부터 질문+답변 쌍 단위로 누적하며, 예산을 넘는 쌍부터 이전 대화는 제외합니다.
+	 * 메시지에 저장된 토큰 수를 사용하므로 다시 토큰화하지 않습니다. (이전 데이터는 이 시점에 추정)
+	 * 저장된 토큰 수에 현재 보정 계수를 곱해 예산과 비교합니다.
+	 *
+	 * @param history 시간순 히스토리 (max-messages 제한 적용 후)
+	 * @return 예산 안의 최신 히스토리 (시간순)
+	 */
+	private List<MessageDto> selectWithinTokenBudget(List<MessageDto> history) {
+		if (maxHistoryInputTokens <= 0 || history.isEmpty()) {
+			return history;
+		}
+
+		double calibration = tokenEstimator.calibration();
+		long used = 0;
+		int cut = history.size();
+		while (cut > 0) {
+			int groupStart = cut - 1;
+			// AI 답변 앞의 사용자 질문은 같은 쌍으로 묶어 함께 포함/제외
+			if (groupStart > 0 && "AI".equals(history.get(groupStart).getType())
+					&& "USER".equals(history.get(groupStart - 1).getType())) {
+				groupStart--;
+			}
+			long rawTokens = 0;
+			for (int i = groupStart; i < cut; i++) {
+				rawTokens += withTokens(history.get(i)).getTokens();
+			}
+			long groupTokens = Math.round(rawTokens * calibration);
+			if (used + groupTokens > maxHistoryInputTokens) {
+				break;
+			}
+			used += groupTokens;
+			cut = groupStart;
+		}
+
+		if (cut > 0) {
+			log.debug("SessionStore: 토큰 예산 적용 - 전체: {}개, 선택: {}개, 사용 토큰: {} (예산: {})",
+					history.size(), history.size() - cut, used, maxHistoryInputTokens);
+		}
+		return cut == 0 ? history : new ArrayList<>(history.subList(cut, history.size()));
+	}
+
 	/**
 	 * 히스토리 크기를 제한하여 최근 N개 메시지만 유지
 	 * 
@@ -273,9 +794,13 @@ public class SessionStore {
 	 * @return 대화 히스토리 리스트 (UserMessage, AiMessage 객체)
 	 */
 	public List<Object> getHistory(String sessionId) {
-		List<MessageDto> dtos = getHistoryAsDtos(sessionId);
+		return toMessages(getHistoryAsDtos(sessionId));
+	}
 
-		// MessageDto를 UserMessage/AiMessage로 변환
+	/**
+	 * MessageDto를 UserMessage/AiMessage로 변환
+	 */
+	private List<Object> toMessages(List<MessageDto> dtos) {
 		return dtos.stream()
 				.map(dto -> {
 					if ("USER".equals(dto.getType())) {
@@ -303,8 +828,9 @@ public class SessionStore {
 			String sessionKey = SESSION_KEY_PREFIX + sessionId;
 			String historyKey = HISTORY_KEY_PREFIX + sessionId;
 
-			redisTemplate.delete(sessionKey);
-			redisTemplate.delete(historyKey);
+			redisTemplate.delete(List.of(sessionKey, historyKey, SUMMARY_KEY_PREFIX + sessionId,
+					LEGACY_HISTORY_KEY_PREFIX + sessionId));
+			nearCache.invalidate(sessionId);
 
 			log.debug("SessionStore: 세션 삭제 완료 - sessionId: {}", sessionId);
 		} catch (Exception e) {
@@ -338,6 +864,13 @@ public class SessionStore {
 		}
 	}
 
+	/**
+	 * 대화 히스토리 최대 메시지 수 (0 이하면 무제한)
+	 */
+	public int getMaxHistoryMessages() {
+		return maxHistoryMessages;
+	}
+
 	/**
 	 * Redis 연결 상태 확인
 	 * 
@@ -355,4 +888,24 @@ public class SessionStore {
 			return false;
 		}
 	}
+
+	/**
+	 * 파이프라인 조회 결과 (세션 상태 + 히스토리)
+	 *
+	 * @param state   세션 상태
+	 * @param history 대화 히스토리 (UserMessage, AiMessage 객체)
+	 * @param summary 이전 대화 요약 (없으면 null)
+	 */
+	public record SessionSnapshot(AgentState state, List<Object> history, String summary) {
+	}
+
+	/**
+	 * 요약 대상 (현재 요약 + 저장된 히스토리 전체)
+	 *
+	 * @param summary  현재 요약 (없으면 null)
+	 * @param messages 저장된 히스토리 (시간순)
+	 * @param rawItems 저장된 원소 그대로 (요약 반영 시 변경 여부 확인용)
+	 */
+	public record SummarySource(String summary, List<MessageDto> messages, List<byte[]> rawItems) {
+	}
 }
@@ -0,0 +1,251 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import ai.langgraph4j.aiagent.service.dto.SearchResult;
+import ai.langgraph4j.aiagent.tools.SearchTool;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추측 검색 (스트리밍 채팅)
+ * 요청이 도착하면 LLM이 검색 도구를 호출하기 전에 사용자 메시지로 하이브리드 검색을 미리 시작합니다.
+ * SearchTool이 같거나 비슷한 쿼리(문자 bigram Jaccard 유사도 >= min-similarity)로 호출되면
+ * 진행 중인 검색 결과를 재사용하고, 턴이 끝날 때까지 사용되지 않은 검색은 취소합니다.
+ *
+ * - 검색 파라미터는 SearchTool.search와 동일 (결과를 그대로 대체할 수 있어야 함)
+ * - agent.graph.mode=retrieval-first 또는 agent.graph.engine=langgraph4j면 그래프가 이미 사전 검색하므로 동작하지 않음
+ * - 적중률은 chat.retrieval.speculative.hit-rate 게이지로 노출
+ *
+ * chat.retrieval.speculative.enabled=false(기본값)면 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpeculativeRetrieval {
+
+	private final ConsultationSearchService consultationSearchService;
+	private final MeterRegistry meterRegistry;
+
+	/** sessionId → 진행 중인 추측 검색 (턴 종료 시 제거) */
+	private final Map<String, Speculation> speculations = new ConcurrentHashMap<>();
+
+	private final AtomicLong startedCount = new AtomicLong();
+	private final AtomicLong hitCount = new AtomicLong();
+
+	@Value("${chat.retrieval.speculative.enabled:false}")
+	private boolean enabled;
+
+	@Value("${agent.graph.mode:tool-calling}")
+	private String graphMode;
+
+	@Value("${agent.graph.engine:sequential}")
+	private String graphEngine;
+
+	/** 도구 쿼리와 추측 쿼리의 최소 유사도 (문자 bigram Jaccard, 0.0 ~ 1.0) */
+	@Value("${chat.retrieval.speculative.min-similarity:0.5}")
+	private double minSimilarity;
+
+	/** 재사용 시 추측 검색 완료 최대 대기 시간 (ms, 초과 시 도구가 직접 검색) */
+	@Value("${chat.retrieval.speculative.wait-ms:10000}")
+	private long waitMs;
+
+	@Value("${chat.retrieval.speculative.pool-size:8}")
+	private int poolSize;
+
+	@Value("${chat.retrieval.speculative.queue-capacity:200}")
+	private int queueCapacity;
+
+	private ThreadPoolExecutor speculationExecutor;
+
+	@PostConstruct
+	void initExecutor() {
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.speculationExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+				r -> {
+					Thread t = new Thread(r, "speculative-retrieval-" + threadIndex.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+		this.speculationExecutor.allowCoreThreadTimeOut(true);
+		Gauge.builder("chat.retrieval.speculative.hit-rate", this, SpeculativeRetrieval::hitRate)
+				.description("추측 검색 중 검색 도구가 재사용한 비율")
+				.register(meterRegistry);
+		if (isActive()) {
+			log.info("SpeculativeRetrieval: 활성화 - 최소 유사도: {}, 대기 시간: {}ms", minSimilarity, waitMs);
+		}
+	}
+
+	@PreDestroy
+	void shutdownExecutor() {
+		speculationExecutor.shutdownNow();
+	}
+
+	/**
+	 * 요청 도착 시 추측 검색 시작
+	 *
+	 * @param sessionId 세션 ID
+	 * @param message   사용자 메시지
+	 */
+	public void start(String sessionId, String message) {
+		if (!isActive() || sessionId == null || message == null || message.isBlank()) {
+			return;
+		}
+		String query = message.trim();
+		try {
+			CompletableFuture<List<SearchResult>> future = CompletableFuture.supplyAsync(
+					() -> consultationSearchService.hybridSearch(query, SearchTool.COUNSEL_TOP_K,
+							SearchTool.LAW_ARTICLE_TOP_K, SearchTool.SIMILARITY_THRESHOLD),
+					speculationExecutor);
+			Speculation previous = speculations.put(sessionId, new Speculation(bigrams(query), future));
+			if (previous != null) {
+				discard(sessionId, previous);
+			}
+			startedCount.incrementAndGet();
+			log.debug("SpeculativeRetrieval: 추측 검색 시작 - sessionId: {}", sessionId);
+		} catch (RejectedExecutionException e) {
+			countResult("rejected");
+			log.debug("SpeculativeRetrieval: 대기열이 가득 차 추측 검색 생략 - sessionId: {}", sessionId);
+		}
+	}
+
+	/**
+	 * 검색 도구 호출 시 진행 중인 추측 검색 결과 재사용
+	 *
+	 * @param sessionId 현재 세션 ID (RelatedReferencesHolder, null 가능)
+	 * @param query     도구 검색 쿼리
+	 * @return 재사용 가능한 검색 결과 (없거나 유사도가 낮거나 실패하면 empty → 도구가 직접 검색)
+	 */
+	public Optional<List<SearchResult>> claim(String sessionId, String query) {
+		if (!isActive() || sessionId == null || query == null) {
+			return Optional.empty();
+		}
+		Speculation speculation = speculations.get(sessionId);
+		if (speculation == null) {
+			return Optional.empty();
+		}
+		double similarity = jaccard(speculation.bigrams, bigrams(query));
+		if (similarity < minSimilarity) {
+			countResult("miss");
+			log.debug("SpeculativeRetrieval: 쿼리 불일치 - sessionId: {}, 유사도: {}", sessionId,
+					String.format("%.2f", similarity));
+			return Optional.empty();
+		}
+		try {
+			List<SearchResult> results = speculation.future.get(waitMs, TimeUnit.MILLISECONDS);
+			if (speculation.used.compareAndSet(false, true)) {
+				hitCount.incrementAndGet();
+			}
+			countResult("hit");
+			log.info("SpeculativeRetrieval: 추측 검색 재사용 - sessionId: {}, 유사도: {}, 결과: {}건",
+					sessionId, String.format("%.2f", similarity), results.size());
+			return Optional.of(results);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Optional.empty();
+		} catch (Exception e) {
+			countResult("error");
+			log.warn("SpeculativeRetrieval: 추측 검색 결과 사용 실패 - sessionId: {}, 오류: {}", sessionId,
+					e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 턴 종료 시 호출: 사용되지 않은 추측 검색 취소 (중복 호출 무시)
+	 *
+	 * @param sessionId 세션 ID
+	 */
+	public void finish(String sessionId) {
+		if (sessionId == null) {
+			return;
+		}
+		Speculation speculation = speculations.remove(sessionId);
+		if (speculation != null && !speculation.used.get()) {
+			discard(sessionId, speculation);
+		}
+	}
+
+	private void discard(String sessionId, Speculation speculation) {
+		// 아직 실행 전이면 실행되지 않고, 실행 중이면 결과만 버려짐
+		boolean cancelled = speculation.future.cancel(false);
+		countResult("wasted");
+		log.debug("SpeculativeRetrieval: 사용되지 않은 추측 검색 {} - sessionId: {}",
+				cancelled ? "취소" : "폐기", sessionId);
+	}
+
+	private boolean isActive() {
+		return enabled && !"retrieval-first".equalsIgnoreCase(graphMode)
+				&& !"langgraph4j".equalsIgnoreCase(graphEngine);
+	}
+
+	private double hitRate() {
+		long started = startedCount.get();
+		return started == 0 ? 0.0 : (double) hitCount.get() / started;
+	}
+
+	private void countResult(String result) {
+		meterRegistry.counter("chat.retrieval.speculative", "result", result).increment();
+	}
+
+	/**
+	 * 공백을 제거한 소문자 문자 bigram 집합 (한국어 조사 차이에 덜 민감)
+	 */
+	static Set<String> bigrams(String text) {
+		String normalized = text.toLowerCase().replaceAll("[\\s\\p{Punct}]+", "");
+		Set<String> grams = new HashSet<>();
+		if (normalized.length() == 1) {
+			grams.add(normalized);
+		}
+		for (int i = 0; i + 1 < normalized.length(); i++) {
+			grams.add(normalized.substring(i, i + 2));
+		}
+		return grams;
+	}
+
+	static double jaccard(Set<String> a, Set<String> b) {
+		if (a.isEmpty() && b.isEmpty()) {
+			return 1.0;
+		}
+		int intersection = 0;
+		for (String gram : a) {
+			if (b.contains(gram)) {
+				intersection++;
+			}
+		}
+		return (double) intersection / (a.size() + b.size() - intersection);
+	}
+
+	private static final class Speculation {
+		private final Set<String> bigrams;
+		private final CompletableFuture<List<SearchResult>> future;
+		private final AtomicBoolean used = new AtomicBoolean();
+
+		private Speculation(Set<String> bigrams, CompletableFuture<List<SearchResult>> future) {
+			this.bigrams = bigrams;
+			this.future = future;
+		}
+	}
+}
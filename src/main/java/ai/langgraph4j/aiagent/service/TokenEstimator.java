@@ -0,0 +1,241 @@
+package ai.langgraph4j.aiagent.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 수 추정기
+ * 실제 토크나이저 호출 없이 문자 종류별 가중치로 토큰 수를 추정합니다 (문자열 복사 없이 한 번 순회).
+ *
+ * 가중치 (Gemini SentencePiece 토크나이저 특성에 맞춘 초기 근사값, 실측 보정 전):
+ * - 한글 음절: 0.6 토큰 (자주 쓰이는 법령 용어는 여러 음절이 한 토큰)
+ * - 한자 등 CJK: 1.0 토큰
+ * - 영문자: 0.25 토큰 (영단어 약 4글자당 1토큰)
+ * - 숫자: 1.0 토큰 (숫자는 한 자리씩 분리)
+ * - 공백: 0.1 토큰, 줄바꿈: 0.5 토큰, 구두점/기호: 0.8 토큰
+ *
+ * LLM 응답의 실제 Usage(입력 토큰)와 비교해 보정 계수를 지수 이동 평균으로 갱신하고,
+ * 추정 오차를 agent.llm.token-estimate.error(%) 분포로 기록합니다. 실제 오차는 이 메트릭으로 확인합니다.
+ * Tool 호출 루프를 거친 응답은 Usage가 라운드 합계라 호출자(LlmNode)가 보정에 넘기지 않습니다.
+ * 임베딩 청크 분할(splitToTokenLimit)은 결과가 매번 같도록 보정 계수 없이 기본 가중치만 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenEstimator {
+
+	private static final double HANGUL_WEIGHT = 0.6;
+	private static final double CJK_WEIGHT = 1.0;
+	private static final double LATIN_WEIGHT = 0.25;
+	private static final double DIGIT_WEIGHT = 1.0;
+	private static final double SPACE_WEIGHT = 0.1;
+	private static final double NEWLINE_WEIGHT = 0.5;
+	private static final double SYMBOL_WEIGHT = 0.8;
+	private static final double OTHER_WEIGHT = 1.0;
+
+	/** 메시지당 역할/구분자 토큰 */
+	private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
+	/** 임베딩 청크당 최대 토큰 수 (gemini-embedding-001 입력 한도 2,048 토큰, 안전 마진 포함) */
+	public static final int EMBEDDING_MAX_TOKENS = 2000;
+
+	private static final double MIN_CALIBRATION = 0.5;
+	private static final double MAX_CALIBRATION = 2.0;
+
+	private final MeterRegistry meterRegistry;
+
+	/** 보정 계수 (double 비트 저장, 1.0 = 기본 가중치 그대로) */
+	private final AtomicLong calibrationBits = new AtomicLong(Double.doubleToLongBits(1.0));
+
+	@Value("${agent.token-estimator.calibration.enabled:true}")
+	private boolean calibrationEnabled;
+
+	/** 보정 계수 갱신 비율 (0 ~ 1, 클수록 최근 응답 반영이 빠름) */
+	@Value("${agent.token-estimator.calibration.alpha:0.05}")
+	private double calibrationAlpha;
+
+	private DistributionSummary errorSummary;
+
+	@PostConstruct
+	void initMetrics() {
+		this.errorSummary = DistributionSummary.builder("agent.llm.token-estimate.error")
+				.description("입력 토큰 추정 오차 (실제 Usage 대비 %)")
+				.baseUnit("percent")
+				.publishPercentiles(0.5, 0.95)
+				.register(meterRegistry);
+		Gauge.builder("agent.llm.token-estimate.calibration", this, TokenEstimator::calibration)
+				.description("토큰 추정 보정 계수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 텍스트의 토큰 수 추정
+	 *
+	 * @param text 텍스트 (null 가능)
+	 * @return 추정 토큰 수
+	 */
+	public int estimate(CharSequence text) {
+		return (int) Math.round(weigh(text) * calibration());
+	}
+
+	/**
+	 * 프롬프트 메시지 목록의 토큰 수 추정 (메시지 텍스트만 사용, toString 복사 없음)
+	 *
+	 * @param messages 메시지 목록 (null 가능)
+	 * @return 추정 토큰 수
+	 */
+	public int estimate(List<? extends Message> messages) {
+		if (messages == null || messages.isEmpty()) {
+			return 0;
+		}
+		double total = 0;
+		for (Message message : messages) {
+			total += weigh(message.getText()) + MESSAGE_OVERHEAD_TOKENS;
+		}
+		return (int) Math.round(total * calibration());
+	}
+
+	/**
+	 * 보정 계수 없이 기본 가중치로 추정 (결과가 항상 같아야 하는 청크 분할용)
+	 */
+	public int estimateUncalibrated(CharSequence text) {
+		return (int) Math.ceil(weigh(text));
+	}
+
+	/**
+	 * 추정 토큰 수가 maxTokens를 넘지 않도록 텍스트 분할 (가능하면 공백/줄바꿈 경계에서 자름)
+	 *
+	 * @param text      원본 텍스트
+	 * @param maxTokens 청크당 최대 토큰 수
+	 * @return 분할된 텍스트 (이미 한도 이내면 원본 하나)
+	 */
+	public List<String> splitToTokenLimit(String text, int maxTokens) {
+		List<String> parts = new ArrayList<>();
+		if (text == null || text.isEmpty()) {
+			return parts;
+		}
+		int start = 0;
+		int lastBreak = -1;
+		double tokens = 0;
+		double tokensAtBreak = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			double weight = weight(c);
+			if (tokens + weight > maxTokens && i > start && !Character.isLowSurrogate(c)) {
+				int end = lastBreak > start ? lastBreak : i;
+				parts.add(text.substring(start, end));
+				tokens = end == i ? 0 : tokens - tokensAtBreak;
+				start = end;
+				lastBreak = -1;
+			}
+			tokens += weight;
+			if (Character.isWhitespace(c)) {
+				lastBreak = i + 1;
+				tokensAtBreak = tokens;
+			}
+		}
+		if (start < text.length()) {
+			parts.add(text.substring(start));
+		}
+		return parts;
+	}
+
+	/**
+	 * 청크 목록 중 추정 토큰 수가 maxTokens를 넘는 청크만 다시 분할 (문자 수 기준으로 나눈 청크도
+	 * 숫자·기호가 많으면 임베딩 입력 한도를 넘을 수 있음, 청크 순서 유지)
+	 *
+	 * @param chunks    문장/문자 수 기준으로 나눈 청크
+	 * @param maxTokens 청크당 최대 토큰 수
+	 * @return 모든 청크가 한도 이내인 목록
+	 */
+	public List<String> limitChunks(List<String> chunks, int maxTokens) {
+		List<String> limited = new ArrayList<>(chunks.size());
+		for (String chunk : chunks) {
+			limited.addAll(splitToTokenLimit(chunk, maxTokens));
+		}
+		return limited;
+	}
+
+	/**
+	 * 실제 Usage 입력 토큰 수로 추정 오차 기록 및 보정 계수 갱신
+	 *
+	 * @param estimatedTokens 호출 전 추정값 (estimate 결과)
+	 * @param actualTokens    응답 Usage의 입력 토큰 수
+	 */
+	public void recordActual(long estimatedTokens, long actualTokens) {
+		if (estimatedTokens <= 0 || actualTokens <= 0) {
+			return;
+		}
+		double errorPercent = Math.abs(estimatedTokens - actualTokens) * 100.0 / actualTokens;
+		errorSummary.record(errorPercent);
+		if (!calibrationEnabled) {
+			return;
+		}
+		double ratio = (double) actualTokens / estimatedTokens;
+		calibrationBits.getAndUpdate(bits -> {
+			double current = Double.longBitsToDouble(bits);
+			double updated = current * (1.0 + calibrationAlpha * (ratio - 1.0));
+			return Double.doubleToLongBits(Math.max(MIN_CALIBRATION, Math.min(MAX_CALIBRATION, updated)));
+		});
+		log.debug("TokenEstimator: 추정 오차 - 추정: {}개, 실제: {}개, 오차: {}%, 보정 계수: {}", estimatedTokens,
+				actualTokens, String.format("%.1f", errorPercent), String.format("%.3f", calibration()));
+	}
+
+	/**
+	 * 현재 보정 계수
+	 */
+	public double calibration() {
+		return Double.longBitsToDouble(calibrationBits.get());
+	}
+
+	private static double weigh(CharSequence text) {
+		if (text == null) {
+			return 0;
+		}
+		double total = 0;
+		for (int i = 0; i < text.length(); i++) {
+			total += weight(text.charAt(i));
+		}
+		return total;
+	}
+
+	private static double weight(char c) {
+		if (c >= '가' && c <= '힣') {
+			return HANGUL_WEIGHT;
+		}
+		if (c < 0x80) {
+			if (c == '\n') {
+				return NEWLINE_WEIGHT;
+			}
+			if (c == ' ' || c == '\t' || c == '\r') {
+				return SPACE_WEIGHT;
+			}
+			if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				return LATIN_WEIGHT;
+			}
+			if (c >= '0' && c <= '9') {
+				return DIGIT_WEIGHT;
+			}
+			return SYMBOL_WEIGHT;
+		}
+		if ((c >= '一' && c <= '鿿') || (c >= '㐀' && c <= '䶿')) {
+			return CJK_WEIGHT;
+		}
+		if (Character.isWhitespace(c)) {
+			return SPACE_WEIGHT;
+		}
+		return OTHER_WEIGHT;
+	}
+}
@@ -37,13 +37,12 @@ public class YpEmbeddingService {
 	private static final int EMBED_PAGE_SIZE = 50;
 	/** 임베딩/검색 대상으로 할 최근 연수 (이 기간 이내 문서일자만 포함, 옛날 판례 제외) */
 	private static final int DEFAULT_RECENT_YEARS = 5;
-	/** 한글 중심: 1 토큰 ≈ 3 문자 */
-	private static final double TOKENS_PER_CHAR = 1.0 / 3.0;
 	/** 약 2,000 토큰 (안전 마진 포함) */
 	private static final int MAX_CHUNK_SIZE = 6000;
 
 	private final YpRepository ypRepository;
 	private final VectorStore vectorStore;
+	private final TokenEstimator tokenEstimator;
 
 	/**
 	 * 삭제되지 않은 예규판례 상위 100건에 대한 토큰 수·비용 예상 계산
@@ -106,7 +105,7 @@ public class YpEmbeddingService {
 
 				long ypTokens = 0;
 				for (String chunk : chunks) {
-					ypTokens += Math.round(chunk.length() * TOKENS_PER_CHAR);
+					ypTokens += tokenEstimator.estimate(chunk);
 				}
 
 				totalTokens += ypTokens;
@@ -153,8 +152,7 @@ public class YpEmbeddingService {
 	private List<String> splitTextIntoChunks(String text, int maxChunkSize) {
 		List<String> chunks = new ArrayList<>();
 		if (text.length() <= maxChunkSize) {
-			chunks.add(text);
-			return chunks;
+			return tokenEstimator.splitToTokenLimit(text, TokenEstimator.EMBEDDING_MAX_TOKENS);
 		}
 
 		String[] sentences = text.split("(?<=[.!?。！？])\\s+");
@@ -179,7 +177,7 @@ public class YpEmbeddingService {
 				chunks.add(text.substring(i, end));
 			}
 		}
-		return chunks;
+		return tokenEstimator.limitChunks(chunks, TokenEstimator.EMBEDDING_MAX_TOKENS);
 	}
 
 	/** document_date 저장 형식 (yyyyMMdd) */
@@ -245,7 +243,7 @@ public class YpEmbeddingService {
 			}
 
 			if (!documents.isEmpty()) {
-				vectorStore.add(documents);
+				LlmAdmissionController.runAsBatch(() -> vectorStore.add(documents));
 				totalDocuments += documents.size();
 			}
 
@@ -283,7 +281,7 @@ public class YpEmbeddingService {
 		List<String> chunks = splitTextIntoChunks(text, MAX_CHUNK_SIZE);
 		long ypTokens = 0;
 		for (String chunk : chunks) {
-			ypTokens += Math.round(chunk.length() * TOKENS_PER_CHAR);
+			ypTokens += tokenEstimator.estimate(chunk);
 		}
 		List<Document> documents = new ArrayList<>();
 		for (int i = 0; i < chunks.size(); i++) {
@@ -296,7 +294,7 @@ public class YpEmbeddingService {
 		}
 		log.info("[예규판례 임베딩] ypId={}, documentNumber={}, title={}, textLength={}, estimatedTokens={}, chunks={}",
 				ypId, yp.getDocumentNumber(), yp.getTitle(), text.length(), ypTokens, chunks.size());
-		vectorStore.add(documents);
+		LlmAdmissionController.runAsBatch(() -> vectorStore.add(documents));
 		log.info("예규판례 ID {} 임베딩 완료: {}개 청크", ypId, documents.size());
 	}
 }
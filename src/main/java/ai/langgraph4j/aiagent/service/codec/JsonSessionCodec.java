@@ -0,0 +1,41 @@
+package ai.langgraph4j.aiagent.service.codec;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JSON 코덱 (기존 저장 형식과 동일한 본문)
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonSessionCodec implements SessionCodec {
+
+	static final byte ID = 1;
+
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public byte id() {
+		return ID;
+	}
+
+	@Override
+	public String name() {
+		return "json";
+	}
+
+	@Override
+	public byte[] encode(Object value) throws IOException {
+		return objectMapper.writeValueAsBytes(value);
+	}
+
+	@Override
+	public <T> T decode(byte[] body, int offset, int length, Class<T> type) throws IOException {
+		return objectMapper.readValue(body, offset, length, type);
+	}
+}
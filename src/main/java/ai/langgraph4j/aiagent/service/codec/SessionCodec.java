@@ -0,0 +1,27 @@
+package ai.langgraph4j.aiagent.service.codec;
+
+import java.io.IOException;
+
+/**
+ * 세션 직렬화 코덱
+ * SessionStore가 Redis에 저장하는 AgentStateDto / MessageDto의 본문 형식을 정의합니다.
+ *
+ * 헤더(매직 바이트, 코덱 ID, 플래그)와 압축은 SessionSerializer가 처리하며,
+ * 코덱은 본문 인코딩/디코딩만 담당합니다.
+ */
+public interface SessionCodec {
+
+	/**
+	 * 헤더에 기록되는 코덱 ID (한 번 배포된 ID는 변경하지 않음)
+	 */
+	byte id();
+
+	/**
+	 * 설정(chat.session.codec.write)과 메트릭 태그에 사용하는 이름
+	 */
+	String name();
+
+	byte[] encode(Object value) throws IOException;
+
+	<T> T decode(byte[] body, int offset, int length, Class<T> type) throws IOException;
+}
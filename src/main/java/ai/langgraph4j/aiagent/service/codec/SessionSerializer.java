@@ -0,0 +1,205 @@
+package ai.langgraph4j.aiagent.service.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 값 직렬화기
+ * Redis에 저장하는 세션/메시지 값에 버전 헤더를 붙이고, 설정된 코덱으로 본문을 인코딩합니다.
+ *
+ * 저장 형식: [매직 0xC5][코덱 ID][플래그][본문]
+ * - 플래그 0x01: 본문이 Deflate로 압축됨 (compress-threshold 이상일 때)
+ * - 첫 바이트가 매직이 아니면 헤더 없는 이전 JSON 문자열로 간주하여 읽습니다.
+ *
+ * 롤링 배포 순서:
+ * 1. chat.session.codec.write=legacy(기본값)로 배포 → 모든 노드가 새 형식을 읽을 수 있게 됨 (쓰기는 기존 JSON)
+ * 2. 모든 노드 교체 후 chat.session.codec.write=smile(또는 json)으로 변경
+ */
+@Slf4j
+@Component
+public class SessionSerializer {
+
+	static final byte MAGIC = (byte) 0xC5;
+	static final byte FLAG_DEFLATE = 0x01;
+	static final int HEADER_LENGTH = 3;
+
+	private static final String LEGACY = "legacy";
+
+	private final Map<Byte, SessionCodec> codecsById = new HashMap<>();
+	private final Map<String, SessionCodec> codecsByName = new HashMap<>();
+	private final JsonSessionCodec jsonCodec;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 쓰기 코덱 (legacy: 헤더 없는 JSON, json, smile)
+	 */
+	@Value("${chat.session.codec.write:legacy}")
+	private String writeCodecName;
+
+	/**
+	 * 이 크기(바이트) 이상인 본문은 Deflate 압축 (0 이하면 압축 안 함)
+	 */
+	@Value("${chat.session.codec.compress-threshold:2048}")
+	private int compressThreshold;
+
+	private SessionCodec writeCodec;
+
+	public SessionSerializer(List<SessionCodec> codecs, JsonSessionCodec jsonCodec, MeterRegistry meterRegistry) {
+		for (SessionCodec codec : codecs) {
+			codecsById.put(codec.id(), codec);
+			codecsByName.put(codec.name(), codec);
+		}
+		this.jsonCodec = jsonCodec;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@PostConstruct
+	void init() {
+		if (!LEGACY.equalsIgnoreCase(writeCodecName)) {
+			writeCodec = codecsByName.get(writeCodecName.toLowerCase());
+			if (writeCodec == null) {
+				throw new IllegalStateException("Unknown chat.session.codec.write: " + writeCodecName
+						+ " (supported: legacy, " + String.join(", ", codecsByName.keySet()) + ")");
+			}
+		}
+		log.info("SessionSerializer: 쓰기 코덱: {}, 압축 기준: {}바이트", writeCodecName, compressThreshold);
+	}
+
+	/**
+	 * 값 직렬화
+	 *
+	 * @param value 세션 상태 또는 메시지 DTO
+	 * @param kind  메트릭 태그 (state, message 등)
+	 */
+	public byte[] serialize(Object value, String kind) throws IOException {
+		long start = System.nanoTime();
+		SessionCodec codec = writeCodec != null ? writeCodec : jsonCodec;
+		byte[] body = codec.encode(value);
+
+		byte[] result;
+		if (writeCodec == null) {
+			// legacy: 헤더 없이 JSON 그대로 저장 (이전 버전 노드와 호환)
+			result = body;
+		} else {
+			byte flags = 0;
+			if (compressThreshold > 0 && body.length >= compressThreshold) {
+				body = deflate(body);
+				flags |= FLAG_DEFLATE;
+			}
+			result = new byte[HEADER_LENGTH + body.length];
+			result[0] = MAGIC;
+			result[1] = codec.id();
+			result[2] = flags;
+			System.arraycopy(body, 0, result, HEADER_LENGTH, body.length);
+		}
+
+		String codecName = writeCodec != null ? writeCodec.name() : LEGACY;
+		timer("chat.session.codec.encode", codecName).record(System.nanoTime() - start,
+				TimeUnit.NANOSECONDS);
+		DistributionSummary.builder("chat.session.codec.bytes")
+				.description("세션 값 저장 크기")
+				.baseUnit("bytes")
+				.tag("codec", codecName)
+				.tag("kind", kind)
+				.register(meterRegistry)
+				.record(result.length);
+		return result;
+	}
+
+	/**
+	 * 값 역직렬화 (헤더 없는 이전 JSON 포함)
+	 */
+	public <T> T deserialize(byte[] data, Class<T> type) throws IOException {
+		if (data == null || data.length == 0) {
+			return null;
+		}
+		long start = System.nanoTime();
+		T value;
+		String codecName;
+		if (data[0] != MAGIC) {
+			value = jsonCodec.decode(data, 0, data.length, type);
+			codecName = LEGACY;
+		} else {
+			if (data.length < HEADER_LENGTH) {
+				throw new IOException("Session payload shorter than header: " + data.length);
+			}
+			SessionCodec codec = codecsById.get(data[1]);
+			if (codec == null) {
+				throw new IOException("Unknown session codec id: " + data[1]);
+			}
+			byte[] body = data;
+			int offset = HEADER_LENGTH;
+			int length = data.length - HEADER_LENGTH;
+			if ((data[2] & FLAG_DEFLATE) != 0) {
+				body = inflate(data, offset, length);
+				offset = 0;
+				length = body.length;
+			}
+			value = codec.decode(body, offset, length, type);
+			codecName = codec.name();
+		}
+		timer("chat.session.codec.decode", codecName).record(System.nanoTime() - start,
+				TimeUnit.NANOSECONDS);
+		return value;
+	}
+
+	private Timer timer(String name, String codecName) {
+		return Timer.builder(name)
+				.tag("codec", codecName)
+				.register(meterRegistry);
+	}
+
+	private static byte[] deflate(byte[] input) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(input);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+			byte[] buffer = new byte[4096];
+			while (!deflater.finished()) {
+				int n = deflater.deflate(buffer);
+				out.write(buffer, 0, n);
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] input, int offset, int length) throws IOException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(input, offset, length);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(length * 3);
+			byte[] buffer = new byte[4096];
+			while (!inflater.finished()) {
+				int n = inflater.inflate(buffer);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IOException("Truncated compressed session payload");
+				}
+				out.write(buffer, 0, n);
+			}
+			return out.toByteArray();
+		} catch (DataFormatException e) {
+			throw new IOException("Invalid compressed session payload", e);
+		} finally {
+			inflater.end();
+		}
+	}
+}
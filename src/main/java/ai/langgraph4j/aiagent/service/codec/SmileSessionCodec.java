@@ -0,0 +1,43 @@
+package ai.langgraph4j.aiagent.service.codec;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Smile 코덱 (Jackson 바이너리 JSON)
+ * 필드명/반복 문자열을 back-reference로 저장하고 숫자를 바이너리로 기록합니다.
+ * JSON 대비 크기·시간은 chat.session.codec.* 메트릭으로 비교합니다 (docs/SESSION_CODEC.md).
+ */
+@Component
+public class SmileSessionCodec implements SessionCodec {
+
+	static final byte ID = 2;
+
+	private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder()
+			.findAndAddModules()
+			.build();
+
+	@Override
+	public byte id() {
+		return ID;
+	}
+
+	@Override
+	public String name() {
+		return "smile";
+	}
+
+	@Override
+	public byte[] encode(Object value) throws IOException {
+		return SMILE_MAPPER.writeValueAsBytes(value);
+	}
+
+	@Override
+	public <T> T decode(byte[] body, int offset, int length, Class<T> type) throws IOException {
+		return SMILE_MAPPER.readValue(body, offset, length, type);
+	}
+}
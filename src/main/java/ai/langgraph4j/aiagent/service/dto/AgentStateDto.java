@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import ai.langgraph4j.aiagent.agent.state.AgentState;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
@@ -18,9 +19,12 @@ import lombok.NoArgsConstructor;
 /**
  * AgentState 직렬화를 위한 DTO
  * UserMessage와 AiMessage를 DTO로 변환하여 Redis에 저장
+ *
+ * 빈 값(null, 빈 리스트/맵)은 직렬화하지 않습니다.
  */
 @Data
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
 public class AgentStateDto {
 	
 	private MessageDto userMessage;
@@ -77,6 +81,24 @@ public class AgentStateDto {
 		return dto;
 	}
 	
+	/**
+	 * AgentState를 Redis 세션 저장용 DTO로 변환
+	 * 다음 턴에 필요한 값만 남깁니다.
+	 * - messages: 히스토리는 별도 리스트 키에 저장되므로 제외
+	 * - toolExecutionRequests/Results, metadata: 턴 단위 값이므로 제외
+	 */
+	public static AgentStateDto forStorage(AgentState state) {
+		AgentStateDto dto = fromAgentState(state);
+		if (dto == null) {
+			return null;
+		}
+		dto.setMessages(new ArrayList<>());
+		dto.setToolExecutionRequests(new ArrayList<>());
+		dto.setToolExecutionResults(new ArrayList<>());
+		dto.setMetadata(new HashMap<>());
+		return dto;
+	}
+
 	/**
 	 * DTO를 AgentState로 변환
 	 */
@@ -1,6 +1,7 @@
 package ai.langgraph4j.aiagent.service.dto;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.Data;
@@ -20,10 +21,23 @@ public class MessageDto {
 	@JsonProperty("text")
 	private String text;
 	
+	/**
+	 * 추정 토큰 수 (보정 계수 미적용 기본 추정값, 히스토리 추가 시 한 번 계산하여 함께 저장, 이전 데이터는 null)
+	 */
+	@JsonProperty("tokens")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Integer tokens;
+	
+	public MessageDto(String type, String text) {
+		this(type, text, null);
+	}
+	
 	@JsonCreator
-	public MessageDto(@JsonProperty("type") String type, @JsonProperty("text") String text) {
+	public MessageDto(@JsonProperty("type") String type, @JsonProperty("text") String text,
+			@JsonProperty("tokens") Integer tokens) {
 		this.type = type;
 		this.text = text;
+		this.tokens = tokens;
 	}
 	
 	public static MessageDto fromUserMessage(dev.langchain4j.data.message.UserMessage userMessage) {
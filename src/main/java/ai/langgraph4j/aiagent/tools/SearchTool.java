@@ -1,16 +1,27 @@
 package ai.langgraph4j.aiagent.tools;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import ai.langgraph4j.aiagent.controller.dto.RelatedReference;
+import ai.langgraph4j.aiagent.parser.ParserService;
+import ai.langgraph4j.aiagent.service.AgentTracing;
 import ai.langgraph4j.aiagent.service.ConsultationSearchService;
+import ai.langgraph4j.aiagent.service.ContextPacker;
 import ai.langgraph4j.aiagent.service.RelatedReferencesHolder;
+import ai.langgraph4j.aiagent.service.SpeculativeRetrieval;
+import ai.langgraph4j.aiagent.service.TokenEstimator;
 import ai.langgraph4j.aiagent.service.dto.SearchResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,8 +48,33 @@ public class SearchTool {
 	private static final String PATH_LAW_ARTICLE = "/law/article";
 	private static final String PATH_YP_DETAIL = "/taxmanage/yp/yp-detail";
 
+	/** search() 하이브리드 검색 파라미터 (SpeculativeRetrieval도 같은 값으로 미리 검색) */
+	public static final int COUNSEL_TOP_K = 10;
+	public static final int LAW_ARTICLE_TOP_K = 10;
+	public static final double SIMILARITY_THRESHOLD = 0.6;
+
+	/** 법령 인용: 법령명(시행령·시행규칙 포함) + 제N조(의M) (예: 소득세법 시행령 제10조의2) */
+	static final Pattern LAW_CITATION = Pattern
+			.compile("([가-힣]+법(?:\\s*시행령|\\s*시행규칙)?)\\s*제\\s*(\\d+)\\s*조(?:\\s*의\\s*(\\d+))?");
+
+	/** 법령명 없는 조문 표기 (예: 제10조, 10조의2) */
+	static final Pattern ARTICLE_ONLY = Pattern.compile("제?\\s*\\d+\\s*조(?:\\s*의\\s*\\d+)?");
+
 	private final ConsultationSearchService consultationSearchService;
 	private final RelatedReferencesHolder relatedReferencesHolder;
+	private final SpeculativeRetrieval speculativeRetrieval;
+	private final AgentTracing agentTracing;
+	private final ContextPacker contextPacker;
+	private final TokenEstimator tokenEstimator;
+	private final ParserService parserService;
+
+	/** 질문 속 법령 인용·예규·판례 번호를 벡터 검색 없이 키로 직접 조회 */
+	@Value("${search.exact-reference.enabled:true}")
+	private boolean exactReferenceEnabled;
+
+	/** 참조 표기를 뺀 남은 질문의 문자 수가 이보다 적으면 벡터 검색 생략 */
+	@Value("${search.exact-reference.min-remaining-chars:10}")
+	private int minRemainingChars;
 
 	// Phase 3에서 실제 웹 검색 API 통합 시 사용 예정
 	@SuppressWarnings("unused")
@@ -62,8 +98,23 @@ public class SearchTool {
 			query = query.trim();
 			log.info("SearchTool: 하이브리드 검색 시작 - {}", query);
 
+			// 질문에 법령 인용·예규·판례 번호가 있으면 키로 직접 조회하고, 남은 질문이 있을 때만
 			// 하이브리드 검색 수행 (상담 10건 + 법령 10건 + 연관 법령)
-			List<SearchResult> results = consultationSearchService.hybridSearch(query, 10, 10, 0.6);
+			String searchQuery = query;
+			ExactReferences exact = exactReferenceEnabled
+					? agentTracing.stage("tool.exact-reference", () -> resolveExactReferences(searchQuery))
+					: ExactReferences.NONE;
+			List<SearchResult> results;
+			if (exact.results().isEmpty()) {
+				results = hybridSearch(searchQuery);
+			} else if (countSearchableChars(exact.remainingQuery()) < minRemainingChars) {
+				log.info("SearchTool: 정확한 참조만으로 검색 완료 (벡터 검색 생략) - {}건", exact.results().size());
+				results = exact.results();
+			} else {
+				log.info("SearchTool: 정확한 참조 {}건 + 남은 질문 벡터 검색 - {}", exact.results().size(),
+						exact.remainingQuery());
+				results = withExactResults(exact.results(), hybridSearch(exact.remainingQuery()));
+			}
 
 			if (results.isEmpty()) {
 				log.warn("SearchTool: 검색 결과가 없습니다 - {}", query);
@@ -89,13 +140,136 @@ public class SearchTool {
 	}
 
 	/**
-	 * 검색 결과를 LLM에 전달 가능한 형태로 포맷팅
+	 * 하이브리드 검색 (요청 도착 시 시작한 추측 검색이 비슷한 쿼리면 그 결과를 재사용)
+	 */
+	private List<SearchResult> hybridSearch(String searchQuery) {
+		return agentTracing.stage("tool.search", () -> speculativeRetrieval
+				.claim(relatedReferencesHolder.getCurrentSessionId(), searchQuery)
+				.orElseGet(() -> consultationSearchService.hybridSearch(searchQuery, COUNSEL_TOP_K,
+						LAW_ARTICLE_TOP_K, SIMILARITY_THRESHOLD)));
+	}
+
+	/**
+	 * 질문에서 법령 인용(법령명 + 제N조(의M))과 예규·판례 번호를 찾아 키로 직접 조회
+	 * 조회된 참조 표기는 질문에서 제거해 남은 질문(remainingQuery)으로 반환합니다.
+	 * 법령명 없는 조문 표기("10조의2")는 예규·판례 번호로 오인하지 않도록 yp 탐색 전에 가립니다.
+	 */
+	private ExactReferences resolveExactReferences(String query) {
+		try {
+			return lookupExactReferences(query);
+		} catch (Exception e) {
+			log.warn("SearchTool: 정확한 참조 직접 조회 실패, 벡터 검색으로 진행합니다 - {}", e.getMessage());
+			return ExactReferences.NONE;
+		}
+	}
+
+	private ExactReferences lookupExactReferences(String query) {
+		List<SearchResult> results = new ArrayList<>();
+		String remaining = query;
+
+		Matcher citation = LAW_CITATION.matcher(query);
+		while (citation.find()) {
+			String article = "제" + citation.group(2) + "조" + (citation.group(3) != null ? "의" + citation.group(3) : "");
+			Optional<SearchResult> found = consultationSearchService.findLawArticle(citation.group(1), article);
+			if (found.isPresent()) {
+				results.add(found.get());
+				remaining = remaining.replace(citation.group(0), " ");
+			}
+		}
+
+		String ypCandidates = ARTICLE_ONLY.matcher(query).replaceAll(" ");
+		for (String documentNumber : parserService.findYpReferences(ypCandidates)) {
+			List<SearchResult> found = consultationSearchService.findYpByDocumentNumber(documentNumber);
+			if (!found.isEmpty()) {
+				results.addAll(found);
+				remaining = removeYpReference(remaining, documentNumber);
+			}
+		}
+		if (!results.isEmpty()) {
+			log.info("SearchTool: 정확한 참조 직접 조회 - {}건, 남은 질문: {}", results.size(), remaining.trim());
+		}
+		return new ExactReferences(results, remaining.trim());
+	}
+
+	/**
+	 * 질문에서 예규·판례 번호 제거 (질문에는 "조심 2018전1149"처럼 공백이 들어 있을 수 있음)
+	 */
+	static String removeYpReference(String text, String documentNumber) {
+		StringBuilder pattern = new StringBuilder();
+		for (int i = 0; i < documentNumber.length(); i++) {
+			if (i > 0) {
+				pattern.append("\\s*");
+			}
+			pattern.append(Pattern.quote(String.valueOf(documentNumber.charAt(i))));
+		}
+		return text.replaceAll(":?" + pattern, " ");
+	}
+
+	/**
+	 * 검색어로 의미가 있는 문자(한글·영문·숫자) 수
+	 */
+	private static int countSearchableChars(String text) {
+		int count = 0;
+		for (int i = 0; i < text.length(); i++) {
+			if (Character.isLetterOrDigit(text.charAt(i))) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 정확한 참조 결과를 앞에 두고, 벡터 검색 결과 중 같은 조문·예규·판례는 제외하고 이어 붙임
+	 */
+	private static List<SearchResult> withExactResults(List<SearchResult> exactResults,
+			List<SearchResult> searchResults) {
+		Set<String> exactKeys = new HashSet<>();
+		for (SearchResult result : exactResults) {
+			exactKeys.add(referenceKey(result));
+		}
+		List<SearchResult> merged = new ArrayList<>(exactResults);
+		for (SearchResult result : searchResults) {
+			String key = referenceKey(result);
+			if (key == null || !exactKeys.contains(key)) {
+				merged.add(result);
+			}
+		}
+		return merged;
+	}
+
+	private static String referenceKey(SearchResult result) {
+		if ("yp".equals(result.getDocumentType())) {
+			return result.getYpId() != null ? "yp:" + result.getYpId() : null;
+		}
+		if ("lawArticle".equals(result.getDocumentType()) && result.getLawArticles() != null
+				&& !result.getLawArticles().isEmpty()) {
+			return "lawArticle:" + lawArticleKey(result.getLawArticles().get(0));
+		}
+		return null;
+	}
+
+	/**
+	 * 정확한 참조 직접 조회 결과와 참조 표기를 제거한 남은 질문
+	 */
+	private record ExactReferences(List<SearchResult> results, String remainingQuery) {
+		static final ExactReferences NONE = new ExactReferences(List.of(), "");
+	}
+
+	/**
+	 * 검색 결과를 LLM에 전달 가능한 형태로 포맷팅 (RetrievalNode 사전 검색에서도 사용)
 	 * 
-	 * @param query   검색 쿼리
-	 * @param results 검색 결과 리스트
+	 * @param query         검색 쿼리
+	 * @param searchResults 검색 결과 리스트 (패킹 전)
 	 * @return 포맷팅된 검색 결과 문자열
 	 */
-	private String formatSearchResults(String query, List<SearchResult> results) {
+	public String formatSearchResults(String query, List<SearchResult> searchResults) {
+		// 순위화 + 근사 중복 제거 + 토큰 예산 (항목 비용은 실제 렌더링 텍스트 기준)
+		List<SearchResult> results = contextPacker.pack(searchResults, result -> {
+			StringBuilder entry = new StringBuilder();
+			formatSearchResult(entry, 0, result, "counsel".equals(result.getDocumentType()), Set.of());
+			return tokenEstimator.estimate(entry);
+		});
+
 		StringBuilder sb = new StringBuilder();
 		sb.append("검색어: ").append(query).append("\n");
 		sb.append("검색 결과 (").append(results.size()).append("건):\n\n");
@@ -110,12 +284,19 @@ public class SearchTool {
 		List<SearchResult> ypResults = results.stream()
 				.filter(r -> "yp".equals(r.getDocumentType()))
 				.toList();
+		// 법령 조문 결과로 이미 포함된 조문은 상담 결과의 연관 법령에서 내용을 반복하지 않음
+		Set<String> includedLawArticles = new HashSet<>();
+		for (SearchResult result : lawArticleResults) {
+			if (result.getLawArticles() != null && !result.getLawArticles().isEmpty()) {
+				includedLawArticles.add(lawArticleKey(result.getLawArticles().get(0)));
+			}
+		}
 
 		if (!counselResults.isEmpty()) {
 			sb.append("=== 상담 사례 (").append(counselResults.size()).append("건) ===\n\n");
 			for (int i = 0; i < counselResults.size(); i++) {
 				SearchResult result = counselResults.get(i);
-				formatSearchResult(sb, i + 1, result, true);
+				formatSearchResult(sb, i + 1, result, true, includedLawArticles);
 			}
 		}
 
@@ -123,7 +304,7 @@ public class SearchTool {
 			sb.append("\n=== 법령 조문 (").append(lawArticleResults.size()).append("건) ===\n\n");
 			for (int i = 0; i < lawArticleResults.size(); i++) {
 				SearchResult result = lawArticleResults.get(i);
-				formatSearchResult(sb, i + 1, result, false);
+				formatSearchResult(sb, i + 1, result, false, includedLawArticles);
 			}
 		}
 
@@ -131,7 +312,7 @@ public class SearchTool {
 			sb.append("\n=== 예규·판례 (").append(ypResults.size()).append("건) ===\n\n");
 			for (int i = 0; i < ypResults.size(); i++) {
 				SearchResult result = ypResults.get(i);
-				formatSearchResult(sb, i + 1, result, false);
+				formatSearchResult(sb, i + 1, result, false, includedLawArticles);
 			}
 		}
 
@@ -140,6 +321,15 @@ public class SearchTool {
 		return sb.toString();
 	}
 
+	/**
+	 * 검색 결과를 현재 세션의 관련 자료로 저장 (LLM 응답 아래 링크용, RetrievalNode 사전 검색에서도 사용)
+	 * 
+	 * @param results 검색 결과 리스트
+	 */
+	public void publishRelatedReferences(List<SearchResult> results) {
+		relatedReferencesHolder.setRefs(toRelatedReferences(results));
+	}
+
 	/**
 	 * 검색 결과를 관련 자료 참조 목록으로 변환 (documentType + id 기반 URL)
 	 */
@@ -205,8 +395,10 @@ public class SearchTool {
 	 * @param index     결과 인덱스
 	 * @param result    검색 결과
 	 * @param isCounsel 상담 결과 여부
+	 * @param includedLawArticles 법령 조문 결과로 포함된 조문 키 (연관 법령 내용 생략 대상)
 	 */
-	private void formatSearchResult(StringBuilder sb, int index, SearchResult result, boolean isCounsel) {
+	private void formatSearchResult(StringBuilder sb, int index, SearchResult result, boolean isCounsel,
+			Set<String> includedLawArticles) {
 		// 상담 결과인 경우 링크 추가
 		if (isCounsel && result.getCounselId() != null) {
 			String link = BASE_URL + PATH_COUNSEL_DETAIL + "?id=" + result.getCounselId();
@@ -250,8 +442,9 @@ public class SearchTool {
 				}
 				sb.append("\n");
 
-				// 조문 내용 추가 (너무 길면 잘라서 표시)
-				if (lawArticle.getArticleContent() != null) {
+				// 조문 내용 추가 (너무 길면 잘라서 표시, 법령 조문 결과에 이미 있으면 생략)
+				if (lawArticle.getArticleContent() != null
+						&& !includedLawArticles.contains(lawArticleKey(lawArticle))) {
 					String articleContent = lawArticle.getArticleContent();
 					if (articleContent.length() > 300) {
 						articleContent = articleContent.substring(0, 300) + "...";
@@ -272,6 +465,10 @@ public class SearchTool {
 		sb.append("\n");
 	}
 
+	private static String lawArticleKey(SearchResult.LawArticleInfo info) {
+		return info.getLawId() + ":" + info.getArticleKey();
+	}
+
 	/**
 	 * 상담 데이터를 벡터 검색합니다 (결과 수 지정 가능)
 	 * 
@@ -293,7 +490,9 @@ public class SearchTool {
 			log.info("SearchTool: 벡터 검색 시작 - {}, topK: {}", query, limit);
 
 			// 벡터 검색 수행
-			List<SearchResult> results = consultationSearchService.search(query, limit, 0.6);
+			String searchQuery = query;
+			List<SearchResult> results = agentTracing.stage("tool.search-with-limit",
+					() -> consultationSearchService.search(searchQuery, limit, 0.6));
 
 			if (results.isEmpty()) {
 				log.warn("SearchTool: 검색 결과가 없습니다 - {}", query);
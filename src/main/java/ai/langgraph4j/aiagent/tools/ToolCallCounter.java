@@ -0,0 +1,59 @@
+package ai.langgraph4j.aiagent.tools;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tool 실행 횟수 카운터 (프로세스 전체 누적)
+ * Spring AI 내부 Tool 호출 루프는 최종 응답만 돌려주므로, LLM 호출 전후 값을 비교해 그 사이 Tool이 실행됐는지 확인합니다.
+ * 동시 요청의 Tool 실행도 함께 세므로 "변화 없음"일 때만 단일 라운드 응답으로 확실히 판단할 수 있습니다.
+ */
+@Component
+public class ToolCallCounter {
+
+	private final AtomicLong count = new AtomicLong();
+
+	/**
+	 * 현재까지 실행된 Tool 호출 수
+	 */
+	public long count() {
+		return count.get();
+	}
+
+	/**
+	 * 실행 시 카운터를 증가시키는 ToolCallback으로 감쌈
+	 */
+	public ToolCallback counting(ToolCallback delegate) {
+		return new CountingToolCallback(delegate, count);
+	}
+
+	private record CountingToolCallback(ToolCallback delegate, AtomicLong count) implements ToolCallback {
+
+		@Override
+		public ToolDefinition getToolDefinition() {
+			return delegate.getToolDefinition();
+		}
+
+		@Override
+		public ToolMetadata getToolMetadata() {
+			return delegate.getToolMetadata();
+		}
+
+		@Override
+		public String call(String toolInput) {
+			count.incrementAndGet();
+			return delegate.call(toolInput);
+		}
+
+		@Override
+		public String call(String toolInput, ToolContext toolContext) {
+			count.incrementAndGet();
+			return delegate.call(toolInput, toolContext);
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package ai.langgraph4j.aiagent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import ai.langgraph4j.aiagent.config.JpaConfig;
+import ai.langgraph4j.aiagent.repository.ChatMessageRepository;
+import ai.langgraph4j.aiagent.repository.ChatSessionRepository;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ChatSessionPersistenceService DB 연동 테스트 (PostgreSQL 컨테이너, Docker가 없으면 건너뜀)
+ * 한 세션에 동시에 persistTurn을 호출해도 sequence_order가 중복·누락 없이 0부터 연속되는지,
+ * 같은 스레드(같은 대화 흐름)의 턴 순서가 유지되는지 동기 저장과 write-behind 모드에서 확인합니다.
+ * 테이블은 docs/CHAT_SESSION_TABLE_SETUP.sql로 생성합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql("file:docs/CHAT_SESSION_TABLE_SETUP.sql")
+class ChatSessionPersistenceServiceTests {
+
+	private static final int THREADS = 8;
+	private static final int TURNS_PER_THREAD = 25;
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	ChatSessionRepository chatSessionRepository;
+
+	@Autowired
+	ChatMessageRepository chatMessageRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Test
+	void concurrentTurnsGetContiguousSequenceOrders() throws Exception {
+		ChatSessionPersistenceService service = newService(false);
+		service.init();
+
+		String sessionId = "sync-session";
+		persistConcurrently(service, sessionId);
+
+		assertContiguous(sessionId, THREADS * TURNS_PER_THREAD);
+	}
+
+	@Test
+	void concurrentTurnsGetContiguousSequenceOrdersWithWriteBehind() throws Exception {
+		ChatSessionPersistenceService service = newService(true);
+		// 작은 큐와 대기 없는 offer로 배치 저장과 큐 초과 저장 경로를 함께 사용
+		ReflectionTestUtils.setField(service, "queueCapacity", 8);
+		ReflectionTestUtils.setField(service, "batchSize", 5);
+		ReflectionTestUtils.setField(service, "flushIntervalMs", 20L);
+		ReflectionTestUtils.setField(service, "offerTimeoutMs", 0L);
+		service.init();
+
+		String sessionId = "write-behind-session";
+		try {
+			persistConcurrently(service, sessionId);
+		} finally {
+			service.shutdown();
+		}
+
+		assertContiguous(sessionId, THREADS * TURNS_PER_THREAD);
+	}
+
+	private ChatSessionPersistenceService newService(boolean writeBehind) {
+		ChatSessionPersistenceService service = new ChatSessionPersistenceService(chatSessionRepository,
+				chatMessageRepository, jdbcTemplate, transactionManager, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(service, "persistenceEnabled", true);
+		ReflectionTestUtils.setField(service, "writeBehindEnabled", writeBehind);
+		ReflectionTestUtils.setField(service, "queueCapacity", 10000);
+		ReflectionTestUtils.setField(service, "batchSize", 200);
+		ReflectionTestUtils.setField(service, "flushIntervalMs", 200L);
+		ReflectionTestUtils.setField(service, "offerTimeoutMs", 500L);
+		return service;
+	}
+
+	/**
+	 * 스레드마다 TURNS_PER_THREAD개의 턴을 순서대로 저장 (사용자 메시지: "t{스레드}-{순번}")
+	 */
+	private void persistConcurrently(ChatSessionPersistenceService service, String sessionId) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < TURNS_PER_THREAD; i++) {
+						service.persistTurn(sessionId, UserMessage.from("t" + thread + "-" + i),
+								AiMessage.from("answer t" + thread + "-" + i));
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private void assertContiguous(String sessionId, int expectedTurns) {
+		List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+				SELECT m.sequence_order, m.role, m.content FROM chat_message m
+				JOIN chat_session s ON s.id = m.chat_session_id
+				WHERE s.session_id = ?
+				ORDER BY m.sequence_order
+				""", sessionId);
+		int expectedMessages = expectedTurns * 2;
+
+		// 중복·누락 없이 0부터 연속
+		assertThat(rows).extracting(row -> ((Number) row.get("sequence_order")).intValue())
+				.containsExactlyElementsOf(IntStream.range(0, expectedMessages).boxed().toList());
+		assertThat(jdbcTemplate.queryForObject("SELECT message_count FROM chat_session WHERE session_id = ?",
+				Integer.class, sessionId)).isEqualTo(expectedMessages);
+
+		// 한 턴의 질문과 답변은 붙어 있고, 같은 스레드의 턴은 저장 요청 순서대로
+		Map<String, Integer> lastTurnByThread = new HashMap<>();
+		for (int i = 0; i < rows.size(); i += 2) {
+			String question = (String) rows.get(i).get("content");
+			assertThat(rows.get(i).get("role")).isEqualTo("USER");
+			assertThat(rows.get(i + 1).get("role")).isEqualTo("AI");
+			assertThat(rows.get(i + 1).get("content")).isEqualTo("answer " + question);
+			if (question.startsWith("t")) {
+				String[] parts = question.substring(1).split("-");
+				int turn = Integer.parseInt(parts[1]);
+				Integer previous = lastTurnByThread.put(parts[0], turn);
+				assertThat(turn).isEqualTo(previous == null ? 0 : previous + 1);
+			}
+		}
+	}
+}
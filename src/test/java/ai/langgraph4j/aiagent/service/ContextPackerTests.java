@@ -0,0 +1,105 @@
+package ai.langgraph4j.aiagent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ai.langgraph4j.aiagent.service.dto.SearchResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ContextPacker 단위 테스트 (근사 중복 제거, 토큰 예산, 최소 1건 유지)
+ */
+class ContextPackerTests {
+
+	private static final String TRANSFER_TAX = "1세대 1주택 비과세는 양도일 현재 국내에 1주택을 보유한 1세대가 해당 주택을 2년 이상 보유한 경우에 적용됩니다. "
+			+ "조정대상지역에서 취득한 주택은 보유기간 중 2년 이상 거주해야 하며, 고가주택은 양도가액 12억원 초과분에 대해서만 과세됩니다";
+	private static final String VAT_EXEMPTION = "미가공 식료품, 의료보건 용역, 교육 용역 등은 부가가치세가 면제됩니다. "
+			+ "면세사업자는 매입세액을 공제받을 수 없습니다.";
+	private static final String INCOME_TAX_FILING = "종합소득세는 다음 연도 5월 1일부터 5월 31일까지 신고·납부하여야 하며, "
+			+ "성실신고확인대상자는 6월 30일까지입니다.";
+
+	private ContextPacker packer;
+
+	@BeforeEach
+	void setUp() {
+		SearchReranker reranker = new SearchReranker();
+		ReflectionTestUtils.setField(reranker, "strategyName", "none");
+		reranker.init();
+
+		packer = new ContextPacker(new SimpleMeterRegistry(), reranker);
+		ReflectionTestUtils.setField(packer, "enabled", true);
+		ReflectionTestUtils.setField(packer, "maxTokens", 4000);
+		ReflectionTestUtils.setField(packer, "simhashMaxDistance", 3);
+		ReflectionTestUtils.setField(packer, "minPerType", 1);
+	}
+
+	@Test
+	void nearDuplicateIsDropped() {
+		SearchResult original = result("양도소득세 비과세 요건", TRANSFER_TAX, 0.9);
+		// 같은 청크가 다른 브랜치에서 문장부호만 달리 들어온 경우
+		SearchResult nearDuplicate = result("양도소득세 비과세 요건", TRANSFER_TAX + ".", 0.8);
+
+		List<SearchResult> packed = packer.pack(List.of(original, nearDuplicate), r -> 100);
+
+		assertThat(packed).containsExactly(original);
+	}
+
+	@Test
+	void distinctResultsAreKept() {
+		SearchResult transfer = result("양도소득세 비과세 요건", TRANSFER_TAX, 0.9);
+		SearchResult vat = result("부가가치세 면세 대상", VAT_EXEMPTION, 0.8);
+		SearchResult filing = result("종합소득세 신고 기한", INCOME_TAX_FILING, 0.7);
+
+		List<SearchResult> packed = packer.pack(List.of(transfer, vat, filing), r -> 100);
+
+		assertThat(packed).containsExactly(transfer, vat, filing);
+	}
+
+	@Test
+	void budgetIsRespected() {
+		ReflectionTestUtils.setField(packer, "maxTokens", 250);
+		SearchResult transfer = result("양도소득세 비과세 요건", TRANSFER_TAX, 0.9);
+		SearchResult vat = result("부가가치세 면세 대상", VAT_EXEMPTION, 0.8);
+		SearchResult filing = result("종합소득세 신고 기한", INCOME_TAX_FILING, 0.7);
+
+		List<SearchResult> packed = packer.pack(List.of(filing, vat, transfer), r -> 100);
+
+		// 유사도 순으로 예산(250) 안에 드는 2건만 선택
+		assertThat(packed).containsExactly(transfer, vat);
+	}
+
+	@Test
+	void atLeastOneResultIsKeptWhenItExceedsBudget() {
+		ReflectionTestUtils.setField(packer, "maxTokens", 10);
+		SearchResult transfer = result("양도소득세 비과세 요건", TRANSFER_TAX, 0.9);
+		SearchResult vat = result("부가가치세 면세 대상", VAT_EXEMPTION, 0.8);
+
+		List<SearchResult> packed = packer.pack(List.of(vat, transfer), r -> 100);
+
+		assertThat(packed).containsExactly(transfer);
+	}
+
+	@Test
+	void emptyResultsAreNotTreatedAsDuplicates() {
+		SearchResult first = result(null, null, 0.9);
+		SearchResult second = result("", " ", 0.8);
+
+		List<SearchResult> packed = packer.pack(List.of(first, second), r -> 10);
+
+		assertThat(packed).containsExactly(first, second);
+	}
+
+	private static SearchResult result(String title, String content, double similarity) {
+		return SearchResult.builder()
+				.title(title)
+				.content(content)
+				.documentType("counsel")
+				.similarityScore(similarity)
+				.build();
+	}
+}
@@ -0,0 +1,132 @@
+package ai.langgraph4j.aiagent.service.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import ai.langgraph4j.aiagent.service.dto.AgentStateDto;
+import ai.langgraph4j.aiagent.service.dto.MessageDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SessionSerializer 단위 테스트 (코덱별 왕복, 압축, 헤더 없는 이전 JSON 읽기)
+ */
+class SessionSerializerTests {
+
+	/** 헤더와 tokens 필드가 도입되기 전 노드가 저장한 세션 값 (messages에 히스토리 포함) */
+	private static final String LEGACY_STATE_JSON = """
+			{"userMessage":{"type":"USER","text":"1세대 1주택 비과세 요건은?"},\
+			"aiMessage":{"type":"AI","text":"2년 이상 보유한 경우입니다."},\
+			"toolExecutionRequests":[],"toolExecutionResults":[],\
+			"messages":[{"type":"USER","text":"1세대 1주택 비과세 요건은?"},{"type":"AI","text":"2년 이상 보유한 경우입니다."}],\
+			"currentStep":"llm","iterationCount":1,"sessionId":"legacy-session","error":null,\
+			"metadata":{},"systemInstruction":null}""";
+
+	private static final String LEGACY_MESSAGE_JSON = "{\"type\":\"AI\",\"text\":\"2년 이상 보유한 경우입니다.\"}";
+
+	@ParameterizedTest
+	@ValueSource(strings = { "json", "smile" })
+	void stateAndMessageRoundTrip(String codec) throws IOException {
+		SessionSerializer serializer = newSerializer(codec, 2048);
+		AgentStateDto state = state();
+		MessageDto message = new MessageDto("AI", "2년 이상 보유한 경우입니다.", 12);
+
+		byte[] stateBytes = serializer.serialize(state, "state");
+		byte[] messageBytes = serializer.serialize(message, "message");
+
+		assertThat(stateBytes[0]).isEqualTo(SessionSerializer.MAGIC);
+		assertThat(stateBytes[1]).isEqualTo(codec.equals("json") ? JsonSessionCodec.ID : SmileSessionCodec.ID);
+		assertThat(stateBytes[2]).isZero();
+		assertThat(serializer.deserialize(stateBytes, AgentStateDto.class)).isEqualTo(state);
+		assertThat(serializer.deserialize(messageBytes, MessageDto.class)).isEqualTo(message);
+	}
+
+	@Test
+	void bodyOverThresholdIsCompressed() throws IOException {
+		SessionSerializer serializer = newSerializer("smile", 64);
+		MessageDto message = new MessageDto("AI", "양도소득세 비과세 요건을 설명드리겠습니다. ".repeat(50), 900);
+
+		byte[] bytes = serializer.serialize(message, "message");
+
+		assertThat(bytes[2] & SessionSerializer.FLAG_DEFLATE).isEqualTo(SessionSerializer.FLAG_DEFLATE);
+		assertThat(bytes.length).isLessThan(message.getText().getBytes(StandardCharsets.UTF_8).length);
+		assertThat(serializer.deserialize(bytes, MessageDto.class)).isEqualTo(message);
+	}
+
+	@Test
+	void legacyWriteKeepsHeaderlessJson() throws IOException {
+		SessionSerializer serializer = newSerializer("legacy", 64);
+		MessageDto message = new MessageDto("USER", "종합소득세 신고 기한은?");
+
+		byte[] bytes = serializer.serialize(message, "message");
+
+		// 헤더 없이 JSON 본문만 저장 (이전 버전 노드가 읽을 수 있는 형식)
+		assertThat(bytes[0]).isEqualTo((byte) '{');
+		assertThat(serializer.deserialize(bytes, MessageDto.class)).isEqualTo(message);
+	}
+
+	@Test
+	void readsLegacyJsonWrittenBeforeHeaders() throws IOException {
+		// 쓰기 코덱과 관계없이 헤더 없는 값은 JSON으로 읽음
+		SessionSerializer serializer = newSerializer("smile", 2048);
+
+		AgentStateDto state = serializer.deserialize(LEGACY_STATE_JSON.getBytes(StandardCharsets.UTF_8),
+				AgentStateDto.class);
+		MessageDto message = serializer.deserialize(LEGACY_MESSAGE_JSON.getBytes(StandardCharsets.UTF_8),
+				MessageDto.class);
+
+		assertThat(state.getSessionId()).isEqualTo("legacy-session");
+		assertThat(state.getCurrentStep()).isEqualTo("llm");
+		assertThat(state.getIterationCount()).isEqualTo(1);
+		assertThat(state.getUserMessage()).isEqualTo(new MessageDto("USER", "1세대 1주택 비과세 요건은?"));
+		assertThat(state.getMessages()).hasSize(2);
+		assertThat(message).isEqualTo(new MessageDto("AI", "2년 이상 보유한 경우입니다."));
+		assertThat(message.getTokens()).isNull();
+	}
+
+	@Test
+	void unknownCodecIdIsRejected() {
+		SessionSerializer serializer = newSerializer("json", 2048);
+		byte[] bytes = { SessionSerializer.MAGIC, 9, 0, '{', '}' };
+
+		assertThatThrownBy(() -> serializer.deserialize(bytes, MessageDto.class))
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining("Unknown session codec id");
+	}
+
+	private static SessionSerializer newSerializer(String writeCodec, int compressThreshold) {
+		// Spring Boot 기본 ObjectMapper처럼 알 수 없는 필드는 무시
+		JsonSessionCodec json = new JsonSessionCodec(JsonMapper.builder()
+				.findAndAddModules()
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				.build());
+		SessionSerializer serializer = new SessionSerializer(List.of(json, new SmileSessionCodec()), json,
+				new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(serializer, "writeCodecName", writeCodec);
+		ReflectionTestUtils.setField(serializer, "compressThreshold", compressThreshold);
+		serializer.init();
+		return serializer;
+	}
+
+	private static AgentStateDto state() {
+		AgentStateDto state = new AgentStateDto();
+		state.setSessionId("session-1");
+		state.setCurrentStep("llm");
+		state.setIterationCount(1);
+		state.setSystemInstruction("세무 상담 답변은 근거 조문을 함께 제시합니다.");
+		state.setUserMessage(new MessageDto("USER", "1세대 1주택 비과세 요건은?"));
+		state.setAiMessage(new MessageDto("AI", "2년 이상 보유한 경우입니다."));
+		return state;
+	}
+}
@@ -0,0 +1,81 @@
+package ai.langgraph4j.aiagent.tools;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.regex.Matcher;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * SearchTool 정확한 참조 탐지 단위 테스트 (법령 인용 / 조문 표기 정규식, 예규·판례 번호 제거)
+ */
+class SearchToolTests {
+
+	@Test
+	void lawCitationWithSubArticle() {
+		Matcher matcher = SearchTool.LAW_CITATION.matcher("소득세법 시행령 제154조의2 적용 요건은?");
+
+		assertThat(matcher.find()).isTrue();
+		assertThat(matcher.group(1)).isEqualTo("소득세법 시행령");
+		assertThat(matcher.group(2)).isEqualTo("154");
+		assertThat(matcher.group(3)).isEqualTo("2");
+	}
+
+	@Test
+	void lawCitationWithParagraphStopsAtArticle() {
+		Matcher matcher = SearchTool.LAW_CITATION.matcher("소득세법 제89조 제1항 제3호의 비과세");
+
+		assertThat(matcher.find()).isTrue();
+		assertThat(matcher.group(0)).isEqualTo("소득세법 제89조");
+		assertThat(matcher.group(1)).isEqualTo("소득세법");
+		assertThat(matcher.group(2)).isEqualTo("89");
+		assertThat(matcher.group(3)).isNull();
+	}
+
+	@Test
+	void lawCitationAllowsSpaces() {
+		Matcher matcher = SearchTool.LAW_CITATION.matcher("부가가치세법 제 26 조 의 1");
+
+		assertThat(matcher.find()).isTrue();
+		assertThat(matcher.group(1)).isEqualTo("부가가치세법");
+		assertThat(matcher.group(2)).isEqualTo("26");
+		assertThat(matcher.group(3)).isEqualTo("1");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "제10조", "10조의2", "제 10 조 의 2", "제89조 제1항" })
+	void articleOnlyMatchesArticleNotation(String text) {
+		assertThat(SearchTool.ARTICLE_ONLY.matcher(text).find()).isTrue();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "2018년 3월 10일 양도", "양도가액 12억원 초과분", "1세대 1주택 2년 보유", "세율 10%",
+			"조심2018전1149" })
+	void plainNumbersAreNotCitations(String text) {
+		assertThat(SearchTool.LAW_CITATION.matcher(text).find()).isFalse();
+		assertThat(SearchTool.ARTICLE_ONLY.matcher(text).find()).isFalse();
+	}
+
+	@Test
+	void ypReferenceIsRemoved() {
+		String remaining = SearchTool.removeYpReference("조심2018전1149 결정 요지", "조심2018전1149");
+
+		assertThat(remaining.trim()).isEqualTo("결정 요지");
+	}
+
+	@Test
+	void ypReferenceWithSpacesIsRemoved() {
+		String remaining = SearchTool.removeYpReference("조심 2018전 1149 결정 요지", "조심2018전1149");
+
+		assertThat(remaining.trim()).isEqualTo("결정 요지");
+	}
+
+	@Test
+	void otherYpReferencesAreKept() {
+		String remaining = SearchTool.removeYpReference("조심2018전1149와 조심2019전2000 비교", "조심2018전1149");
+
+		assertThat(remaining).doesNotContain("2018전1149").contains("조심2019전2000 비교");
+	}
+}